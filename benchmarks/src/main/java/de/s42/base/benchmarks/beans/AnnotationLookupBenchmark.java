@@ -0,0 +1,166 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.benchmarks.beans;
+
+import de.s42.base.beans.AnnotationSet;
+import de.s42.base.beans.BeanHelper;
+import de.s42.base.beans.BeanInfo;
+import de.s42.base.beans.BeanProperty;
+import de.s42.base.beans.InvalidBean;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the annotation lookups of all properties of a bean - like a validation layer does it for each object.
+ *
+ * @author Benjamin Schiller
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnnotationLookupBenchmark
+{
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.FIELD, ElementType.METHOD})
+	public static @interface Required
+	{
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.FIELD, ElementType.METHOD})
+	public static @interface MaxLength
+	{
+
+		int value();
+	}
+
+	public static class AnnotatedBean
+	{
+
+		@Required
+		public String id;
+		@MaxLength(64)
+		public String title;
+		public int count;
+		protected String name;
+		protected String description;
+
+		@Required
+		@MaxLength(32)
+		public String getName()
+		{
+			return name;
+		}
+
+		public void setName(String name)
+		{
+			this.name = name;
+		}
+
+		public String getDescription()
+		{
+			return description;
+		}
+
+		@MaxLength(1024)
+		public void setDescription(String description)
+		{
+			this.description = description;
+		}
+	}
+
+	protected BeanProperty[] properties;
+	protected AnnotationSet validated = AnnotationSet.of(Required.class, MaxLength.class);
+
+	@Setup
+	public void setup() throws InvalidBean
+	{
+		BeanInfo<AnnotatedBean> info = BeanHelper.getBeanInfo(AnnotatedBean.class);
+		properties = info.getIndexedProperties().toArray(BeanProperty[]::new);
+	}
+
+	@Benchmark
+	public int isAnnotationPresent()
+	{
+		int count = 0;
+
+		for (BeanProperty property : properties) {
+			if (property.isAnnotationPresent(Required.class)) {
+				++count;
+			}
+		}
+
+		return count;
+	}
+
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public int getAnnotation()
+	{
+		int length = 0;
+
+		for (BeanProperty<?, ?> property : properties) {
+			Optional<MaxLength> maxLength = property.getAnnotation(MaxLength.class);
+			if (maxLength.isPresent()) {
+				length += maxLength.get().value();
+			}
+		}
+
+		return length;
+	}
+
+	@Benchmark
+	public int isAnyAnnotationPresent()
+	{
+		int count = 0;
+
+		for (BeanProperty property : properties) {
+			if (property.isAnyAnnotationPresent(validated)) {
+				++count;
+			}
+		}
+
+		return count;
+	}
+}
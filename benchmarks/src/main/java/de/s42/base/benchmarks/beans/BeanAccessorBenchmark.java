@@ -0,0 +1,118 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.benchmarks.beans;
+
+import de.s42.base.beans.BeanAccessor;
+import de.s42.base.beans.BeanHelper;
+import de.s42.base.beans.BeanInfo;
+import de.s42.base.beans.BeanProperty;
+import de.s42.base.beans.InvalidBean;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads all properties of a bean by name, by index and with readAll - with a generated and with the property based
+ * accessor.
+ *
+ * @author Benjamin Schiller
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BeanAccessorBenchmark
+{
+
+	@Param({"false", "true"})
+	public boolean generated;
+
+	protected SampleBean bean;
+	protected BeanInfo<SampleBean> info;
+	protected BeanAccessor<SampleBean> accessor;
+	protected String[] names;
+	protected Object[] values;
+
+	@Setup
+	public void setup() throws InvalidBean
+	{
+		BeanHelper.setGenerateAccessors(generated);
+
+		bean = SampleBean.create();
+		info = new BeanInfo<>(SampleBean.class);
+		accessor = info.getAccessor();
+		names = info.getIndexedProperties().stream().map(BeanProperty::getName).toArray(String[]::new);
+		values = new Object[names.length];
+		accessor.readAll(bean, values);
+
+		if (generated != accessor.getClass().isHidden()) {
+			throw new IllegalStateException("Accessor of " + SampleBean.class.getName() + " could not be generated");
+		}
+	}
+
+	@Benchmark
+	public Object[] readAllByName() throws InvalidBean
+	{
+		for (int i = 0; i < names.length; ++i) {
+			values[i] = info.read(bean, names[i]);
+		}
+		return values;
+	}
+
+	@Benchmark
+	public Object[] readAllByIndex() throws InvalidBean
+	{
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = accessor.read(bean, i);
+		}
+		return values;
+	}
+
+	@Benchmark
+	public Object[] readAll() throws InvalidBean
+	{
+		accessor.readAll(bean, values);
+		return values;
+	}
+
+	@Benchmark
+	public SampleBean writeAll() throws InvalidBean
+	{
+		accessor.writeAll(bean, values);
+		return bean;
+	}
+}
@@ -0,0 +1,125 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.benchmarks.beans;
+
+import de.s42.base.beans.BeanDiff;
+import de.s42.base.beans.BeanHelper;
+import de.s42.base.beans.BeanInfo;
+import de.s42.base.beans.BeanProperty;
+import de.s42.base.beans.InvalidBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures finding the changed properties of a bean against a snapshot - BeanDiff against comparing a map of the
+ * previous values with BeanInfo.read by name.
+ *
+ * @author Benjamin Schiller
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanDiffBenchmark
+{
+
+	protected SampleBean bean;
+	protected BeanInfo<SampleBean> info;
+	protected BeanDiff<SampleBean> diff;
+	protected Object[] snapshot;
+	protected Map<String, Object> previous;
+
+	@Setup
+	public void setup() throws InvalidBean
+	{
+		bean = new SampleBean();
+		bean.count = 42;
+		bean.setName("Sample");
+		bean.setId(123456789L);
+		bean.setPrice(12.5);
+		bean.setTags(List.of("a", "b"));
+
+		info = BeanHelper.getBeanInfo(SampleBean.class);
+		diff = info.getDiff();
+		snapshot = diff.snapshot(bean);
+		previous = new HashMap<>();
+		for (BeanProperty<SampleBean, ?> property : info.getReadProperties()) {
+			if (!"class".equals(property.getName())) {
+				previous.put(property.getName(), property.read(bean));
+			}
+		}
+
+		bean.setName("Changed");
+	}
+
+	@Benchmark
+	public int[] diff() throws InvalidBean
+	{
+		return diff.changedIndices(snapshot, bean);
+	}
+
+	@Benchmark
+	public boolean diffIsChanged() throws InvalidBean
+	{
+		return diff.isChanged(snapshot, bean);
+	}
+
+	@Benchmark
+	public Object[] diffSnapshot() throws InvalidBean
+	{
+		return diff.snapshot(bean);
+	}
+
+	@Benchmark
+	public List<String> readByName() throws InvalidBean
+	{
+		List<String> changed = new ArrayList<>();
+
+		for (Map.Entry<String, Object> entry : previous.entrySet()) {
+			if (!Objects.equals(entry.getValue(), info.read(bean, entry.getKey()))) {
+				changed.add(entry.getKey());
+			}
+		}
+
+		return changed;
+	}
+}
@@ -0,0 +1,150 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.benchmarks.beans;
+
+import de.s42.base.beans.BeanHelper;
+import de.s42.base.beans.BeanInfo;
+import de.s42.base.beans.BeanMapper;
+import de.s42.base.beans.BeanProperty;
+import de.s42.base.beans.InvalidBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures copying a DTO with string values into a typed bean - BeanMapper against reading each property and writing
+ * it with BeanInfo.writeConverted.
+ *
+ * @author Benjamin Schiller
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanMapperBenchmark
+{
+
+	public static class SampleDto
+	{
+
+		public String count;
+		protected String name;
+		protected String id;
+		protected String price;
+		protected List<String> tags;
+
+		public String getName()
+		{
+			return name;
+		}
+
+		public void setName(String name)
+		{
+			this.name = name;
+		}
+
+		public String getId()
+		{
+			return id;
+		}
+
+		public void setId(String id)
+		{
+			this.id = id;
+		}
+
+		public String getPrice()
+		{
+			return price;
+		}
+
+		public void setPrice(String price)
+		{
+			this.price = price;
+		}
+
+		public List<String> getTags()
+		{
+			return tags;
+		}
+
+		public void setTags(List<String> tags)
+		{
+			this.tags = tags;
+		}
+	}
+
+	protected SampleDto dto;
+	protected BeanMapper<SampleDto, SampleBean> mapper;
+	protected BeanInfo<SampleDto> dtoInfo;
+	protected BeanInfo<SampleBean> beanInfo;
+
+	@Setup
+	public void setup() throws InvalidBean
+	{
+		dto = new SampleDto();
+		dto.count = "42";
+		dto.setName("Sample");
+		dto.setId("123456789");
+		dto.setPrice("12.5");
+		dto.setTags(List.of("a", "b"));
+
+		mapper = new BeanMapper<>(SampleDto.class, SampleBean.class);
+		dtoInfo = BeanHelper.getBeanInfo(SampleDto.class);
+		beanInfo = BeanHelper.getBeanInfo(SampleBean.class);
+	}
+
+	@Benchmark
+	public SampleBean mapper() throws InvalidBean
+	{
+		return mapper.map(dto);
+	}
+
+	@Benchmark
+	public SampleBean readWriteConverted() throws InvalidBean
+	{
+		SampleBean bean = beanInfo.newInstance();
+
+		for (BeanProperty<SampleDto, ?> property : dtoInfo.getReadProperties()) {
+			if (beanInfo.hasWriteProperty(property.getName())) {
+				beanInfo.writeConverted(bean, property.getName(), property.read(dto));
+			}
+		}
+
+		return bean;
+	}
+}
@@ -0,0 +1,122 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.benchmarks.beans;
+
+import de.s42.base.beans.BeanHelper;
+import de.s42.base.beans.BeanInfo;
+import de.s42.base.beans.BeanProperty;
+import de.s42.base.beans.InvalidBean;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures BeanProperty.read and write for getter/setter and public field properties against direct access and
+ * BeanInfo.read/write by name.
+ *
+ * @author Benjamin Schiller
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BeanPropertyBenchmark
+{
+
+	protected SampleBean bean;
+	protected BeanInfo<SampleBean> info;
+	protected BeanProperty<SampleBean, String> nameProperty;
+	protected BeanProperty<SampleBean, Integer> countProperty;
+	protected String name = "changed";
+	protected Integer count = 42;
+
+	@Setup
+	public void setup() throws InvalidBean
+	{
+		bean = SampleBean.create();
+		info = BeanHelper.getBeanInfo(SampleBean.class);
+		nameProperty = info.<String>getProperty("name").orElseThrow();
+		countProperty = info.<Integer>getProperty("count").orElseThrow();
+	}
+
+	@Benchmark
+	public String readDirect()
+	{
+		return bean.getName();
+	}
+
+	@Benchmark
+	public String readGetter() throws InvalidBean
+	{
+		return nameProperty.read(bean);
+	}
+
+	@Benchmark
+	public Integer readField() throws InvalidBean
+	{
+		return countProperty.read(bean);
+	}
+
+	@Benchmark
+	public String readByName() throws InvalidBean
+	{
+		return info.read(bean, "name");
+	}
+
+	@Benchmark
+	public void writeDirect()
+	{
+		bean.setName(name);
+	}
+
+	@Benchmark
+	public void writeSetter() throws InvalidBean
+	{
+		nameProperty.write(bean, name);
+	}
+
+	@Benchmark
+	public void writeField() throws InvalidBean
+	{
+		countProperty.write(bean, count);
+	}
+
+	@Benchmark
+	public void writeByName() throws InvalidBean
+	{
+		info.write(bean, "name", name);
+	}
+}
@@ -0,0 +1,137 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.benchmarks.conversion;
+
+import de.s42.base.conversion.ConversionHelper;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures ConversionHelper.convert for common source and target classes - registered converters, default toString
+ * conversions and the identity conversion.
+ *
+ * @author Benjamin Schiller
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConversionPairsBenchmark
+{
+
+	@Param({
+		"String>Integer",
+		"String>Long",
+		"String>Double",
+		"String>Boolean",
+		"String>UUID",
+		"String>Path",
+		"Integer>String",
+		"Long>Integer",
+		"Double>Float",
+		"UUID>String",
+		"String>String"
+	})
+	public String pair;
+
+	protected Object value;
+	protected Class targetClass;
+
+	@Setup
+	public void setup()
+	{
+		String[] classes = pair.split(">");
+
+		value = switch (classes[0]) {
+			case "String" ->
+				switch (classes[1]) {
+					case "Integer", "Long" ->
+						"123456";
+					case "Double" ->
+						"1234.5678";
+					case "Boolean" ->
+						"true";
+					case "UUID" ->
+						"8c1f6e2a-3b4d-4f5e-9a6b-7c8d9e0f1a2b";
+					case "Path" ->
+						"/tmp/base42/benchmark.txt";
+					default ->
+						"value";
+				};
+			case "Integer" ->
+				123456;
+			case "Long" ->
+				123456L;
+			case "Double" ->
+				1234.5678;
+			case "UUID" ->
+				UUID.fromString("8c1f6e2a-3b4d-4f5e-9a6b-7c8d9e0f1a2b");
+			default ->
+				throw new IllegalArgumentException("Unknown source " + classes[0]);
+		};
+
+		targetClass = switch (classes[1]) {
+			case "Integer" ->
+				Integer.class;
+			case "Long" ->
+				Long.class;
+			case "Double" ->
+				Double.class;
+			case "Float" ->
+				Float.class;
+			case "Boolean" ->
+				Boolean.class;
+			case "UUID" ->
+				UUID.class;
+			case "Path" ->
+				Path.class;
+			case "String" ->
+				String.class;
+			default ->
+				throw new IllegalArgumentException("Unknown target " + classes[1]);
+		};
+	}
+
+	@Benchmark
+	public Object convert()
+	{
+		return ConversionHelper.convert(value, targetClass);
+	}
+}
@@ -0,0 +1,93 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.benchmarks.conversion;
+
+import de.s42.base.conversion.ConversionHelper;
+import de.s42.base.conversion.Converter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares ConversionHelper.convert against a pre bound Converter handle from ConversionHelper.converterFor.
+ *
+ * @author Benjamin Schiller
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConverterBenchmark
+{
+
+	protected String intString;
+	protected Long longValue;
+	protected Converter<String, Integer> stringToInteger;
+	protected Converter<Long, Integer> longToInteger;
+
+	@Setup
+	public void setup()
+	{
+		intString = "123456";
+		longValue = 123456L;
+		stringToInteger = ConversionHelper.converterFor(String.class, Integer.class);
+		longToInteger = ConversionHelper.converterFor(Long.class, Integer.class);
+	}
+
+	@Benchmark
+	public Integer convertStringToInteger()
+	{
+		return ConversionHelper.convert(intString, Integer.class);
+	}
+
+	@Benchmark
+	public Integer converterStringToInteger()
+	{
+		return stringToInteger.convert(intString);
+	}
+
+	@Benchmark
+	public Integer convertLongToInteger()
+	{
+		return ConversionHelper.convert(longValue, Integer.class);
+	}
+
+	@Benchmark
+	public Integer converterLongToInteger()
+	{
+		return longToInteger.convert(longValue);
+	}
+}
@@ -0,0 +1,98 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.benchmarks.conversion;
+
+import de.s42.base.conversion.ConversionHelper;
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the String -> Date conversion against the former implementation (regex check and SimpleDateFormat).
+ *
+ * @author Benjamin Schiller
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateConversionBenchmark
+{
+
+	protected String timestamp = "1717958547123";
+	protected String formatted = "2022-04-14 10:12:56:789";
+
+	/**
+	 * The former converter - a SimpleDateFormat per thread as it is not thread safe
+	 */
+	protected DateFormat legacyFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss:SSS");
+
+	protected Date legacyConvert(String value) throws ParseException
+	{
+		if (value.matches("[0-9]+")) {
+			return new Date(Long.parseLong(value));
+		}
+
+		return legacyFormat.parse(value);
+	}
+
+	@Benchmark
+	public Date legacyTimestamp() throws ParseException
+	{
+		return legacyConvert(timestamp);
+	}
+
+	@Benchmark
+	public Date convertTimestamp()
+	{
+		return ConversionHelper.convert(timestamp, Date.class);
+	}
+
+	@Benchmark
+	public Date legacyFormatted() throws ParseException
+	{
+		return legacyConvert(formatted);
+	}
+
+	@Benchmark
+	public Date convertFormatted()
+	{
+		return ConversionHelper.convert(formatted, Date.class);
+	}
+}
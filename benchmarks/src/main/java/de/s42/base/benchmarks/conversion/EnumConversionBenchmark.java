@@ -0,0 +1,109 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.benchmarks.conversion;
+
+import de.s42.base.conversion.ConversionHelper;
+import de.s42.base.conversion.ConversionResult;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the enum lookup tables against Enum.valueOf and a throwing convert against tryConvert for invalid names.
+ *
+ * @author Benjamin Schiller
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EnumConversionBenchmark
+{
+
+	protected String name;
+	protected String lowerCaseName;
+	protected StringBuilder nameBuffer;
+	protected String invalidName;
+
+	@Setup
+	public void setup()
+	{
+		name = "MILLISECONDS";
+		lowerCaseName = "milliseconds";
+		nameBuffer = new StringBuilder(name);
+		invalidName = "FORTNIGHTS";
+	}
+
+	@Benchmark
+	public TimeUnit enumValueOf()
+	{
+		return Enum.valueOf(TimeUnit.class, name);
+	}
+
+	@Benchmark
+	public TimeUnit convertByName()
+	{
+		return ConversionHelper.convert(name, TimeUnit.class);
+	}
+
+	@Benchmark
+	public TimeUnit convertByCharSequence()
+	{
+		return ConversionHelper.convertToEnum(nameBuffer, TimeUnit.class);
+	}
+
+	@Benchmark
+	public TimeUnit convertIgnoringCase()
+	{
+		return ConversionHelper.convertToEnum(lowerCaseName, TimeUnit.class, true);
+	}
+
+	@Benchmark
+	public TimeUnit convertInvalid()
+	{
+		try {
+			return ConversionHelper.convert(invalidName, TimeUnit.class);
+		} catch (IllegalArgumentException ex) {
+			return null;
+		}
+	}
+
+	@Benchmark
+	public ConversionResult<TimeUnit> tryConvertInvalid()
+	{
+		return ConversionHelper.tryConvert(invalidName, TimeUnit.class);
+	}
+}
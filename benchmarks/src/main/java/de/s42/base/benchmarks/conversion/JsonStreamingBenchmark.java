@@ -0,0 +1,152 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.benchmarks.conversion;
+
+import de.s42.base.beans.BeanHelper;
+import de.s42.base.beans.BeanInfo;
+import de.s42.base.conversion.ConversionHelper;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading a list of beans via JSONArray and BeanInfo.writeConverted against streaming it from a Reader.
+ *
+ * @author Benjamin Schiller
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonStreamingBenchmark
+{
+
+	public static class Item
+	{
+
+		protected String name;
+		protected long id;
+		protected double price;
+		protected List<String> tags;
+
+		public String getName()
+		{
+			return name;
+		}
+
+		public void setName(String name)
+		{
+			this.name = name;
+		}
+
+		public long getId()
+		{
+			return id;
+		}
+
+		public void setId(long id)
+		{
+			this.id = id;
+		}
+
+		public double getPrice()
+		{
+			return price;
+		}
+
+		public void setPrice(double price)
+		{
+			this.price = price;
+		}
+
+		public List<String> getTags()
+		{
+			return tags;
+		}
+
+		public void setTags(List<String> tags)
+		{
+			this.tags = tags;
+		}
+	}
+
+	protected String json;
+	protected Type listOfItems;
+
+	@Setup
+	public void setup()
+	{
+		StringBuilder builder = new StringBuilder("[");
+		for (int i = 0; i < 1000; ++i) {
+			if (i > 0) {
+				builder.append(',');
+			}
+			builder.append("{\"name\":\"item ").append(i).append("\",\"id\":").append(i)
+				.append(",\"price\":").append(i * 0.25).append(",\"tags\":[\"a\",\"b\"]}");
+		}
+		json = builder.append(']').toString();
+		listOfItems = ConversionHelper.parameterizedType(List.class, Item.class);
+	}
+
+	@Benchmark
+	public List<Item> readViaJSONArray() throws Exception
+	{
+		BeanInfo<Item> info = BeanHelper.getBeanInfo(Item.class);
+		JSONArray array = new JSONArray(json);
+		List<Item> result = new ArrayList<>(array.length());
+		for (int i = 0; i < array.length(); ++i) {
+			JSONObject object = array.getJSONObject(i);
+			Item item = info.newInstance();
+			for (String key : object.keySet()) {
+				info.writeConverted(item, key, object.get(key));
+			}
+			result.add(item);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public List<Item> readStreaming()
+	{
+		return ConversionHelper.readJson(new StringReader(json), listOfItems);
+	}
+}
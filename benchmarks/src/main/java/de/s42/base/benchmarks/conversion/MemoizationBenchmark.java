@@ -0,0 +1,98 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.benchmarks.conversion;
+
+import de.s42.base.conversion.ConversionHelper;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares expensive converters with and without memoization for a small set of repeated values.
+ *
+ * @author Benjamin Schiller
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemoizationBenchmark
+{
+
+	@Param({"false", "true"})
+	public boolean memoized;
+
+	protected String[] patterns;
+	protected String[] uuids;
+
+	@Setup
+	public void setup()
+	{
+		patterns = new String[]{"[a-z]+", "\\d{4}-\\d{2}-\\d{2}", "^\\s*(\\w+)\\s*=\\s*(.*)$", "(?i)error|warn"};
+		uuids = new String[4];
+		for (int i = 0; i < uuids.length; ++i) {
+			uuids[i] = UUID.randomUUID().toString();
+		}
+
+		if (memoized) {
+			ConversionHelper.enableMemoization(String.class, Pattern.class, 64);
+			ConversionHelper.enableMemoization(String.class, UUID.class, 64);
+		}
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		ConversionHelper.disableMemoization(String.class, Pattern.class);
+		ConversionHelper.disableMemoization(String.class, UUID.class);
+	}
+
+	@Benchmark
+	public Pattern convertPattern()
+	{
+		return ConversionHelper.convert(patterns[(int) (System.nanoTime() & 3)], Pattern.class);
+	}
+
+	@Benchmark
+	public UUID convertUUID()
+	{
+		return ConversionHelper.convert(uuids[(int) (System.nanoTime() & 3)], UUID.class);
+	}
+}
@@ -0,0 +1,107 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.benchmarks.conversion;
+
+import de.s42.base.conversion.ConversionHelper;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.json.JSONArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares converting a JSON array via JSONArray.toList and convertList against the single pass conversion to
+ * List&lt;Long&gt;.
+ *
+ * @author Benjamin Schiller
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TypedConversionBenchmark
+{
+
+	protected String json;
+	protected Type listOfLong;
+	protected Type mapOfLong;
+	protected String jsonMap;
+
+	@Setup
+	public void setup()
+	{
+		StringBuilder builder = new StringBuilder("[");
+		StringBuilder mapBuilder = new StringBuilder("{");
+		for (int i = 0; i < 1000; ++i) {
+			if (i > 0) {
+				builder.append(',');
+				mapBuilder.append(',');
+			}
+			builder.append(1717958547123L + i);
+			mapBuilder.append("\"key").append(i).append("\":").append(i);
+		}
+		json = builder.append(']').toString();
+		jsonMap = mapBuilder.append('}').toString();
+		listOfLong = ConversionHelper.parameterizedType(List.class, Long.class);
+		mapOfLong = ConversionHelper.parameterizedType(Map.class, String.class, Long.class);
+	}
+
+	@Benchmark
+	public List<Long> convertViaJSONArray()
+	{
+		return ConversionHelper.convertList(new JSONArray(json).toList(), Long.class);
+	}
+
+	@Benchmark
+	public List<Long> convertTyped()
+	{
+		return ConversionHelper.convert(json, listOfLong);
+	}
+
+	@Benchmark
+	public Map convertMapUntyped()
+	{
+		return ConversionHelper.convert(jsonMap, Map.class);
+	}
+
+	@Benchmark
+	public Map<String, Long> convertMapTyped()
+	{
+		return ConversionHelper.convert(jsonMap, mapOfLong);
+	}
+}
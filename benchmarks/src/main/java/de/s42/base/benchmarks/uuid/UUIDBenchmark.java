@@ -0,0 +1,106 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.benchmarks.uuid;
+
+import de.s42.base.uuid.UUID58;
+import de.s42.base.uuid.UUID64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the UUID58 and UUID64 encodings in both directions against UUID.toString and UUID.fromString.
+ *
+ * @author Benjamin Schiller
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UUIDBenchmark
+{
+
+	protected UUID uuid;
+	protected String uuidString;
+	protected String uuid58;
+	protected String uuid64;
+
+	@Setup
+	public void setup()
+	{
+		uuid = UUID.fromString("8c1f6e2a-3b4d-4f5e-9a6b-7c8d9e0f1a2b");
+		uuidString = uuid.toString();
+		uuid58 = UUID58.toString(uuid);
+		uuid64 = UUID64.toString(uuid);
+	}
+
+	@Benchmark
+	public String uuidToString()
+	{
+		return uuid.toString();
+	}
+
+	@Benchmark
+	public UUID uuidFromString()
+	{
+		return UUID.fromString(uuidString);
+	}
+
+	@Benchmark
+	public String uuid58ToString()
+	{
+		return UUID58.toString(uuid);
+	}
+
+	@Benchmark
+	public UUID uuid58FromString()
+	{
+		return UUID58.fromString(uuid58);
+	}
+
+	@Benchmark
+	public String uuid64ToString()
+	{
+		return UUID64.toString(uuid);
+	}
+
+	@Benchmark
+	public UUID uuid64FromString()
+	{
+		return UUID64.fromString(uuid64);
+	}
+}
@@ -0,0 +1,521 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates the de.s42.base.beans.BeanMetadata of classes marked with de.s42.base.beans.GenerateBeanMetadata. The
+ * properties are found with the rules of java.beans.Introspector and de.s42.base.beans.BeanInfo - getters (getX and
+ * isX for boolean), void setters and public non static fields. The generated class is named like the bean class with
+ * the suffix {@link #CLASS_NAME_SUFFIX} and registers its metadata with de.s42.base.beans.BeanHelper when it gets
+ * initialized.
+ *
+ * @author Benjamin Schiller
+ */
+@SupportedAnnotationTypes(BeanMetadataProcessor.GENERATE_BEAN_METADATA)
+public class BeanMetadataProcessor extends AbstractProcessor
+{
+
+	public final static String GENERATE_BEAN_METADATA = "de.s42.base.beans.GenerateBeanMetadata";
+	public final static String CLASS_NAME_SUFFIX = "$$BeanMetadata";
+
+	/**
+	 * Getters and setters of a property - keyed like in the Introspector by the method name without prefix.
+	 */
+	protected static class Accessors
+	{
+
+		protected ExecutableElement isGetter;
+		protected ExecutableElement getter;
+		protected final List<ExecutableElement> setters = new ArrayList<>();
+		protected boolean indexed;
+	}
+
+	/**
+	 * Property as it gets written into the generated source.
+	 */
+	protected static class Property
+	{
+
+		protected final String name;
+		protected final TypeMirror type;
+		// Erased parameter of the setter - may be narrower than type
+		protected TypeMirror writeClass;
+		// Type the generated setter lambda casts the value to
+		protected TypeMirror castType;
+		protected String readMethodName;
+		protected String writeMethodName;
+		protected String fieldName;
+		protected boolean fieldOnly;
+		protected boolean writable;
+
+		protected Property(String name, TypeMirror type)
+		{
+			this.name = name;
+			this.type = type;
+		}
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				if (element instanceof TypeElement beanType && isValidBeanType(beanType)) {
+					generate(beanType);
+				}
+			}
+		}
+
+		return true;
+	}
+
+	protected boolean isValidBeanType(TypeElement beanType)
+	{
+		assert beanType != null : "beanType != null";
+
+		if (beanType.getKind() != ElementKind.CLASS) {
+			error("Bean metadata can just be generated for classes", beanType);
+			return false;
+		}
+
+		// The class and all enclosing classes have to be public and static to be visible like in the Introspector
+		for (Element current = beanType; current instanceof TypeElement type; current = current.getEnclosingElement()) {
+
+			if (type.getNestingKind() != NestingKind.TOP_LEVEL && type.getNestingKind() != NestingKind.MEMBER) {
+				error("Bean metadata can not be generated for local or anonymous class " + beanType.getSimpleName(), beanType);
+				return false;
+			}
+
+			if (!type.getModifiers().contains(Modifier.PUBLIC)) {
+				error("Class " + type.getQualifiedName() + " has to be public to generate bean metadata", beanType);
+				return false;
+			}
+
+			if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+				error("Class " + type.getQualifiedName() + " has to be static to generate bean metadata", beanType);
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	protected void generate(TypeElement beanType)
+	{
+		assert beanType != null : "beanType != null";
+
+		PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(beanType);
+		String packageName = packageElement.getQualifiedName().toString();
+		String binaryName = processingEnv.getElementUtils().getBinaryName(beanType).toString();
+		String className = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + CLASS_NAME_SUFFIX;
+
+		try (Writer writer = processingEnv.getFiler().createSourceFile(
+			(packageName.isEmpty() ? "" : packageName + ".") + className, beanType).openWriter()) {
+			writer.write(createSource(beanType, packageName, className, findProperties(beanType)));
+		} catch (IOException ex) {
+			error("Error generating bean metadata of " + beanType.getQualifiedName() + " - " + ex.getMessage(), beanType);
+		}
+	}
+
+	protected Map<String, Property> findProperties(TypeElement beanType)
+	{
+		assert beanType != null : "beanType != null";
+
+		Map<String, Accessors> accessorsByKey = new TreeMap<>();
+
+		for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(beanType))) {
+
+			Set<Modifier> modifiers = method.getModifiers();
+			if (!modifiers.contains(Modifier.PUBLIC)
+				|| modifiers.contains(Modifier.STATIC)
+				|| (modifiers.contains(Modifier.ABSTRACT) && method.getEnclosingElement().getKind() == ElementKind.INTERFACE)) {
+				continue;
+			}
+
+			String name = method.getSimpleName().toString();
+			TypeKind returnKind = method.getReturnType().getKind();
+			List<? extends VariableElement> parameters = method.getParameters();
+
+			switch (parameters.size()) {
+				case 0 -> {
+					if (returnKind == TypeKind.BOOLEAN && isPrefix(name, "is")) {
+						getAccessors(accessorsByKey, name.substring(2)).isGetter = method;
+					} else if (returnKind != TypeKind.VOID && isPrefix(name, "get")) {
+						getAccessors(accessorsByKey, name.substring(3)).getter = method;
+					}
+				}
+				case 1 -> {
+					if (returnKind == TypeKind.VOID && isPrefix(name, "set")) {
+						getAccessors(accessorsByKey, name.substring(3)).setters.add(method);
+					} else if (returnKind != TypeKind.VOID && parameters.get(0).asType().getKind() == TypeKind.INT && isPrefix(name, "get")) {
+						getAccessors(accessorsByKey, name.substring(3)).indexed = true;
+					}
+				}
+				case 2 -> {
+					if (returnKind == TypeKind.VOID && parameters.get(0).asType().getKind() == TypeKind.INT && isPrefix(name, "set")) {
+						getAccessors(accessorsByKey, name.substring(3)).indexed = true;
+					}
+				}
+				default -> {
+				}
+			}
+		}
+
+		Map<String, Property> result = new LinkedHashMap<>();
+		Set<String> indexedOnly = new HashSet<>();
+
+		for (Map.Entry<String, Accessors> entry : accessorsByKey.entrySet()) {
+
+			Accessors accessors = entry.getValue();
+			String name = decapitalize(entry.getKey());
+
+			// The boolean is getter wins over a get getter
+			ExecutableElement read = (accessors.isGetter != null) ? accessors.isGetter : accessors.getter;
+			TypeMirror writeType = (read != null) ? erasure(read.getReturnType()) : null;
+			ExecutableElement write = null;
+
+			// Use the most specific setter which is assignable to the type of the getter
+			for (ExecutableElement setter : accessors.setters) {
+				TypeMirror type = erasure(setter.getParameters().get(0).asType());
+				if (writeType == null || (isAssignableFrom(writeType, type) && (write == null || isAssignableFrom(erasure(write.getParameters().get(0).asType()), type)))) {
+					write = setter;
+					writeType = type;
+				}
+			}
+
+			if (read == null && write == null) {
+				if (accessors.indexed) {
+					indexedOnly.add(name);
+				}
+				continue;
+			}
+
+			// The type of the getter wins like in the Introspector
+			Property property = new Property(name, (read != null) ? erasure(read.getReturnType()) : writeType);
+			property.readMethodName = (read != null) ? read.getSimpleName().toString() : null;
+			property.writeMethodName = (write != null) ? write.getSimpleName().toString() : null;
+			property.writable = (write != null);
+			if (write != null) {
+				property.writeClass = writeType;
+				property.castType = memberType(beanType, write.getParameters().get(0), write);
+			}
+			result.put(name, property);
+		}
+
+		// Fields of subclasses hide the ones of superclasses like in BeanInfo
+		Map<String, VariableElement> fields = new LinkedHashMap<>();
+		List<TypeElement> hierarchy = new ArrayList<>();
+		for (TypeElement current = beanType; current != null; current = superclassOf(current)) {
+			hierarchy.add(0, current);
+		}
+		for (TypeElement type : hierarchy) {
+			for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+				fields.put(field.getSimpleName().toString(), field);
+			}
+		}
+
+		for (VariableElement field : fields.values()) {
+
+			String name = field.getSimpleName().toString();
+			Property property = result.get(name);
+
+			if (property != null) {
+				property.fieldName = name;
+			} else if (field.getModifiers().contains(Modifier.PUBLIC)
+				&& !field.getModifiers().contains(Modifier.STATIC)
+				&& !indexedOnly.contains(name)) {
+				property = new Property(name, erasure(field.asType()));
+				property.fieldName = name;
+				property.fieldOnly = true;
+				property.writable = !field.getModifiers().contains(Modifier.FINAL);
+				property.castType = memberType(beanType, field, null);
+				result.put(name, property);
+			}
+		}
+
+		return result;
+	}
+
+	protected String createSource(TypeElement beanType, String packageName, String className, Map<String, Property> properties)
+	{
+		assert beanType != null : "beanType != null";
+		assert packageName != null : "packageName != null";
+		assert className != null : "className != null";
+		assert properties != null : "properties != null";
+
+		// All names are qualified so classes of the bean package can not clash with them
+		String beanName = beanType.getQualifiedName().toString();
+		String propertyMetadata = "de.s42.base.beans.PropertyMetadata<" + beanName + ">";
+
+		StringBuilder source = new StringBuilder();
+
+		source.append("// Generated by ").append(getClass().getName()).append(" - do not edit\n");
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+		source.append("final class ").append(className).append(" implements de.s42.base.beans.BeanMetadata<").append(beanName).append(">\n");
+		source.append("{\n\n");
+
+		source.append("\tstatic\n\t{\n");
+		source.append("\t\tde.s42.base.beans.BeanHelper.registerBeanMetadata(new ").append(className).append("());\n");
+		source.append("\t}\n\n");
+
+		source.append("\tprivate final java.util.List<").append(propertyMetadata).append("> properties = java.util.List.of(");
+		boolean first = true;
+		for (Property property : properties.values()) {
+			source.append(first ? "\n" : ",\n");
+			appendProperty(source, propertyMetadata, property);
+			first = false;
+		}
+		source.append("\n\t);\n\n");
+
+		source.append("\tprivate ").append(className).append("()\n\t{\n\t\t// registered once by the static initializer\n\t}\n\n");
+
+		source.append("\t@Override\n\tpublic Class<").append(beanName).append("> getBeanClass()\n\t{\n");
+		source.append("\t\treturn ").append(beanName).append(".class;\n\t}\n\n");
+
+		source.append("\t@Override\n\tpublic ").append(beanName).append(" newInstance()\n\t{\n");
+		if (hasPublicDefaultConstructor(beanType)) {
+			source.append("\t\treturn new ").append(beanName).append("();\n");
+		} else {
+			source.append("\t\tthrow new UnsupportedOperationException(\"Bean class ").append(beanName).append(" has no public default constructor\");\n");
+		}
+		source.append("\t}\n\n");
+
+		source.append("\t@Override\n\tpublic java.util.List<").append(propertyMetadata).append("> getProperties()\n\t{\n");
+		source.append("\t\treturn properties;\n\t}\n");
+
+		source.append("}\n");
+
+		return source.toString();
+	}
+
+	protected void appendProperty(StringBuilder source, String propertyMetadata, Property property)
+	{
+		String getter;
+		String setter;
+
+		if (property.fieldOnly) {
+			getter = "(bean) -> bean." + property.fieldName;
+			setter = property.writable
+				? "(bean, value) -> bean." + property.fieldName + " = " + castValue(property.castType, "value")
+				: null;
+		} else {
+			getter = (property.readMethodName != null)
+				? "(bean) -> bean." + property.readMethodName + "()"
+				: null;
+			setter = property.writable
+				? "(bean, value) -> bean." + property.writeMethodName + "(" + castValue(property.castType, "value") + ")"
+				: null;
+		}
+
+		source
+			.append("\t\tnew ").append(propertyMetadata).append("(")
+			.append(literal(property.name)).append(", ")
+			.append(typeName(property.type)).append(".class, ")
+			.append((property.writeClass != null) ? typeName(property.writeClass) + ".class" : null).append(", ")
+			.append(literal(property.readMethodName)).append(", ")
+			.append(literal(property.writeMethodName)).append(", ")
+			.append(literal(property.fieldName)).append(", ")
+			.append(getter).append(", ")
+			.append(setter).append(")");
+	}
+
+	protected boolean hasPublicDefaultConstructor(TypeElement beanType)
+	{
+		if (beanType.getModifiers().contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(beanType.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	protected TypeElement superclassOf(TypeElement type)
+	{
+		TypeMirror superclass = type.getSuperclass();
+
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+
+		return (TypeElement) ((DeclaredType) superclass).asElement();
+	}
+
+	/**
+	 * Returns the erased type of the field or setter parameter as member of the bean class - i.e. String for a
+	 * setValue(T value) inherited from Base&lt;String&gt;. The generated lambdas have to cast to it.
+	 */
+	protected TypeMirror memberType(TypeElement beanType, VariableElement variable, ExecutableElement setter)
+	{
+		DeclaredType beanDeclaredType = (DeclaredType) beanType.asType();
+
+		if (setter != null) {
+			return erasure(((ExecutableType) processingEnv.getTypeUtils().asMemberOf(beanDeclaredType, setter)).getParameterTypes().get(0));
+		}
+
+		return erasure(processingEnv.getTypeUtils().asMemberOf(beanDeclaredType, variable));
+	}
+
+	protected TypeMirror erasure(TypeMirror type)
+	{
+		return processingEnv.getTypeUtils().erasure(type);
+	}
+
+	/**
+	 * Like Class.isAssignableFrom for erased types - primitives are just assignable from the same primitive.
+	 */
+	protected boolean isAssignableFrom(TypeMirror type, TypeMirror other)
+	{
+		if (type.getKind().isPrimitive() || other.getKind().isPrimitive()) {
+			return processingEnv.getTypeUtils().isSameType(type, other);
+		}
+
+		return processingEnv.getTypeUtils().isSubtype(other, type);
+	}
+
+	/**
+	 * Returns the source name of an erased type - without type annotations which toString would contain.
+	 */
+	protected String typeName(TypeMirror type)
+	{
+		return switch (type.getKind()) {
+			case ARRAY ->
+				typeName(((ArrayType) type).getComponentType()) + "[]";
+			case DECLARED ->
+				((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+			default ->
+				type.getKind().name().toLowerCase();
+		};
+	}
+
+	/**
+	 * Returns the expression casting value to the type. Numeric primitives are unboxed with widening like reflection
+	 * does (i.e. Integer to long), boolean, byte and char are cast to their wrapper and get unboxed.
+	 */
+	protected String castValue(TypeMirror type, String value)
+	{
+		return switch (type.getKind()) {
+			case SHORT ->
+				"de.s42.base.beans.BeanHelper.unboxShort(" + value + ")";
+			case INT ->
+				"de.s42.base.beans.BeanHelper.unboxInt(" + value + ")";
+			case LONG ->
+				"de.s42.base.beans.BeanHelper.unboxLong(" + value + ")";
+			case FLOAT ->
+				"de.s42.base.beans.BeanHelper.unboxFloat(" + value + ")";
+			case DOUBLE ->
+				"de.s42.base.beans.BeanHelper.unboxDouble(" + value + ")";
+			default ->
+				"(" + castName(type) + ") " + value;
+		};
+	}
+
+	protected String castName(TypeMirror type)
+	{
+		if (type.getKind().isPrimitive()) {
+			return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+		}
+
+		return typeName(type);
+	}
+
+	protected static String literal(String value)
+	{
+		return (value != null) ? "\"" + value + "\"" : null;
+	}
+
+	protected static Accessors getAccessors(Map<String, Accessors> accessorsByKey, String key)
+	{
+		return accessorsByKey.computeIfAbsent(key, (k) -> new Accessors());
+	}
+
+	protected static boolean isPrefix(String name, String prefix)
+	{
+		return name.length() > prefix.length() && name.startsWith(prefix);
+	}
+
+	/**
+	 * Same as java.beans.Introspector.decapitalize - the processor does not depend on java.desktop.
+	 */
+	protected static String decapitalize(String name)
+	{
+		if (name.isEmpty() || (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0)))) {
+			return name;
+		}
+
+		char[] chars = name.toCharArray();
+		chars[0] = Character.toLowerCase(chars[0]);
+		return new String(chars);
+	}
+
+	protected void error(String message, Element element)
+	{
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+}
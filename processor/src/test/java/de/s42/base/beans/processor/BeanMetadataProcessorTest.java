@@ -0,0 +1,364 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans.processor;
+
+import de.s42.base.beans.BeanHelper;
+import de.s42.base.beans.BeanInfo;
+import de.s42.base.beans.BeanMetadata;
+import de.s42.base.beans.BeanProperty;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ *
+ * @author Benjamin Schiller
+ */
+public class BeanMetadataProcessorTest
+{
+
+	protected final static String BASE_SOURCE = """
+		package sample;
+
+		public class Base<T>
+		{
+			protected T value;
+			public String inherited;
+
+			public T getValue()
+			{
+				return value;
+			}
+
+			public void setValue(T value)
+			{
+				this.value = value;
+			}
+		}
+		""";
+
+	protected final static String PERSON_SOURCE = """
+		package sample;
+
+		import de.s42.base.beans.GenerateBeanMetadata;
+		import java.util.List;
+
+		@GenerateBeanMetadata
+		public class Person extends Base<String>
+		{
+			public int age;
+			public final String id = "id";
+			public static int instances;
+			protected String name;
+			protected boolean active;
+			protected String URL;
+			protected List<String> tags;
+			protected int[] scores;
+			protected transient long written;
+			protected Number number;
+
+			public String getName()
+			{
+				return name;
+			}
+
+			public void setName(String name)
+			{
+				this.name = name;
+			}
+
+			public boolean isActive()
+			{
+				return active;
+			}
+
+			public void setActive(boolean active)
+			{
+				this.active = active;
+			}
+
+			public String getURL()
+			{
+				return URL;
+			}
+
+			public void setURL(String URL)
+			{
+				this.URL = URL;
+			}
+
+			public List<String> getTags()
+			{
+				return tags;
+			}
+
+			public void setTags(List<String> tags)
+			{
+				this.tags = tags;
+			}
+
+			public int[] getScores()
+			{
+				return scores;
+			}
+
+			public int getScores(int index)
+			{
+				return scores[index];
+			}
+
+			public void setScores(int[] scores)
+			{
+				this.scores = scores;
+			}
+
+			public Number getNumber()
+			{
+				return number;
+			}
+
+			public void setNumber(Integer number)
+			{
+				this.number = number;
+			}
+
+			public String getComputed()
+			{
+				return name + age;
+			}
+
+			public void setWritten(long written)
+			{
+				this.written = written;
+			}
+
+			public long written()
+			{
+				return written;
+			}
+
+			public void setName(Object name)
+			{
+				this.name = String.valueOf(name);
+			}
+
+			@GenerateBeanMetadata
+			public static class Address
+			{
+				protected String street;
+
+				public String getStreet()
+				{
+					return street;
+				}
+
+				public void setStreet(String street)
+				{
+					this.street = street;
+				}
+			}
+		}
+		""";
+
+	protected final static String INVALID_SOURCE = """
+		package sample;
+
+		import de.s42.base.beans.GenerateBeanMetadata;
+
+		public class Invalid
+		{
+			@GenerateBeanMetadata
+			private static class Hidden
+			{
+			}
+
+			@GenerateBeanMetadata
+			public class Inner
+			{
+			}
+		}
+		""";
+
+	protected static class CompileResult
+	{
+
+		protected final boolean success;
+		protected final String diagnostics;
+		protected final Path classes;
+
+		protected CompileResult(boolean success, String diagnostics, Path classes)
+		{
+			this.success = success;
+			this.diagnostics = diagnostics;
+			this.classes = classes;
+		}
+	}
+
+	protected static CompileResult compile(Map<String, String> sources) throws IOException
+	{
+		Path root = Files.createTempDirectory("base42-processor");
+		Path sourceDir = Files.createDirectories(root.resolve("src/sample"));
+		Path classes = Files.createDirectories(root.resolve("classes"));
+
+		List<Path> files = new ArrayList<>();
+		for (Map.Entry<String, String> source : sources.entrySet()) {
+			files.add(Files.writeString(sourceDir.resolve(source.getKey() + ".java"), source.getValue()));
+		}
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		StringWriter diagnostics = new StringWriter();
+
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+
+			Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromPaths(files);
+			JavaCompiler.CompilationTask task = compiler.getTask(diagnostics, fileManager, null,
+				List.of("-classpath", System.getProperty("java.class.path"), "-d", classes.toString(), "-s", classes.toString()),
+				null, units);
+			task.setProcessors(List.of(new BeanMetadataProcessor()));
+
+			return new CompileResult(task.call(), diagnostics.toString(), classes);
+		}
+	}
+
+	/**
+	 * The compiled beans are unknown at compile time - so they are handled as Object.
+	 */
+	@SuppressWarnings("unchecked")
+	protected static Class<Object> loadClass(ClassLoader loader, String className) throws ClassNotFoundException
+	{
+		return (Class<Object>) loader.loadClass(className);
+	}
+
+	@Test
+	public void validGeneratedMetadataMatchesIntrospection() throws Exception
+	{
+		CompileResult result = compile(Map.of("Base", BASE_SOURCE, "Person", PERSON_SOURCE));
+		Assert.assertTrue(result.success, result.diagnostics);
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[]{result.classes.toUri().toURL()}, getClass().getClassLoader())) {
+
+			for (String className : List.of("sample.Person", "sample.Person$Address")) {
+
+				Class<Object> beanClass = loadClass(loader, className);
+
+				BeanInfo<Object> info = BeanHelper.getBeanInfo(beanClass);
+				BeanInfo<Object> introspected = new BeanInfo<>(beanClass);
+
+				Assert.assertTrue(BeanHelper.getBeanMetadata(beanClass).isPresent(), "Metadata of " + className + " is not generated");
+				assertSameProperties(info, introspected);
+			}
+		}
+	}
+
+	@Test
+	public void validGeneratedAccessorsReadAndWrite() throws Exception
+	{
+		CompileResult result = compile(Map.of("Base", BASE_SOURCE, "Person", PERSON_SOURCE));
+		Assert.assertTrue(result.success, result.diagnostics);
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[]{result.classes.toUri().toURL()}, getClass().getClassLoader())) {
+
+			Class<Object> beanClass = loadClass(loader, "sample.Person");
+			BeanMetadata<Object> metadata = BeanHelper.getBeanMetadata(beanClass).orElseThrow();
+			BeanInfo<Object> info = BeanHelper.getBeanInfo(beanClass);
+
+			Object bean = info.newInstance();
+			Assert.assertSame(bean.getClass(), beanClass);
+			Assert.assertSame(metadata.newInstance().getClass(), beanClass);
+
+			info.write(bean, "name", "Alice");
+			info.write(bean, "age", 42);
+			info.write(bean, "active", true);
+			info.write(bean, "URL", "https://www.s42m.de");
+			info.write(bean, "tags", List.of("a", "b"));
+			info.write(bean, "scores", new int[]{1, 2});
+			info.write(bean, "value", "value");
+			info.write(bean, "written", 7L);
+			info.write(bean, "number", 5);
+
+			Assert.assertEquals(info.<String>read(bean, "name"), "Alice");
+			Assert.assertEquals(info.<Integer>read(bean, "age"), 42);
+			Assert.assertEquals(info.<Boolean>read(bean, "active"), Boolean.TRUE);
+			Assert.assertEquals(info.<String>read(bean, "URL"), "https://www.s42m.de");
+			Assert.assertEquals(info.<List>read(bean, "tags"), List.of("a", "b"));
+			Assert.assertEquals(info.<int[]>read(bean, "scores"), new int[]{1, 2});
+			Assert.assertEquals(info.<String>read(bean, "value"), "value");
+			Assert.assertEquals(info.<String>read(bean, "computed"), "Alice42");
+			Assert.assertEquals(info.<String>read(bean, "id"), "id");
+			Assert.assertEquals(info.<Number>read(bean, "number"), 5);
+			Assert.assertEquals(beanClass.getMethod("written").invoke(bean), 7L);
+
+			// Primitives are widened like reflection does
+			info.write(bean, "written", 8);
+			info.write(bean, "age", (short) 43);
+			Assert.assertEquals(beanClass.getMethod("written").invoke(bean), 8L);
+			Assert.assertEquals(info.<Integer>read(bean, "age"), 43);
+		}
+	}
+
+	@Test
+	public void invalidPrivateAndInnerClassesReportErrors() throws Exception
+	{
+		CompileResult result = compile(Map.of("Invalid", INVALID_SOURCE));
+
+		Assert.assertFalse(result.success);
+		Assert.assertTrue(result.diagnostics.contains("sample.Invalid.Hidden has to be public"), result.diagnostics);
+		Assert.assertTrue(result.diagnostics.contains("sample.Invalid.Inner has to be static"), result.diagnostics);
+	}
+
+	protected static void assertSameProperties(BeanInfo<Object> info, BeanInfo<Object> introspected)
+	{
+		Assert.assertEquals(info.getPropertiesByName().keySet(), introspected.getPropertiesByName().keySet());
+
+		for (BeanProperty<Object, ?> expected : introspected.getProperties()) {
+
+			String name = info.getBeanClass().getName() + "." + expected.getName();
+			BeanProperty<Object, ?> actual = info.getProperty(expected.getName()).orElseThrow();
+
+			Assert.assertEquals(actual.getPropertyClass(), expected.getPropertyClass(), name);
+			Assert.assertEquals(actual.getGenericType(), expected.getGenericType(), name);
+			Assert.assertEquals(actual.getReadMethod(), expected.getReadMethod(), name);
+			Assert.assertEquals(actual.getWriteMethod(), expected.getWriteMethod(), name);
+			Assert.assertEquals(actual.getField(), expected.getField(), name);
+			Assert.assertEquals(actual.canRead(), expected.canRead(), name);
+			Assert.assertEquals(actual.canWrite(), expected.canWrite(), name);
+			Assert.assertEquals(actual.isOwn(), expected.isOwn(), name);
+			Assert.assertEquals(actual.isTransient(), expected.isTransient(), name);
+		}
+	}
+}
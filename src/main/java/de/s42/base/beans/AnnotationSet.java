@@ -0,0 +1,150 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Immutable set of annotation classes as bitset - used with {@link BeanProperty#isAnyAnnotationPresent(AnnotationSet)}
+ * to check a property for several annotations at once. Each annotation class gets a bit index on first use. Create the
+ * sets once and reuse them.
+ *
+ * @author Benjamin Schiller
+ */
+public final class AnnotationSet
+{
+
+	private final static AtomicInteger nextIndex = new AtomicInteger();
+
+	private final static ClassValue<Integer> indices = new ClassValue<>()
+	{
+		@Override
+		protected Integer computeValue(Class<?> type)
+		{
+			return nextIndex.getAndIncrement();
+		}
+	};
+
+	private final static AnnotationSet EMPTY = new AnnotationSet(Collections.emptySet());
+
+	private final Set<Class<? extends Annotation>> annotationClasses;
+	private final long[] bits;
+
+	private AnnotationSet(Collection<Class<? extends Annotation>> annotationClasses)
+	{
+		this.annotationClasses = Collections.unmodifiableSet(new LinkedHashSet<>(annotationClasses));
+
+		int maxIndex = -1;
+		for (Class<? extends Annotation> annotationClass : this.annotationClasses) {
+			maxIndex = Math.max(maxIndex, indexOf(annotationClass));
+		}
+
+		bits = new long[(maxIndex >> 6) + 1];
+		for (Class<? extends Annotation> annotationClass : this.annotationClasses) {
+			int index = indexOf(annotationClass);
+			bits[index >> 6] |= 1L << index;
+		}
+	}
+
+	@SafeVarargs
+	public static AnnotationSet of(Class<? extends Annotation>... annotationClasses)
+	{
+		assert annotationClasses != null : "annotationClasses != null";
+
+		return of(Arrays.asList(annotationClasses));
+	}
+
+	public static AnnotationSet of(Collection<Class<? extends Annotation>> annotationClasses)
+	{
+		assert annotationClasses != null : "annotationClasses != null";
+
+		if (annotationClasses.isEmpty()) {
+			return EMPTY;
+		}
+
+		return new AnnotationSet(annotationClasses);
+	}
+
+	static int indexOf(Class<? extends Annotation> annotationClass)
+	{
+		assert annotationClass != null : "annotationClass != null";
+
+		return indices.get(annotationClass);
+	}
+
+	/**
+	 * Returns true if this and other contain at least one common annotation class.
+	 *
+	 * @param other
+	 * @return true if there is any common annotation class
+	 */
+	public boolean intersects(AnnotationSet other)
+	{
+		assert other != null : "other != null";
+
+		long[] otherBits = other.bits;
+
+		for (int i = 0, length = Math.min(bits.length, otherBits.length); i < length; ++i) {
+			if ((bits[i] & otherBits[i]) != 0) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	public boolean contains(Class<? extends Annotation> annotationClass)
+	{
+		assert annotationClass != null : "annotationClass != null";
+
+		int index = indexOf(annotationClass);
+		int word = index >> 6;
+
+		return word < bits.length && (bits[word] & (1L << index)) != 0;
+	}
+
+	public boolean isEmpty()
+	{
+		return annotationClasses.isEmpty();
+	}
+
+	public Set<Class<? extends Annotation>> getAnnotationClasses()
+	{
+		return annotationClasses;
+	}
+
+	@Override
+	public String toString()
+	{
+		return annotationClasses.toString();
+	}
+}
@@ -0,0 +1,76 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans;
+
+/**
+ * Indexed access to all properties of a bean class - see {@link BeanInfo#getAccessor()}. The indices are the ones of
+ * {@link BeanInfo#getIndexedProperties()}, resolve names once with {@link BeanInfo#getPropertyIndex(String)} and use
+ * the indices in hot loops.
+ *
+ * @author Benjamin Schiller
+ * @param <BeanClass>
+ */
+public interface BeanAccessor<BeanClass>
+{
+
+	/**
+	 * Reads the property with the given index.
+	 *
+	 * @param bean
+	 * @param propertyIndex
+	 * @return the value of the property
+	 * @throws InvalidBean if the property can not be read
+	 */
+	public Object read(BeanClass bean, int propertyIndex) throws InvalidBean;
+
+	/**
+	 * Writes the property with the given index.
+	 *
+	 * @param bean
+	 * @param propertyIndex
+	 * @param value
+	 * @throws InvalidBean if the property can not be written
+	 */
+	public void write(BeanClass bean, int propertyIndex, Object value) throws InvalidBean;
+
+	/**
+	 * Reads all readable properties into out at their indices - the others are set to null.
+	 *
+	 * @param bean
+	 * @param out Has to have at least the length of the properties
+	 * @throws InvalidBean if a property can not be read
+	 */
+	public void readAll(BeanClass bean, Object[] out) throws InvalidBean;
+
+	/**
+	 * Writes all writable properties from in at their indices - the others are ignored.
+	 *
+	 * @param bean
+	 * @param in Has to have at least the length of the properties
+	 * @throws InvalidBean if a property can not be written
+	 */
+	public void writeAll(BeanClass bean, Object[] in) throws InvalidBean;
+}
@@ -0,0 +1,303 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans;
+
+import de.s42.base.compile.CompileHelper;
+import java.io.File;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Generates a {@link BeanAccessor} as hidden class in the package of the bean. Its methods switch over the property
+ * index and call the getters, setters and public fields directly. Properties which can not be accessed from source
+ * (i.e. of non public types) are delegated to their {@link BeanProperty}. The source is compiled with
+ * {@link CompileHelper} - so it requires a JDK and the class files of the bean.
+ *
+ * @author Benjamin Schiller
+ */
+final class BeanAccessorGenerator
+{
+
+	private final static String ACCESSOR = BeanAccessor.class.getCanonicalName();
+	private final static String PROPERTY = BeanProperty.class.getCanonicalName();
+	private final static String INVALID_BEAN = InvalidBean.class.getCanonicalName();
+	private final static String HELPER = BeanHelper.class.getCanonicalName();
+
+	private BeanAccessorGenerator()
+	{
+	}
+
+	/**
+	 * Generates the accessor.
+	 *
+	 * @param <BeanClass>
+	 * @param beanClass
+	 * @param properties The properties in index order
+	 * @return the generated accessor or null if none can be generated for the bean class
+	 */
+	@SuppressWarnings("unchecked")
+	static <BeanClass> BeanAccessor<BeanClass> generate(Class<BeanClass> beanClass, BeanProperty<BeanClass, ?>[] properties)
+	{
+		assert beanClass != null : "beanClass != null";
+		assert properties != null : "properties != null";
+
+		if (!isAccessible(beanClass) || beanClass.isInterface()) {
+			return null;
+		}
+
+		String packageName = beanClass.getPackageName();
+		String simpleName = beanClass.getSimpleName() + "$$BeanAccessor";
+		String className = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+		try {
+			String source = createSource(beanClass, properties, packageName, simpleName);
+
+			byte[] classData = CompileHelper.getCompiledClassData(source, className, beanClass.getClassLoader(), createClassPath(beanClass, properties), null);
+
+			// The accessor gets defined in the package of the bean and links against this module
+			Module module = BeanAccessorGenerator.class.getModule();
+			if (!module.canRead(beanClass.getModule())) {
+				module.addReads(beanClass.getModule());
+			}
+
+			MethodHandles.Lookup lookup = MethodHandles
+				.privateLookupIn(beanClass, MethodHandles.lookup())
+				.defineHiddenClass(classData, true);
+
+			return (BeanAccessor<BeanClass>) lookup
+				.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class, BeanProperty[].class))
+				.invoke(properties);
+		} catch (VirtualMachineError error) {
+			throw error;
+		} catch (Throwable ex) {
+			// Generation is just an optimization -> the caller falls back to the properties
+			return null;
+		}
+	}
+
+	private static String createSource(Class beanClass, BeanProperty[] properties, String packageName, String simpleName)
+	{
+		String bean = beanClass.getCanonicalName();
+		StringBuilder source = new StringBuilder();
+
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+
+		source
+			.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+			.append("public final class ").append(simpleName).append(" implements ").append(ACCESSOR).append("<").append(bean).append(">\n{\n")
+			.append("\tprivate final ").append(PROPERTY).append("[] properties;\n")
+			.append("\tpublic ").append(simpleName).append("(").append(PROPERTY).append("[] properties)\n\t{\n")
+			.append("\t\tthis.properties = properties;\n\t}\n");
+
+		// read
+		source
+			.append("\t@Override\n\tpublic Object read(").append(bean).append(" bean, int index) throws ").append(INVALID_BEAN).append("\n\t{\n")
+			.append("\t\ttry {\n\t\t\tswitch (index) {\n");
+		for (int i = 0; i < properties.length; ++i) {
+			source.append("\t\t\t\tcase ").append(i).append(":\n\t\t\t\t\treturn ").append(readExpression(properties[i], i)).append(";\n");
+		}
+		source
+			.append("\t\t\t\tdefault:\n\t\t\t\t\tthrow new ").append(INVALID_BEAN).append("(\"Property index \" + index + \" is out of range\");\n")
+			.append("\t\t\t}\n\t\t} catch (RuntimeException ex) {\n")
+			.append("\t\t\tthrow new ").append(INVALID_BEAN).append("(\"Error reading property \" + properties[index].getName() + \" from bean - \" + ex.getMessage(), ex);\n")
+			.append("\t\t}\n\t}\n");
+
+		// write
+		source
+			.append("\t@Override\n\tpublic void write(").append(bean).append(" bean, int index, Object value) throws ").append(INVALID_BEAN).append("\n\t{\n")
+			.append("\t\ttry {\n\t\t\tswitch (index) {\n");
+		for (int i = 0; i < properties.length; ++i) {
+			source.append("\t\t\t\tcase ").append(i).append(":\n\t\t\t\t\t").append(writeStatement(properties[i], i, "value")).append(";\n\t\t\t\t\treturn;\n");
+		}
+		source
+			.append("\t\t\t\tdefault:\n\t\t\t\t\tthrow new ").append(INVALID_BEAN).append("(\"Property index \" + index + \" is out of range\");\n")
+			.append("\t\t\t}\n\t\t} catch (RuntimeException ex) {\n")
+			.append("\t\t\tthrow new ").append(INVALID_BEAN).append("(\"Error writing value \" + value + \" to property \" + properties[index].getName() + \" from bean \" + bean + \" - \" + ex.getMessage(), ex);\n")
+			.append("\t\t}\n\t}\n");
+
+		// readAll
+		source
+			.append("\t@Override\n\tpublic void readAll(").append(bean).append(" bean, Object[] out) throws ").append(INVALID_BEAN).append("\n\t{\n")
+			.append("\t\ttry {\n");
+		for (int i = 0; i < properties.length; ++i) {
+			source.append("\t\t\tout[").append(i).append("] = ").append(properties[i].canRead() ? readExpression(properties[i], i) : "null").append(";\n");
+		}
+		source
+			.append("\t\t} catch (RuntimeException ex) {\n")
+			.append("\t\t\tthrow new ").append(INVALID_BEAN).append("(\"Error reading properties from bean - \" + ex.getMessage(), ex);\n")
+			.append("\t\t}\n\t}\n");
+
+		// writeAll
+		source
+			.append("\t@Override\n\tpublic void writeAll(").append(bean).append(" bean, Object[] in) throws ").append(INVALID_BEAN).append("\n\t{\n")
+			.append("\t\ttry {\n");
+		for (int i = 0; i < properties.length; ++i) {
+			if (properties[i].canWrite()) {
+				source.append("\t\t\t").append(writeStatement(properties[i], i, "in[" + i + "]")).append(";\n");
+			}
+		}
+		source
+			.append("\t\t} catch (RuntimeException ex) {\n")
+			.append("\t\t\tthrow new ").append(INVALID_BEAN).append("(\"Error writing properties to bean \" + bean + \" - \" + ex.getMessage(), ex);\n")
+			.append("\t\t}\n\t}\n");
+
+		return source.append("}\n").toString();
+	}
+
+	private static String readExpression(BeanProperty property, int index)
+	{
+		Method readMethod = property.getReadMethod();
+
+		if (readMethod != null) {
+			if (isAccessible(readMethod.getModifiers())) {
+				return "bean." + readMethod.getName() + "()";
+			}
+		} else if (property.isPublicField() && isAccessible(property.getField().getModifiers())) {
+			return "bean." + property.getField().getName();
+		}
+
+		return "properties[" + index + "].read(bean)";
+	}
+
+	private static String writeStatement(BeanProperty property, int index, String value)
+	{
+		Method writeMethod = property.getWriteMethod();
+
+		if (writeMethod != null) {
+			Class type = writeMethod.getParameterTypes()[0];
+			if (isAccessible(writeMethod.getModifiers()) && isAccessible(type)) {
+				return "bean." + writeMethod.getName() + "(" + cast(type, value) + ")";
+			}
+		} else if (property.isPublicField()) {
+			Field field = property.getField();
+			if (isAccessible(field.getModifiers()) && !Modifier.isFinal(field.getModifiers()) && isAccessible(field.getType())) {
+				return "bean." + field.getName() + " = " + cast(field.getType(), value);
+			}
+		}
+
+		return "properties[" + index + "].write(bean, " + value + ")";
+	}
+
+	/**
+	 * Numeric primitives are unboxed with widening like reflection does (i.e. Integer to long), boolean, byte and char
+	 * are cast to their wrapper and get unboxed.
+	 */
+	private static String cast(Class type, String value)
+	{
+		if (type == short.class || type == int.class || type == long.class || type == float.class || type == double.class) {
+			String name = type.getName();
+			return HELPER + ".unbox" + Character.toUpperCase(name.charAt(0)) + name.substring(1) + "(" + value + ")";
+		}
+
+		if (type.isPrimitive()) {
+			return "(" + MethodType.methodType(type).wrap().returnType().getCanonicalName() + ") " + value;
+		}
+
+		return "(" + type.getCanonicalName() + ") " + value;
+	}
+
+	private static boolean isAccessible(int modifiers)
+	{
+		return Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers);
+	}
+
+	/**
+	 * Returns true if the type can be referenced by its canonical name from any package.
+	 */
+	private static boolean isAccessible(Class type)
+	{
+		if (type.isPrimitive()) {
+			return true;
+		}
+
+		if (type.isArray()) {
+			return isAccessible(type.getComponentType());
+		}
+
+		if (type.isHidden() || type.getCanonicalName() == null || !Modifier.isPublic(type.getModifiers())) {
+			return false;
+		}
+
+		Class enclosing = type.getEnclosingClass();
+
+		return enclosing == null || isAccessible(enclosing);
+	}
+
+	/**
+	 * The class path for compiling contains the locations of the bean class, its super types, the property types and
+	 * this library.
+	 */
+	private static String createClassPath(Class beanClass, BeanProperty[] properties)
+	{
+		Set<String> locations = new LinkedHashSet<>();
+
+		addLocations(BeanAccessor.class, locations);
+		addLocations(beanClass, locations);
+
+		for (BeanProperty property : properties) {
+			addLocations(property.getPropertyClass(), locations);
+		}
+
+		return String.join(File.pathSeparator, locations);
+	}
+
+	private static void addLocations(Class type, Set<String> locations)
+	{
+		while (type != null && type.isArray()) {
+			type = type.getComponentType();
+		}
+
+		if (type == null || type.isPrimitive()) {
+			return;
+		}
+
+		CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+
+		if (codeSource != null && codeSource.getLocation() != null) {
+			try {
+				locations.add(Path.of(codeSource.getLocation().toURI()).toString());
+			} catch (URISyntaxException | RuntimeException ex) {
+				// Locations which are no files can not be used by the compiler
+			}
+		}
+
+		addLocations(type.getSuperclass(), locations);
+
+		for (Class interfaceClass : type.getInterfaces()) {
+			addLocations(interfaceClass, locations);
+		}
+	}
+}
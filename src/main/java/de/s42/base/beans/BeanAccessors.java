@@ -0,0 +1,289 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Creates the accessors of {@link BeanProperty} and the instantiators of {@link BeanInfo}. Getter and setter methods
+ * and constructors are bound with LambdaMetafactory so they are invoked like a direct call (no varargs array, access
+ * check or InvocationTargetException), fields with cached MethodHandles. If a member can not be accessed that way the
+ * accessor falls back to reflection.
+ *
+ * @author Benjamin Schiller
+ */
+final class BeanAccessors
+{
+
+	private final static MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private final static MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private final static MethodType INSTANTIATOR_TYPE = MethodType.methodType(Object.class);
+	private final static MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private BeanAccessors()
+	{
+	}
+
+	/**
+	 * Reads a property value - throws the exceptions of the getter unwrapped.
+	 */
+	@FunctionalInterface
+	interface Getter
+	{
+
+		Object get(Object bean) throws Throwable;
+	}
+
+	/**
+	 * Writes a property value - throws the exceptions of the setter unwrapped.
+	 */
+	@FunctionalInterface
+	interface Setter
+	{
+
+		void set(Object bean, Object value) throws Throwable;
+	}
+
+	/**
+	 * Creates new instances - throws the exceptions of the constructor unwrapped.
+	 */
+	@FunctionalInterface
+	interface Instantiator
+	{
+
+		Object create() throws Throwable;
+	}
+
+	static Instantiator createInstantiator(Constructor<?> constructor)
+	{
+		assert constructor != null : "constructor != null";
+
+		try {
+			addReads(constructor.getDeclaringClass());
+			MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+
+			if (!isVisible(handle.type())) {
+				MethodHandle generic = handle.asType(INSTANTIATOR_TYPE);
+
+				return () -> (Object) generic.invokeExact();
+			}
+
+			CallSite site = LambdaMetafactory.metafactory(
+				LOOKUP,
+				"create",
+				MethodType.methodType(Instantiator.class),
+				INSTANTIATOR_TYPE,
+				handle,
+				handle.type()
+			);
+
+			return (Instantiator) site.getTarget().invoke();
+		} catch (Throwable ex) {
+			// Fall back to reflection below
+		}
+
+		return () -> {
+			try {
+				return constructor.newInstance();
+			} catch (InvocationTargetException ex) {
+				throw ex.getCause();
+			}
+		};
+	}
+
+	static Getter createGetter(Method method)
+	{
+		assert method != null : "method != null";
+
+		if (!Modifier.isStatic(method.getModifiers())) {
+			try {
+				MethodHandle handle = unreflect(method);
+
+				if (!isVisible(handle.type())) {
+					MethodHandle generic = handle.asType(GETTER_TYPE);
+
+					return (Object bean) -> (Object) generic.invokeExact(bean);
+				}
+
+				CallSite site = LambdaMetafactory.metafactory(
+					LOOKUP,
+					"get",
+					MethodType.methodType(Getter.class),
+					GETTER_TYPE,
+					handle,
+					handle.type().wrap()
+				);
+
+				return (Getter) site.getTarget().invoke();
+			} catch (Throwable ex) {
+				// Fall back to reflection below
+			}
+		}
+
+		return (Object bean) -> {
+			try {
+				return method.invoke(bean);
+			} catch (InvocationTargetException ex) {
+				throw ex.getCause();
+			}
+		};
+	}
+
+	static Setter createSetter(Method method)
+	{
+		assert method != null : "method != null";
+
+		if (!Modifier.isStatic(method.getModifiers())) {
+			try {
+				MethodHandle handle = unreflect(method);
+
+				// The metafactory casts to the exact wrapper - asType widens primitives like Method.invoke (Integer to long)
+				if (!isVisible(handle.type()) || method.getParameterTypes()[0].isPrimitive()) {
+					MethodHandle generic = handle.asType(SETTER_TYPE);
+
+					return (Object bean, Object value) -> {
+						generic.invokeExact(bean, value);
+					};
+				}
+
+				CallSite site = LambdaMetafactory.metafactory(
+					LOOKUP,
+					"set",
+					MethodType.methodType(Setter.class),
+					SETTER_TYPE,
+					handle,
+					handle.type().wrap().changeReturnType(void.class)
+				);
+
+				return (Setter) site.getTarget().invoke();
+			} catch (Throwable ex) {
+				// Fall back to reflection below
+			}
+		}
+
+		return (Object bean, Object value) -> {
+			try {
+				method.invoke(bean, value);
+			} catch (InvocationTargetException ex) {
+				throw ex.getCause();
+			}
+		};
+	}
+
+	static Getter createGetter(Field field)
+	{
+		assert field != null : "field != null";
+
+		try {
+			addReads(field.getDeclaringClass());
+			MethodHandle handle = LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+
+			return (Object bean) -> (Object) handle.invokeExact(bean);
+		} catch (IllegalAccessException | RuntimeException ex) {
+			return field::get;
+		}
+	}
+
+	static Setter createSetter(Field field)
+	{
+		assert field != null : "field != null";
+
+		try {
+			addReads(field.getDeclaringClass());
+			MethodHandle handle = LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
+
+			return (Object bean, Object value) -> {
+				handle.invokeExact(bean, value);
+			};
+		} catch (IllegalAccessException | RuntimeException ex) {
+			return field::set;
+		}
+	}
+
+	private static MethodHandle unreflect(Method method) throws IllegalAccessException
+	{
+		addReads(method.getDeclaringClass());
+
+		return LOOKUP.unreflect(method);
+	}
+
+	/**
+	 * The lambda classes are defined in the loader of this module and cast to the types of the handle. Types of other
+	 * loaders (i.e. compiled or plugin classes) are not resolvable from there - these get a plain MethodHandle which
+	 * also does not pin the class to this loader.
+	 */
+	private static boolean isVisible(MethodType type)
+	{
+		ClassLoader loader = BeanAccessors.class.getClassLoader();
+
+		for (Class<?> parameter : type.parameterArray()) {
+			if (!isVisible(parameter, loader)) {
+				return false;
+			}
+		}
+
+		return isVisible(type.returnType(), loader);
+	}
+
+	private static boolean isVisible(Class<?> type, ClassLoader loader)
+	{
+		while (type.isArray()) {
+			type = type.getComponentType();
+		}
+
+		if (type.isPrimitive()) {
+			return true;
+		}
+
+		try {
+			return Class.forName(type.getName(), false, loader) == type;
+		} catch (ClassNotFoundException | LinkageError ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * The generated accessors are linked from this module - so it has to read the module of the bean.
+	 */
+	private static void addReads(Class beanClass)
+	{
+		Module module = BeanAccessors.class.getModule();
+
+		if (!module.canRead(beanClass.getModule())) {
+			module.addReads(beanClass.getModule());
+		}
+	}
+}
@@ -0,0 +1,341 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Finds the changed properties of beans of one class - i.e. for persisting them incrementally. A snapshot is a compact
+ * array of the values of the tracked properties, which are the readable non transient properties without "class".
+ * Changes are returned as indices of {@link BeanInfo#getIndexedProperties()}, so they can be used with
+ * {@link BeanInfo#getAccessor()} directly. Values are kept by reference - changes inside mutable values like
+ * collections are not detected, arrays are compared by their content. Get it with {@link BeanInfo#getDiff()}.
+ *
+ * @author Benjamin Schiller
+ * @param <BeanClass>
+ */
+public final class BeanDiff<BeanClass>
+{
+
+	private final static int[] NO_CHANGES = new int[0];
+
+	protected final BeanInfo<BeanClass> info;
+	private final BeanAccessor<BeanClass> accessor;
+	// Property index of each snapshot slot
+	private final int[] propertyIndices;
+	private final List<String> propertyNames;
+	// true if the values of the slot may be arrays
+	private final boolean[] deepEquals;
+
+	public BeanDiff(Class<BeanClass> beanClass) throws InvalidBean
+	{
+		this(BeanHelper.getBeanInfo(beanClass));
+	}
+
+	public BeanDiff(BeanInfo<BeanClass> info)
+	{
+		assert info != null : "info != null";
+
+		this.info = info;
+		accessor = info.getAccessor();
+
+		List<BeanProperty<BeanClass, ?>> indexed = info.getIndexedProperties();
+		int[] indices = new int[indexed.size()];
+		boolean[] deep = new boolean[indexed.size()];
+		List<String> names = new ArrayList<>();
+		int count = 0;
+
+		for (int i = 0; i < indexed.size(); ++i) {
+
+			BeanProperty<BeanClass, ?> property = indexed.get(i);
+
+			if (!property.canRead()
+				|| property.isTransient()
+				|| "class".equals(property.getName())) {
+				continue;
+			}
+
+			Class<?> type = property.getPropertyClass();
+			indices[count] = i;
+			deep[count] = type.isArray() || type == Object.class;
+			names.add(property.getName());
+			++count;
+		}
+
+		propertyIndices = Arrays.copyOf(indices, count);
+		deepEquals = Arrays.copyOf(deep, count);
+		propertyNames = Collections.unmodifiableList(names);
+	}
+
+	/**
+	 * Reads the tracked properties of the bean.
+	 *
+	 * @param bean
+	 * @return the snapshot - its slots are the tracked properties in index order
+	 * @throws InvalidBean if a property can not be read
+	 */
+	public Object[] snapshot(BeanClass bean) throws InvalidBean
+	{
+		Object[] snapshot = new Object[propertyIndices.length];
+
+		snapshot(bean, snapshot);
+
+		return snapshot;
+	}
+
+	/**
+	 * Reads the tracked properties of the bean into an existing snapshot - i.e. to reuse it after persisting.
+	 *
+	 * @param bean
+	 * @param out Has to have at least the length of {@link #getPropertyCount()}
+	 * @throws InvalidBean if a property can not be read
+	 */
+	public void snapshot(BeanClass bean, Object[] out) throws InvalidBean
+	{
+		assert bean != null : "bean != null";
+		assert out != null : "out != null";
+		assert out.length >= propertyIndices.length : "out.length >= propertyIndices.length";
+
+		for (int i = 0; i < propertyIndices.length; ++i) {
+			out[i] = accessor.read(bean, propertyIndices[i]);
+		}
+	}
+
+	/**
+	 * Returns true if any tracked property of the bean differs from the snapshot - stops at the first change.
+	 *
+	 * @param snapshot
+	 * @param bean
+	 * @return true if the bean changed
+	 * @throws InvalidBean if a property can not be read
+	 */
+	public boolean isChanged(Object[] snapshot, BeanClass bean) throws InvalidBean
+	{
+		assert snapshot != null : "snapshot != null";
+		assert bean != null : "bean != null";
+
+		for (int i = 0; i < propertyIndices.length; ++i) {
+			if (!isEqual(i, snapshot[i], accessor.read(bean, propertyIndices[i]))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Compares two snapshots.
+	 *
+	 * @param before
+	 * @param after
+	 * @return the indices of the changed properties in ascending order
+	 */
+	public int[] changedIndices(Object[] before, Object[] after)
+	{
+		assert before != null : "before != null";
+		assert after != null : "after != null";
+
+		int[] changes = null;
+		int count = 0;
+
+		for (int i = 0; i < propertyIndices.length; ++i) {
+			if (!isEqual(i, before[i], after[i])) {
+				if (changes == null) {
+					changes = new int[propertyIndices.length - i];
+				}
+				changes[count++] = propertyIndices[i];
+			}
+		}
+
+		return toChanges(changes, count);
+	}
+
+	/**
+	 * Compares a snapshot with the current values of the bean.
+	 *
+	 * @param snapshot
+	 * @param bean
+	 * @return the indices of the changed properties in ascending order
+	 * @throws InvalidBean if a property can not be read
+	 */
+	public int[] changedIndices(Object[] snapshot, BeanClass bean) throws InvalidBean
+	{
+		assert snapshot != null : "snapshot != null";
+		assert bean != null : "bean != null";
+
+		int[] changes = null;
+		int count = 0;
+
+		for (int i = 0; i < propertyIndices.length; ++i) {
+			if (!isEqual(i, snapshot[i], accessor.read(bean, propertyIndices[i]))) {
+				if (changes == null) {
+					changes = new int[propertyIndices.length - i];
+				}
+				changes[count++] = propertyIndices[i];
+			}
+		}
+
+		return toChanges(changes, count);
+	}
+
+	/**
+	 * Compares two beans without taking snapshots.
+	 *
+	 * @param before
+	 * @param after
+	 * @return the indices of the changed properties in ascending order
+	 * @throws InvalidBean if a property can not be read
+	 */
+	public int[] changedIndices(BeanClass before, BeanClass after) throws InvalidBean
+	{
+		assert before != null : "before != null";
+		assert after != null : "after != null";
+
+		int[] changes = null;
+		int count = 0;
+
+		for (int i = 0; i < propertyIndices.length; ++i) {
+			int propertyIndex = propertyIndices[i];
+			if (!isEqual(i, accessor.read(before, propertyIndex), accessor.read(after, propertyIndex))) {
+				if (changes == null) {
+					changes = new int[propertyIndices.length - i];
+				}
+				changes[count++] = propertyIndex;
+			}
+		}
+
+		return toChanges(changes, count);
+	}
+
+	/**
+	 * Compares two snapshots.
+	 *
+	 * @param before
+	 * @param after
+	 * @return the names of the changed properties in index order
+	 */
+	public List<String> changedNames(Object[] before, Object[] after)
+	{
+		return getNames(changedIndices(before, after));
+	}
+
+	/**
+	 * Compares a snapshot with the current values of the bean.
+	 *
+	 * @param snapshot
+	 * @param bean
+	 * @return the names of the changed properties in index order
+	 * @throws InvalidBean if a property can not be read
+	 */
+	public List<String> changedNames(Object[] snapshot, BeanClass bean) throws InvalidBean
+	{
+		return getNames(changedIndices(snapshot, bean));
+	}
+
+	/**
+	 * Compares two beans without taking snapshots.
+	 *
+	 * @param before
+	 * @param after
+	 * @return the names of the changed properties in index order
+	 * @throws InvalidBean if a property can not be read
+	 */
+	public List<String> changedNames(BeanClass before, BeanClass after) throws InvalidBean
+	{
+		return getNames(changedIndices(before, after));
+	}
+
+	/**
+	 * Returns the names of the given property indices.
+	 *
+	 * @param propertyIndices
+	 * @return the names
+	 */
+	public List<String> getNames(int[] propertyIndices)
+	{
+		assert propertyIndices != null : "propertyIndices != null";
+
+		List<BeanProperty<BeanClass, ?>> indexed = info.getIndexedProperties();
+		List<String> names = new ArrayList<>(propertyIndices.length);
+
+		for (int propertyIndex : propertyIndices) {
+			names.add(indexed.get(propertyIndex).getName());
+		}
+
+		return names;
+	}
+
+	private boolean isEqual(int slot, Object value, Object other)
+	{
+		if (value == other) {
+			return true;
+		}
+
+		if (value == null || other == null) {
+			return false;
+		}
+
+		return deepEquals[slot] ? Objects.deepEquals(value, other) : value.equals(other);
+	}
+
+	private static int[] toChanges(int[] changes, int count)
+	{
+		if (count == 0) {
+			return NO_CHANGES;
+		}
+
+		return (count == changes.length) ? changes : Arrays.copyOf(changes, count);
+	}
+
+	/**
+	 * Returns the number of tracked properties - the length of a snapshot.
+	 *
+	 * @return the number of tracked properties
+	 */
+	public int getPropertyCount()
+	{
+		return propertyIndices.length;
+	}
+
+	/**
+	 * Returns the names of the tracked properties in the order of the snapshot slots.
+	 *
+	 * @return the names
+	 */
+	public List<String> getPropertyNames()
+	{
+		return propertyNames;
+	}
+
+	public BeanInfo<BeanClass> getBeanInfo()
+	{
+		return info;
+	}
+}
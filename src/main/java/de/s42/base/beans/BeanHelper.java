@@ -25,8 +25,7 @@
 //</editor-fold>
 package de.s42.base.beans;
 
-import java.util.*;
-import org.json.JSONObject;
+import java.util.Optional;
 
 /**
  *
@@ -35,29 +34,147 @@ import org.json.JSONObject;
 public final class BeanHelper
 {
 
-	private final static Map<Class, BeanInfo> infos = Collections.synchronizedMap(new HashMap<>());
+	/**
+	 * The infos are stored with the class itself, so they do not prevent unloading it. ClassValue may compute values
+	 * concurrently and keeps just one of them - so it holds a cheap holder which creates the info once.
+	 */
+	private final static ClassValue<BeanInfoHolder> infos = new ClassValue<>()
+	{
+		@Override
+		protected BeanInfoHolder computeValue(Class<?> type)
+		{
+			return new BeanInfoHolder(type);
+		}
+	};
+
+	private static volatile boolean generateAccessors = Boolean.getBoolean("de.s42.base.beans.generateAccessors");
 
 	private BeanHelper()
 	{
 		// never instantiated
 	}
 
+	private static final class BeanInfoHolder
+	{
+
+		private final Class beanClass;
+		private volatile BeanInfo info;
+		private volatile BeanMetadata metadata;
+		private volatile boolean metadataLoaded;
+
+		BeanInfoHolder(Class beanClass)
+		{
+			this.beanClass = beanClass;
+		}
+
+		@SuppressWarnings("unchecked")
+		BeanInfo get() throws InvalidBean
+		{
+			BeanInfo current = info;
+
+			if (current == null) {
+				synchronized (this) {
+					current = info;
+					// A failed creation is not cached and gets retried on the next call
+					if (current == null) {
+						BeanMetadata currentMetadata = getMetadata();
+						if (currentMetadata != null) {
+							current = new BeanInfo(currentMetadata);
+						} else {
+							current = new BeanInfo(beanClass);
+						}
+						info = current;
+					}
+				}
+			}
+
+			return current;
+		}
+
+		/**
+		 * Initializing the generated metadata class registers its metadata - loading it again is harmless.
+		 */
+		@SuppressWarnings("unchecked")
+		BeanMetadata getMetadata()
+		{
+			BeanMetadata current = metadata;
+
+			if (current == null && !metadataLoaded) {
+				if (beanClass.isAnnotationPresent(GenerateBeanMetadata.class)) {
+					try {
+						Class.forName(beanClass.getName() + BeanMetadata.CLASS_NAME_SUFFIX, true, beanClass.getClassLoader());
+					} catch (ClassNotFoundException ex) {
+						// The processor did not run -> introspect the class
+					}
+				}
+				metadataLoaded = true;
+				current = metadata;
+			}
+
+			return current;
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	public static <BeanType> BeanInfo<BeanType> getBeanInfo(Class<? extends BeanType> beanClass) throws InvalidBean
 	{
 		assert beanClass != null : "beanClass != null";
 
-		BeanInfo<BeanType> info = infos.get(beanClass);
+		return infos.get(beanClass).get();
+	}
 
-		if (info != null) {
-			return info;
-		}
+	/**
+	 * Registers precomputed metadata which {@link #getBeanInfo(Class)} uses instead of introspecting the bean class.
+	 * Generated metadata registers itself, see {@link GenerateBeanMetadata}. Bean infos which already got created are
+	 * not affected.
+	 *
+	 * @param metadata
+	 */
+	public static void registerBeanMetadata(BeanMetadata<?> metadata)
+	{
+		assert metadata != null : "metadata != null";
+		assert metadata.getBeanClass() != null : "metadata.getBeanClass() != null";
 
-		info = new BeanInfo(beanClass);
+		infos.get(metadata.getBeanClass()).metadata = metadata;
+	}
 
-		infos.put(beanClass, info);
+	/**
+	 * Returns the registered metadata of the bean class - loads the generated metadata of classes marked with
+	 * {@link GenerateBeanMetadata}.
+	 *
+	 * @param <BeanType>
+	 * @param beanClass
+	 * @return the metadata or empty if there is none
+	 */
+	@SuppressWarnings("unchecked")
+	public static <BeanType> Optional<BeanMetadata<BeanType>> getBeanMetadata(Class<BeanType> beanClass)
+	{
+		assert beanClass != null : "beanClass != null";
 
-		return info;
+		return Optional.ofNullable(infos.get(beanClass).getMetadata());
+	}
+
+	/**
+	 * Returns true if {@link BeanInfo#getAccessor()} generates a class per bean type. Defaults to the system property
+	 * de.s42.base.beans.generateAccessors.
+	 *
+	 * @return true if accessors get generated
+	 */
+	public static boolean isGenerateAccessors()
+	{
+		return generateAccessors;
+	}
+
+	/**
+	 * Sets if {@link BeanInfo#getAccessor()} generates a class per bean type. Generating requires a JDK (java.compiler)
+	 * and takes some time per bean class, so enable it for beans accessed in hot loops. Already created accessors are
+	 * not affected.
+	 *
+	 * @param generateAccessors
+	 */
+	public static void setGenerateAccessors(boolean generateAccessors)
+	{
+		BeanHelper.generateAccessors = generateAccessors;
 	}
 
 	public static boolean hasProperty(Object bean, String property) throws InvalidBean
@@ -85,12 +202,121 @@ public final class BeanHelper
 		return (ReturnType) info.read(bean, property);
 	}
 
+	/**
+	 * Returns the bean as JSON - see {@link BeanJsonWriter} to write it directly to a stream. Getters and public fields
+	 * are written, public classes outside of the JDK as beans and other values converted with
+	 * {@link de.s42.base.conversion.ConversionHelper}.
+	 *
+	 * @param bean
+	 * @return the JSON string
+	 */
 	public static String toJSON(Object bean)
 	{
 		assert bean != null : "bean != null";
 
-		JSONObject obj = new JSONObject(bean);
+		return BeanJsonWriter.toJSON(bean);
+	}
+
+	/**
+	 * Unboxes the value of a short property like reflection does - Byte values are widened.
+	 *
+	 * @param value
+	 * @return the primitive value
+	 * @throws ClassCastException if value can not be widened to short
+	 * @throws NullPointerException if value is null
+	 */
+	public static short unboxShort(Object value) throws ClassCastException, NullPointerException
+	{
+		if (value instanceof Short number) {
+			return number;
+		}
+		if (value instanceof Byte number) {
+			return number;
+		}
+
+		throw unboxFailure(value, short.class);
+	}
+
+	/**
+	 * Unboxes the value of an int property like reflection does - Short, Byte and Character values are widened.
+	 *
+	 * @param value
+	 * @return the primitive value
+	 * @throws ClassCastException if value can not be widened to int
+	 * @throws NullPointerException if value is null
+	 */
+	public static int unboxInt(Object value) throws ClassCastException, NullPointerException
+	{
+		if (value instanceof Integer number) {
+			return number;
+		}
+		if (value instanceof Character character) {
+			return character;
+		}
+
+		return unboxShort(value);
+	}
+
+	/**
+	 * Unboxes the value of a long property like reflection does - Integer, Short, Byte and Character values are
+	 * widened.
+	 *
+	 * @param value
+	 * @return the primitive value
+	 * @throws ClassCastException if value can not be widened to long
+	 * @throws NullPointerException if value is null
+	 */
+	public static long unboxLong(Object value) throws ClassCastException, NullPointerException
+	{
+		if (value instanceof Long number) {
+			return number;
+		}
+
+		return unboxInt(value);
+	}
+
+	/**
+	 * Unboxes the value of a float property like reflection does - Long, Integer, Short, Byte and Character values
+	 * are widened.
+	 *
+	 * @param value
+	 * @return the primitive value
+	 * @throws ClassCastException if value can not be widened to float
+	 * @throws NullPointerException if value is null
+	 */
+	public static float unboxFloat(Object value) throws ClassCastException, NullPointerException
+	{
+		if (value instanceof Float number) {
+			return number;
+		}
+
+		return unboxLong(value);
+	}
+
+	/**
+	 * Unboxes the value of a double property like reflection does - all other numeric wrappers and Character values
+	 * are widened.
+	 *
+	 * @param value
+	 * @return the primitive value
+	 * @throws ClassCastException if value can not be widened to double
+	 * @throws NullPointerException if value is null
+	 */
+	public static double unboxDouble(Object value) throws ClassCastException, NullPointerException
+	{
+		if (value instanceof Double number) {
+			return number;
+		}
+
+		return unboxFloat(value);
+	}
+
+	private static RuntimeException unboxFailure(Object value, Class primitiveClass)
+	{
+		if (value == null) {
+			return new NullPointerException("Can not unbox null to " + primitiveClass.getName());
+		}
 
-		return obj.toString();
+		return new ClassCastException("Can not unbox " + value.getClass().getName() + " to " + primitiveClass.getName());
 	}
 }
@@ -31,20 +31,22 @@ import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  *
@@ -54,15 +56,47 @@ import java.util.Set;
 public final class BeanInfo<BeanClass>
 {
 
+	/**
+	 * All fields of a class and its superclasses by name (fields of subclasses hide the ones of superclasses) - each
+	 * class reuses the map of its superclass instead of fetching the declared fields of the hierarchy again.
+	 */
+	private final static ClassValue<Map<String, Field>> FIELDS = new ClassValue<>()
+	{
+		@Override
+		protected Map<String, Field> computeValue(Class<?> type)
+		{
+			Map<String, Field> fields;
+
+			if (type.getSuperclass() != null) {
+				fields = new HashMap<>(get(type.getSuperclass()));
+			} else {
+				fields = new HashMap<>();
+			}
+
+			for (Field field : type.getDeclaredFields()) {
+				fields.put(field.getName(), field);
+			}
+
+			return Collections.unmodifiableMap(fields);
+		}
+	};
+
 	protected final Class<BeanClass> beanClass;
 	protected final java.beans.BeanInfo beanInfo;
 	protected final int modifiers;
-	protected final Set<BeanProperty<BeanClass, ?>> properties;
-	protected final Set<BeanProperty<BeanClass, ?>> ownProperties;
-	protected final Set<BeanProperty<BeanClass, ?>> readProperties;
-	protected final Set<BeanProperty<BeanClass, ?>> writeProperties;
 	protected final Map<String, BeanProperty<BeanClass, ?>> propertiesByName;
 
+	// Derived views are created on first use - they are immutable, so concurrent creation is harmless
+	private volatile Set<BeanProperty<BeanClass, ?>> properties;
+	private volatile Set<BeanProperty<BeanClass, ?>> ownProperties;
+	private volatile Set<BeanProperty<BeanClass, ?>> readProperties;
+	private volatile Set<BeanProperty<BeanClass, ?>> writeProperties;
+	private volatile List<BeanProperty<BeanClass, ?>> indexedProperties;
+	private volatile Map<String, Integer> propertyIndices;
+	private volatile BeanAccessor<BeanClass> accessor;
+	private volatile BeanAccessors.Instantiator instantiator;
+	private volatile BeanDiff<BeanClass> diff;
+
 	public BeanInfo(Class<BeanClass> beanClass) throws InvalidBean
 	{
 		assert beanClass != null;
@@ -75,98 +109,170 @@ public final class BeanInfo<BeanClass>
 
 			beanInfo = Introspector.getBeanInfo(beanClass);
 
-			properties = Collections.unmodifiableSet(createProperties(beanClass));
-
-			// prepare filtered properties
-			Set<BeanProperty<BeanClass, ?>> ownProps = new HashSet<>();
-			Set<BeanProperty<BeanClass, ?>> rProps = new HashSet<>();
-			Set<BeanProperty<BeanClass, ?>> wProps = new HashSet<>();
-			Map<String, BeanProperty<BeanClass, ?>> propsByName = new HashMap<>();
-			for (BeanProperty<BeanClass, ?> property : properties) {
-				if (property.isOwn()) {
-					ownProps.add(property);
-				}
-				if (property.canRead()) {
-					rProps.add(property);
-				}
-				if (property.canWrite()) {
-					wProps.add(property);
-				}
-				propsByName.put(property.getName(), property);
-			}
-			ownProperties = Collections.unmodifiableSet(ownProps);
-			readProperties = Collections.unmodifiableSet(rProps);
-			writeProperties = Collections.unmodifiableSet(wProps);
-			propertiesByName = Collections.unmodifiableMap(propsByName);
+			propertiesByName = Collections.unmodifiableMap(createPropertiesByName(beanClass, beanInfo));
 		} catch (IntrospectionException ex) {
 			throw new InvalidBean("Error creating bean info - " + ex.getMessage(), ex);
 		}
 	}
 
-	// @todo could be optimized? necessary?
-	protected static List<Field> getAllFields(Class beanClass)
+	/**
+	 * Creates the info from precomputed metadata without introspecting the bean class. Fields and methods are looked up
+	 * by their names, the properties read and write with the direct accessors of the metadata.
+	 *
+	 * @param metadata
+	 * @throws InvalidBean if a member of the metadata does not exist in the bean class
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public BeanInfo(BeanMetadata<BeanClass> metadata) throws InvalidBean
 	{
-		assert beanClass != null;
-		
-		List<Field> fields = new ArrayList<>();
-
-		// Retrieve parents fields
-		if (beanClass.getSuperclass() != null) {
-			fields.addAll(getAllFields(beanClass.getSuperclass()));
+		assert metadata != null : "metadata != null";
+
+		beanClass = metadata.getBeanClass();
+		modifiers = beanClass.getModifiers();
+		beanInfo = null;
+		instantiator = metadata::newInstance;
+
+		Map<String, Field> fields = FIELDS.get(beanClass);
+		List<PropertyMetadata<BeanClass>> propertiesMetadata = metadata.getProperties();
+		Map<String, BeanProperty<BeanClass, ?>> result = new HashMap<>(propertiesMetadata.size());
+
+		for (PropertyMetadata<BeanClass> propertyMetadata : propertiesMetadata) {
+
+			try {
+				Field field = (propertyMetadata.getFieldName() != null) ? fields.get(propertyMetadata.getFieldName()) : null;
+				Method readMethod = (propertyMetadata.getReadMethodName() != null)
+					? beanClass.getMethod(propertyMetadata.getReadMethodName())
+					: null;
+				Method writeMethod = (propertyMetadata.getWriteMethodName() != null)
+					? beanClass.getMethod(propertyMetadata.getWriteMethodName(), propertyMetadata.getWriteClass())
+					: null;
+
+				BeanProperty property = createProperty(
+					beanClass,
+					field,
+					propertyMetadata.getName(),
+					propertyMetadata.getPropertyClass(),
+					readMethod,
+					writeMethod,
+					createDescriptor(propertyMetadata.getName(), readMethod, writeMethod));
+
+				property.setAccessors((Function) propertyMetadata.getGetter(), (BiConsumer) propertyMetadata.getSetter());
+
+				result.put(propertyMetadata.getName(), property);
+			} catch (NoSuchMethodException ex) {
+				throw new InvalidBean("Error creating bean info of " + beanClass.getName() + " from metadata for property " + propertyMetadata.getName() + " - " + ex.getMessage(), ex);
+			}
 		}
 
-		fields.addAll(Arrays.asList(beanClass.getDeclaredFields()));
+		propertiesByName = Collections.unmodifiableMap(result);
+	}
 
-		return fields;
+	/**
+	 * PropertyDescriptor rejects setters with a narrower type than the getter which the Introspector accepts - these
+	 * properties have no descriptor.
+	 */
+	private static PropertyDescriptor createDescriptor(String name, Method readMethod, Method writeMethod)
+	{
+		if (readMethod == null && writeMethod == null) {
+			return null;
+		}
+
+		try {
+			return new PropertyDescriptor(name, readMethod, writeMethod);
+		} catch (IntrospectionException ex) {
+			return null;
+		}
 	}
 
-	@SuppressWarnings("unchecked")
 	public static <BeanClass> Set<BeanProperty<BeanClass, ?>> createProperties(Class beanClass) throws InvalidBean
 	{
 		assert beanClass != null;
 
 		try {
+			Map<String, BeanProperty<BeanClass, ?>> propsByName = createPropertiesByName(beanClass, Introspector.getBeanInfo(beanClass));
 
-			Set<BeanProperty<BeanClass, ?>> result = new HashSet<>();
-
-			Map<String, Field> fields = new HashMap<>();
-			for (Field field : getAllFields(beanClass)/*beanClass.getDeclaredFields()*/) {
-				fields.put(field.getName(), field);
-			}
-
-			Set<Method> declaredMethods = new HashSet<>(Arrays.asList(beanClass.getDeclaredMethods()));
-
-			java.beans.BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
-			for (PropertyDescriptor desc : beanInfo.getPropertyDescriptors()) {
-
-				// make sure it is not an indexed property with no default access - see javadoc of the method getPropertyType
-				if (desc.getPropertyType() != null) {
+			return new HashSet<>(propsByName.values());
+		} catch (IntrospectionException ex) {
+			throw new InvalidBean("Error creating bean properties - " + ex.getMessage(), ex);
+		}
+	}
 
-					result.add(createProperty(fields.get(desc.getName()), desc, declaredMethods));
+	@SuppressWarnings("unchecked")
+	protected static <BeanClass> Map<String, BeanProperty<BeanClass, ?>> createPropertiesByName(Class beanClass, java.beans.BeanInfo beanInfo) throws InvalidBean
+	{
+		assert beanClass != null;
+		assert beanInfo != null;
+
+		Map<String, Field> fields = FIELDS.get(beanClass);
+		PropertyDescriptor[] descriptors = beanInfo.getPropertyDescriptors();
+		Map<String, BeanProperty<BeanClass, ?>> result = new HashMap<>(descriptors.length + fields.size());
+		Set<String> indexedOnly = null;
+
+		for (PropertyDescriptor desc : descriptors) {
+
+			// make sure it is not an indexed property with no default access - see javadoc of the method getPropertyType
+			if (desc.getPropertyType() != null) {
+				result.put(desc.getName(), createProperty(beanClass, fields.get(desc.getName()), desc));
+			} // Make sure the field does not show up later as field only property
+			else {
+				if (indexedOnly == null) {
+					indexedOnly = new HashSet<>();
 				}
-
-				// Make sure the field is removed to not show up twice later with field only properties
-				fields.remove(desc.getName());
+				indexedOnly.add(desc.getName());
 			}
+		}
 
-			// Iterate the left over field -> public non static fields will get added as well
-			for (Field field : fields.values()) {
-				int modifiers = field.getModifiers();
-				if (Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers)) {
-					result.add(createProperty(field, null, declaredMethods));
-				}
+		// Iterate the left over fields -> public non static fields will get added as well
+		for (Field field : fields.values()) {
+			int modifiers = field.getModifiers();
+			if (Modifier.isPublic(modifiers)
+				&& !Modifier.isStatic(modifiers)
+				&& !result.containsKey(field.getName())
+				&& (indexedOnly == null || !indexedOnly.contains(field.getName()))) {
+				result.put(field.getName(), createProperty(beanClass, field, null));
 			}
-
-			return result;
-		} catch (IntrospectionException ex) {
-			throw new InvalidBean("Error creating bean properties - " + ex.getMessage(), ex);
 		}
+
+		return result;
 	}
 
-	protected static BeanProperty createProperty(Field field, PropertyDescriptor desc, Set<Method> declaredMethods) throws InvalidBean
+	protected static BeanProperty createProperty(Class beanClass, Field field, PropertyDescriptor desc) throws InvalidBean
 	{
+		assert beanClass != null;
 		assert (field != null) || (desc != null);
 
+		// field and desc
+		if (desc != null) {
+			return createProperty(beanClass, field, desc.getName(), desc.getPropertyType(), desc.getReadMethod(), desc.getWriteMethod(), desc);
+		} // field only -> public field
+		else if (field != null) {
+			return createProperty(beanClass, field, field.getName(), field.getType(), null, null, null);
+		} else {
+			throw new InvalidBean("Either field or desc has to be non null");
+		}
+	}
+
+	/**
+	 * Creates the property from its parts - the descriptor is optional, so properties can be created without the
+	 * checks of PropertyDescriptor (which rejects setters with a narrower type than the getter).
+	 */
+	protected static BeanProperty createProperty(
+		Class beanClass,
+		Field field,
+		String name,
+		Class propertyType,
+		Method readMethod,
+		Method writeMethod,
+		PropertyDescriptor desc
+	) throws InvalidBean
+	{
+		assert beanClass != null;
+		assert name != null;
+
+		if (field == null && readMethod == null && writeMethod == null) {
+			throw new InvalidBean("Either field or read or write method has to be non null for property " + name);
+		}
+
 		// Get generic types
 		List<Class> genericTypes = new ArrayList<>();
 		if (field != null && field.getGenericType() instanceof ParameterizedType) {
@@ -179,51 +285,95 @@ public final class BeanInfo<BeanClass>
 			}
 		}
 
-		// field and desc
-		if (desc != null) {
-
-			// Determine is own
-			boolean own
-				= (field != null)
-				|| declaredMethods.contains(desc.getReadMethod())
-				|| declaredMethods.contains(desc.getWriteMethod());
-
-			Class<?> type = (field != null) ? field.getType() : desc.getPropertyType();
-
-			return new BeanProperty<>(
-				desc.getName(),
-				type,
-				desc.getReadMethod(),
-				desc.getWriteMethod(),
-				field,
-				genericTypes,
-				own,
-				desc);
-		} // field only -> public field
-		else if (field != null) {
+		// field only -> public field
+		if (readMethod == null && writeMethod == null) {
 			return new BeanProperty<>(
-				field.getName(),
+				name,
 				field.getType(),
+				field.getGenericType(),
 				null,
 				null,
 				field,
 				genericTypes,
 				true,
 				desc);
+		}
+
+		// Determine is own
+		boolean own
+			= (field != null)
+			|| isDeclaredBy(readMethod, beanClass)
+			|| isDeclaredBy(writeMethod, beanClass);
+
+		Class<?> type = (field != null) ? field.getType() : propertyType;
+
+		Type genericType;
+		if (field != null) {
+			genericType = field.getGenericType();
+		} else if (readMethod != null) {
+			genericType = readMethod.getGenericReturnType();
 		} else {
-			throw new InvalidBean("Either field or desc has to be non null");
+			genericType = writeMethod.getGenericParameterTypes()[0];
 		}
+
+		return new BeanProperty<>(
+			name,
+			type,
+			genericType,
+			readMethod,
+			writeMethod,
+			field,
+			genericTypes,
+			own,
+			desc);
 	}
 
+	private static boolean isDeclaredBy(Method method, Class beanClass)
+	{
+		return method != null && method.getDeclaringClass() == beanClass;
+	}
+
+	private Set<BeanProperty<BeanClass, ?>> filterProperties(Predicate<BeanProperty<BeanClass, ?>> filter)
+	{
+		Set<BeanProperty<BeanClass, ?>> result = new HashSet<>();
+
+		for (BeanProperty<BeanClass, ?> property : propertiesByName.values()) {
+			if (filter.test(property)) {
+				result.add(property);
+			}
+		}
+
+		return Collections.unmodifiableSet(result);
+	}
+
+	@SuppressWarnings("unchecked")
 	public BeanClass newInstance() throws InvalidBean
 	{
 		try {
-			return (BeanClass) beanClass.getConstructor().newInstance();
-		} catch (IllegalAccessException | IllegalArgumentException | InstantiationException | NoSuchMethodException | SecurityException | InvocationTargetException ex) {
+			return (BeanClass) getInstantiator().create();
+		} catch (InvalidBean | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
 			throw new InvalidBean("Error instantiating bean - " + ex.getMessage(), ex);
 		}
 	}
 
+	private BeanAccessors.Instantiator getInstantiator() throws InvalidBean
+	{
+		BeanAccessors.Instantiator current = instantiator;
+
+		if (current == null) {
+			try {
+				current = BeanAccessors.createInstantiator(beanClass.getConstructor());
+			} catch (NoSuchMethodException | SecurityException ex) {
+				throw new InvalidBean("Error instantiating bean - " + ex.getMessage(), ex);
+			}
+			instantiator = current;
+		}
+
+		return current;
+	}
+
 	public boolean isFinal()
 	{
 		return Modifier.isFinal(modifiers);
@@ -291,7 +441,7 @@ public final class BeanInfo<BeanClass>
 			throw new RuntimeException("Property " + propertyName + " is not contained in bean " + beanClass.getCanonicalName());
 		}
 
-		prop.write(bean, ConversionHelper.convert(value, prop.getPropertyClass()));
+		prop.write(bean, ConversionHelper.convert(value, prop.getGenericType()));
 	}
 
 	public boolean hasProperty(String name)
@@ -334,22 +484,50 @@ public final class BeanInfo<BeanClass>
 
 	public Set<BeanProperty<BeanClass, ?>> getProperties()
 	{
-		return properties;
+		Set<BeanProperty<BeanClass, ?>> current = properties;
+
+		if (current == null) {
+			current = Collections.unmodifiableSet(new HashSet<>(propertiesByName.values()));
+			properties = current;
+		}
+
+		return current;
 	}
 
 	public Set<BeanProperty<BeanClass, ?>> getOwnProperties()
 	{
-		return ownProperties;
+		Set<BeanProperty<BeanClass, ?>> current = ownProperties;
+
+		if (current == null) {
+			current = filterProperties(BeanProperty::isOwn);
+			ownProperties = current;
+		}
+
+		return current;
 	}
 
 	public Set<BeanProperty<BeanClass, ?>> getReadProperties()
 	{
-		return readProperties;
+		Set<BeanProperty<BeanClass, ?>> current = readProperties;
+
+		if (current == null) {
+			current = filterProperties(BeanProperty::canRead);
+			readProperties = current;
+		}
+
+		return current;
 	}
 
 	public Set<BeanProperty<BeanClass, ?>> getWriteProperties()
 	{
-		return writeProperties;
+		Set<BeanProperty<BeanClass, ?>> current = writeProperties;
+
+		if (current == null) {
+			current = filterProperties(BeanProperty::canWrite);
+			writeProperties = current;
+		}
+
+		return current;
 	}
 
 	public Map<String, BeanProperty<BeanClass, ?>> getPropertiesByName()
@@ -357,6 +535,101 @@ public final class BeanInfo<BeanClass>
 		return propertiesByName;
 	}
 
+	/**
+	 * Returns the properties sorted by name - their positions are the indices used by {@link #getAccessor()}.
+	 *
+	 * @return the properties in index order
+	 */
+	public List<BeanProperty<BeanClass, ?>> getIndexedProperties()
+	{
+		List<BeanProperty<BeanClass, ?>> current = indexedProperties;
+
+		if (current == null) {
+			current = new ArrayList<>(propertiesByName.values());
+			current.sort(Comparator.comparing(BeanProperty::getName));
+			current = Collections.unmodifiableList(current);
+			indexedProperties = current;
+		}
+
+		return current;
+	}
+
+	/**
+	 * Returns the index of the property for {@link #getAccessor()}.
+	 *
+	 * @param name
+	 * @return the index or -1 if there is no such property
+	 */
+	public int getPropertyIndex(String name)
+	{
+		assert name != null;
+
+		Map<String, Integer> indices = propertyIndices;
+
+		if (indices == null) {
+			List<BeanProperty<BeanClass, ?>> indexed = getIndexedProperties();
+			indices = new HashMap<>(indexed.size());
+			for (int i = 0; i < indexed.size(); ++i) {
+				indices.put(indexed.get(i).getName(), i);
+			}
+			indices = Collections.unmodifiableMap(indices);
+			propertyIndices = indices;
+		}
+
+		Integer index = indices.get(name);
+
+		return (index != null) ? index : -1;
+	}
+
+	/**
+	 * Returns the indexed accessor of this bean class. If {@link BeanHelper#isGenerateAccessors()} is set, a class
+	 * calling the getters, setters and fields directly is generated on first call - otherwise or if the generation is
+	 * not possible the accessor uses the properties.
+	 *
+	 * @return the accessor
+	 */
+	@SuppressWarnings("unchecked")
+	public BeanAccessor<BeanClass> getAccessor()
+	{
+		BeanAccessor<BeanClass> current = accessor;
+
+		if (current == null) {
+			synchronized (this) {
+				current = accessor;
+				if (current == null) {
+					BeanProperty<BeanClass, ?>[] props = getIndexedProperties().toArray(BeanProperty[]::new);
+					if (BeanHelper.isGenerateAccessors()) {
+						current = BeanAccessorGenerator.generate(beanClass, props);
+					}
+					if (current == null) {
+						current = new PropertyBeanAccessor<>(props);
+					}
+					accessor = current;
+				}
+			}
+		}
+
+		return current;
+	}
+
+	/**
+	 * Returns the diff of this bean class for snapshots and change detection - created on first use.
+	 *
+	 * @return the diff
+	 */
+	public BeanDiff<BeanClass> getDiff()
+	{
+		BeanDiff<BeanClass> current = diff;
+
+		// The diff is immutable, so concurrent creation is harmless
+		if (current == null) {
+			current = new BeanDiff<>(this);
+			diff = current;
+		}
+
+		return current;
+	}
+
 	@Override
 	public String toString()
 	{
@@ -0,0 +1,601 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans;
+
+import de.s42.base.conversion.ConversionHelper;
+import de.s42.base.conversion.Converter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONString;
+
+/**
+ * Writes beans as JSON directly to a {@link StringBuilder}, {@link Writer}, {@link Appendable} or an
+ * {@link OutputStream}. The way to write a class is resolved once and cached with the class - for beans the readable,
+ * non transient properties of their {@link BeanInfo}.
+ * <p>
+ * Beans and maps become objects (null properties are omitted), iterables and arrays become arrays, numbers and
+ * booleans are written as is (non finite numbers as null), enums by their name and all other values as strings
+ * converted with {@link ConversionHelper}. Cyclic references fail with a RuntimeException.
+ *
+ * @author Benjamin Schiller
+ */
+public final class BeanJsonWriter
+{
+
+	private final static char[] HEX = "0123456789abcdef".toCharArray();
+
+	/**
+	 * Writes a non null value of a certain class.
+	 */
+	@FunctionalInterface
+	private interface ValueWriter
+	{
+
+		void write(Object value, Output out) throws IOException;
+	}
+
+	/**
+	 * Collects the JSON in a StringBuilder, which is passed on to the sink in chunks - this avoids the locking and
+	 * per char calls of writers and allows numbers to be appended without creating strings.
+	 */
+	private static final class Output
+	{
+
+		private final static int CHUNK_SIZE = 8192;
+
+		final StringBuilder builder;
+		private final Writer writer;
+		private final Appendable appendable;
+		private char[] chunk;
+		// Beans, maps, iterables and arrays currently being written - the path is short so a scan beats hashing
+		private Object[] path = new Object[16];
+		private int depth;
+
+		Output(StringBuilder builder)
+		{
+			this.builder = builder;
+			writer = null;
+			appendable = null;
+		}
+
+		Output(Writer writer)
+		{
+			builder = new StringBuilder(CHUNK_SIZE + 256);
+			this.writer = writer;
+			appendable = null;
+		}
+
+		Output(Appendable appendable)
+		{
+			builder = new StringBuilder(CHUNK_SIZE + 256);
+			writer = null;
+			this.appendable = appendable;
+		}
+
+		void enter(Object value)
+		{
+			for (int i = 0; i < depth; ++i) {
+				if (path[i] == value) {
+					throw new RuntimeException("Cyclic reference to " + value.getClass().getName() + " at depth " + depth);
+				}
+			}
+
+			if (depth == path.length) {
+				path = Arrays.copyOf(path, depth * 2);
+			}
+
+			path[depth++] = value;
+		}
+
+		void leave()
+		{
+			path[--depth] = null;
+		}
+
+		void flushIfFull() throws IOException
+		{
+			if (builder.length() >= CHUNK_SIZE) {
+				flush();
+			}
+		}
+
+		void flush() throws IOException
+		{
+			int length = builder.length();
+
+			if (length == 0) {
+				return;
+			}
+
+			if (writer != null) {
+				if (chunk == null || chunk.length < length) {
+					chunk = new char[Math.max(length, CHUNK_SIZE + 256)];
+				}
+				builder.getChars(0, length, chunk, 0);
+				writer.write(chunk, 0, length);
+			} else if (appendable != null) {
+				appendable.append(builder);
+			} else {
+				return;
+			}
+
+			builder.setLength(0);
+		}
+	}
+
+	private final static ClassValue<ValueWriter> WRITERS = new ClassValue<>()
+	{
+		@Override
+		protected ValueWriter computeValue(Class<?> type)
+		{
+			return createWriter(type);
+		}
+	};
+
+	private BeanJsonWriter()
+	{
+		// never instantiated
+	}
+
+	public static String toJSON(Object value)
+	{
+		StringBuilder builder = new StringBuilder(256);
+
+		write(value, builder);
+
+		return builder.toString();
+	}
+
+	public static void write(Object value, StringBuilder builder)
+	{
+		assert builder != null : "builder != null";
+
+		try {
+			writeValue(value, new Output(builder));
+		} catch (IOException ex) {
+			// StringBuilder does not throw
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * Writes the value to the writer - the writer is not flushed or closed.
+	 *
+	 * @param value
+	 * @param writer
+	 * @throws IOException
+	 */
+	public static void write(Object value, Writer writer) throws IOException
+	{
+		assert writer != null : "writer != null";
+
+		Output out = new Output(writer);
+		writeValue(value, out);
+		out.flush();
+	}
+
+	public static void write(Object value, Appendable appendable) throws IOException
+	{
+		assert appendable != null : "appendable != null";
+
+		if (appendable instanceof StringBuilder builder) {
+			write(value, builder);
+		} else if (appendable instanceof Writer writer) {
+			write(value, writer);
+		} else {
+			Output out = new Output(appendable);
+			writeValue(value, out);
+			out.flush();
+		}
+	}
+
+	/**
+	 * Writes the value as UTF-8 to the stream - the stream is flushed but not closed.
+	 *
+	 * @param value
+	 * @param out
+	 * @throws IOException
+	 */
+	public static void write(Object value, OutputStream out) throws IOException
+	{
+		assert out != null : "out != null";
+
+		Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+		write(value, writer);
+		writer.flush();
+	}
+
+	private static void writeValue(Object value, Output out) throws IOException
+	{
+		if (value == null || value == JSONObject.NULL) {
+			out.builder.append("null");
+			return;
+		}
+
+		WRITERS.get(value.getClass()).write(value, out);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ValueWriter createWriter(Class<?> type)
+	{
+		if (CharSequence.class.isAssignableFrom(type) || type == Character.class) {
+			return (value, out) -> writeString(value.toString(), out.builder);
+		}
+
+		if (type == Integer.class || type == Long.class || type == Short.class || type == Byte.class) {
+			return (value, out) -> out.builder.append(((Number) value).longValue());
+		}
+
+		if (type == Boolean.class) {
+			return (value, out) -> out.builder.append(((Boolean) value).booleanValue());
+		}
+
+		if (type == BigInteger.class || type == BigDecimal.class) {
+			return (value, out) -> out.builder.append(value.toString());
+		}
+
+		if (type == Double.class) {
+			return (value, out) -> writeDouble((Double) value, out.builder);
+		}
+
+		if (type == Float.class) {
+			return (value, out) -> writeFloat((Float) value, out.builder);
+		}
+
+		// Other numbers like AtomicLong
+		if (Number.class.isAssignableFrom(type)) {
+			return (value, out) -> writeNumber((Number) value, out.builder);
+		}
+
+		if (type.isEnum() || (type.getSuperclass() != null && type.getSuperclass().isEnum())) {
+			return (value, out) -> writeString(((Enum) value).name(), out.builder);
+		}
+
+		if (JSONString.class.isAssignableFrom(type)) {
+			return (value, out) -> out.builder.append(((JSONString) value).toJSONString());
+		}
+
+		if (type == JSONObject.class || type == JSONArray.class) {
+			return (value, out) -> out.builder.append(value.toString());
+		}
+
+		if (Map.class.isAssignableFrom(type)) {
+			return (value, out) -> writeMap((Map<?, ?>) value, out);
+		}
+
+		if (Iterable.class.isAssignableFrom(type)) {
+			return (value, out) -> writeIterable((Iterable<?>) value, out);
+		}
+
+		if (type.isArray()) {
+			if (type.getComponentType().isPrimitive()) {
+				return BeanJsonWriter::writePrimitiveArray;
+			}
+			return (value, out) -> writeArray((Object[]) value, out);
+		}
+
+		if (isBeanClass(type)) {
+			return new BeanWriter(type);
+		}
+
+		// Any other value is written as string
+		Converter<Object, String> converter;
+		try {
+			converter = (Converter<Object, String>) ConversionHelper.converterFor((Class) type, String.class);
+		} catch (RuntimeException ex) {
+			converter = Object::toString;
+		}
+
+		Converter<Object, String> stringConverter = converter;
+		return (value, out) -> writeString(stringConverter.convert(value), out.builder);
+	}
+
+	private static boolean isBeanClass(Class<?> type)
+	{
+		if (type.isPrimitive() || !Modifier.isPublic(type.getModifiers())) {
+			return false;
+		}
+
+		String name = type.getName();
+
+		return !(name.startsWith("java.")
+			|| name.startsWith("javax.")
+			|| name.startsWith("jdk.")
+			|| name.startsWith("sun.")
+			|| name.startsWith("org.json."));
+	}
+
+	/**
+	 * Write plan of a bean class - the name prefixes are prepared once.
+	 */
+	private static final class BeanWriter implements ValueWriter
+	{
+
+		private final BeanProperty[] properties;
+		private final String[] names;
+
+		@SuppressWarnings("unchecked")
+		BeanWriter(Class<?> beanClass)
+		{
+			BeanInfo<?> info;
+			try {
+				info = BeanHelper.getBeanInfo(beanClass);
+			} catch (InvalidBean ex) {
+				throw new RuntimeException("Error creating JSON writer for " + beanClass.getName() + " - " + ex.getMessage(), ex);
+			}
+
+			List<BeanProperty> props = new ArrayList<>();
+			List<String> propNames = new ArrayList<>();
+			for (BeanProperty<?, ?> property : info.getIndexedProperties()) {
+
+				if (!property.canRead()
+					|| property.isTransient()
+					|| "class".equals(property.getName())) {
+					continue;
+				}
+
+				StringBuilder name = new StringBuilder();
+				writeString(property.getName(), name);
+				name.append(':');
+
+				props.add(property);
+				propNames.add(name.toString());
+			}
+
+			properties = props.toArray(BeanProperty[]::new);
+			names = propNames.toArray(String[]::new);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void write(Object bean, Output out) throws IOException
+		{
+			out.enter(bean);
+
+			StringBuilder builder = out.builder;
+			builder.append('{');
+
+			boolean first = true;
+			for (int i = 0; i < properties.length; ++i) {
+
+				Object value;
+				try {
+					value = properties[i].read(bean);
+				} catch (InvalidBean ex) {
+					throw new RuntimeException("Error writing property " + properties[i].getName() + " of " + bean.getClass().getName() + " - " + ex.getMessage(), ex);
+				}
+
+				if (value == null) {
+					continue;
+				}
+
+				if (!first) {
+					builder.append(',');
+				}
+				first = false;
+
+				builder.append(names[i]);
+				writeValue(value, out);
+				out.flushIfFull();
+			}
+
+			builder.append('}');
+
+			out.leave();
+		}
+	}
+
+	private static void writeMap(Map<?, ?> map, Output out) throws IOException
+	{
+		out.enter(map);
+
+		StringBuilder builder = out.builder;
+		builder.append('{');
+
+		boolean first = true;
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+
+			if (!first) {
+				builder.append(',');
+			}
+			first = false;
+
+			writeString(String.valueOf(entry.getKey()), builder);
+			builder.append(':');
+			writeValue(entry.getValue(), out);
+			out.flushIfFull();
+		}
+
+		builder.append('}');
+
+		out.leave();
+	}
+
+	private static void writeIterable(Iterable<?> iterable, Output out) throws IOException
+	{
+		out.enter(iterable);
+
+		StringBuilder builder = out.builder;
+		builder.append('[');
+
+		boolean first = true;
+		for (Object element : iterable) {
+
+			if (!first) {
+				builder.append(',');
+			}
+			first = false;
+
+			writeValue(element, out);
+			out.flushIfFull();
+		}
+
+		builder.append(']');
+
+		out.leave();
+	}
+
+	private static void writeArray(Object[] array, Output out) throws IOException
+	{
+		out.enter(array);
+
+		StringBuilder builder = out.builder;
+		builder.append('[');
+
+		for (int i = 0; i < array.length; ++i) {
+
+			if (i > 0) {
+				builder.append(',');
+			}
+
+			writeValue(array[i], out);
+			out.flushIfFull();
+		}
+
+		builder.append(']');
+
+		out.leave();
+	}
+
+	private static void writePrimitiveArray(Object array, Output out) throws IOException
+	{
+		StringBuilder builder = out.builder;
+		builder.append('[');
+
+		int length = Array.getLength(array);
+		for (int i = 0; i < length; ++i) {
+
+			if (i > 0) {
+				builder.append(',');
+			}
+
+			writeValue(Array.get(array, i), out);
+			out.flushIfFull();
+		}
+
+		builder.append(']');
+	}
+
+	/**
+	 * Writes non finite values as null as JSON does not support them.
+	 */
+	private static void writeDouble(double value, StringBuilder builder)
+	{
+		if (Double.isFinite(value)) {
+			builder.append(value);
+		} else {
+			builder.append("null");
+		}
+	}
+
+	private static void writeFloat(float value, StringBuilder builder)
+	{
+		if (Float.isFinite(value)) {
+			builder.append(value);
+		} else {
+			builder.append("null");
+		}
+	}
+
+	private static void writeNumber(Number value, StringBuilder builder)
+	{
+		if (Double.isFinite(value.doubleValue())) {
+			builder.append(value.toString());
+		} else {
+			builder.append("null");
+		}
+	}
+
+	/**
+	 * Writes the string quoted and escaped - unescaped runs of chars are appended at once.
+	 *
+	 * @param value
+	 * @param builder
+	 */
+	static void writeString(String value, StringBuilder builder)
+	{
+		builder.append('"');
+
+		int start = 0;
+		int length = value.length();
+		for (int i = 0; i < length; ++i) {
+
+			char c = value.charAt(i);
+
+			if (c >= 0x20 && c != '"' && c != '\\' && c != '\u2028' && c != '\u2029') {
+				continue;
+			}
+
+			if (i > start) {
+				builder.append(value, start, i);
+			}
+			start = i + 1;
+
+			switch (c) {
+				case '"' ->
+					builder.append("\\\"");
+				case '\\' ->
+					builder.append("\\\\");
+				case '\n' ->
+					builder.append("\\n");
+				case '\r' ->
+					builder.append("\\r");
+				case '\t' ->
+					builder.append("\\t");
+				case '\b' ->
+					builder.append("\\b");
+				case '\f' ->
+					builder.append("\\f");
+				default ->
+					builder.append("\\u")
+						.append(HEX[(c >> 12) & 0xF])
+						.append(HEX[(c >> 8) & 0xF])
+						.append(HEX[(c >> 4) & 0xF])
+						.append(HEX[c & 0xF]);
+			}
+		}
+
+		if (start < length) {
+			builder.append(value, start, length);
+		}
+
+		builder.append('"');
+	}
+}
@@ -0,0 +1,237 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans;
+
+import de.s42.base.conversion.ConversionHelper;
+import de.s42.base.conversion.Converter;
+import de.s42.base.strings.StringHelper;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Copies the properties of beans of one class to beans of another class by matching names (i.e. DTOs to entities).
+ * The pairs of readable source and writable target properties and their converters are resolved once on creation -
+ * properties with identical types are copied without conversion. Create a mapper once and reuse it.
+ *
+ * @author Benjamin Schiller
+ * @param <SourceClass>
+ * @param <TargetClass>
+ */
+public final class BeanMapper<SourceClass, TargetClass>
+{
+
+	protected final BeanInfo<SourceClass> sourceInfo;
+	protected final BeanInfo<TargetClass> targetInfo;
+	private final BeanProperty<SourceClass, ?>[] sourceProperties;
+	private final BeanProperty<TargetClass, ?>[] targetProperties;
+	// null if the value can be copied as is
+	private final Converter[] converters;
+
+	public BeanMapper(Class<SourceClass> sourceClass, Class<TargetClass> targetClass) throws InvalidBean
+	{
+		this(BeanHelper.getBeanInfo(sourceClass), BeanHelper.getBeanInfo(targetClass));
+	}
+
+	@SuppressWarnings("unchecked")
+	public BeanMapper(BeanInfo<SourceClass> sourceInfo, BeanInfo<TargetClass> targetInfo) throws InvalidBean
+	{
+		assert sourceInfo != null : "sourceInfo != null";
+		assert targetInfo != null : "targetInfo != null";
+
+		this.sourceInfo = sourceInfo;
+		this.targetInfo = targetInfo;
+
+		List<BeanProperty<SourceClass, ?>> sources = new ArrayList<>();
+		List<BeanProperty<TargetClass, ?>> targets = new ArrayList<>();
+		List<Converter> convs = new ArrayList<>();
+
+		// Index order keeps the plan stable
+		for (BeanProperty<SourceClass, ?> source : sourceInfo.getIndexedProperties()) {
+
+			if (!source.canRead()) {
+				continue;
+			}
+
+			BeanProperty<TargetClass, ?> target = targetInfo.getPropertiesByName().get(source.getName());
+
+			if (target == null || !target.canWrite()) {
+				continue;
+			}
+
+			sources.add(source);
+			targets.add(target);
+			convs.add(createConverter(source, target));
+		}
+
+		sourceProperties = sources.toArray(BeanProperty[]::new);
+		targetProperties = targets.toArray(BeanProperty[]::new);
+		converters = convs.toArray(Converter[]::new);
+	}
+
+	protected static Converter createConverter(BeanProperty source, BeanProperty target) throws InvalidBean
+	{
+		Type sourceType = source.getGenericType();
+		Type targetType = target.getGenericType();
+		// Type variables are mapped by their erasure
+		if (targetType instanceof TypeVariable) {
+			targetType = target.getPropertyClass();
+		}
+		Class<?> sourceClass = ConversionHelper.wrapPrimitives(source.getPropertyClass());
+
+		if (sourceType.equals(targetType)) {
+			return null;
+		}
+
+		if (targetType instanceof Class targetClass
+			&& ConversionHelper.wrapPrimitives(targetClass).isAssignableFrom(sourceClass)) {
+			return null;
+		}
+
+		try {
+			if (targetType instanceof Class targetClass) {
+				return ConversionHelper.converterFor(sourceClass, ConversionHelper.wrapPrimitives(targetClass));
+			}
+
+			return ConversionHelper.converterFor(sourceClass, targetType);
+		} catch (RuntimeException ex) {
+			throw new InvalidBean("Error mapping property " + source.getName() + " from " + sourceType.getTypeName() + " to " + targetType.getTypeName() + " - " + ex.getMessage(), ex);
+		}
+	}
+
+	/**
+	 * Creates a new target bean and copies the mapped properties of source into it.
+	 *
+	 * @param source
+	 * @return the new target bean or null if source is null
+	 * @throws InvalidBean
+	 */
+	public TargetClass map(SourceClass source) throws InvalidBean
+	{
+		if (source == null) {
+			return null;
+		}
+
+		TargetClass target = targetInfo.newInstance();
+
+		copy(source, target);
+
+		return target;
+	}
+
+	/**
+	 * Maps all given sources to new target beans.
+	 *
+	 * @param sources
+	 * @return the target beans in the order of sources - null elements stay null
+	 * @throws InvalidBean
+	 */
+	public List<TargetClass> mapAll(Collection<? extends SourceClass> sources) throws InvalidBean
+	{
+		assert sources != null : "sources != null";
+
+		List<TargetClass> result = new ArrayList<>(sources.size());
+
+		for (SourceClass source : sources) {
+			result.add(map(source));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Copies the mapped properties of source into target.
+	 *
+	 * @param source
+	 * @param target
+	 * @throws InvalidBean
+	 */
+	@SuppressWarnings("unchecked")
+	public void copy(SourceClass source, TargetClass target) throws InvalidBean
+	{
+		assert source != null : "source != null";
+		assert target != null : "target != null";
+
+		for (int i = 0; i < converters.length; ++i) {
+
+			Object value = sourceProperties[i].read(source);
+
+			Converter converter = converters[i];
+			if (converter != null) {
+				try {
+					value = converter.convert(value);
+				} catch (RuntimeException ex) {
+					throw new InvalidBean("Error converting property " + sourceProperties[i].getName() + " - " + ex.getMessage(), ex);
+				}
+			}
+
+			targetProperties[i].write(target, value);
+		}
+	}
+
+	public BeanInfo<SourceClass> getSourceInfo()
+	{
+		return sourceInfo;
+	}
+
+	public BeanInfo<TargetClass> getTargetInfo()
+	{
+		return targetInfo;
+	}
+
+	/**
+	 * Returns the names of the mapped properties.
+	 *
+	 * @return the names in mapping order
+	 */
+	public List<String> getMappedPropertyNames()
+	{
+		List<String> names = new ArrayList<>(sourceProperties.length);
+
+		for (BeanProperty property : sourceProperties) {
+			names.add(property.getName());
+		}
+
+		return names;
+	}
+
+	@Override
+	public String toString()
+	{
+		return StringHelper.toString(BeanMapper.class, null,
+			new String[]{
+				"source",
+				"target",
+				"properties"},
+			new Object[]{
+				sourceInfo.getBeanClass().getName(),
+				targetInfo.getBeanClass().getName(),
+				getMappedPropertyNames()}
+		);
+	}
+}
@@ -0,0 +1,61 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans;
+
+import java.util.List;
+
+/**
+ * Precomputed properties of a bean class - {@link BeanInfo} is created from it without introspection. Implementations
+ * are generated for classes marked with {@link GenerateBeanMetadata} and named like the bean class with the suffix
+ * {@link #CLASS_NAME_SUFFIX}. They register themselves with {@link BeanHelper#registerBeanMetadata(BeanMetadata)} when
+ * they are initialized.
+ *
+ * @author Benjamin Schiller
+ * @param <BeanClass>
+ */
+public interface BeanMetadata<BeanClass>
+{
+
+	public final static String CLASS_NAME_SUFFIX = "$$BeanMetadata";
+
+	public Class<BeanClass> getBeanClass();
+
+	/**
+	 * Creates a new instance with the public default constructor.
+	 *
+	 * @return the new instance
+	 * @throws UnsupportedOperationException if the bean class has no public default constructor
+	 */
+	public BeanClass newInstance() throws UnsupportedOperationException;
+
+	/**
+	 * Returns the properties like {@link java.beans.Introspector} finds them - properties of getters and setters and
+	 * public non static fields.
+	 *
+	 * @return the properties
+	 */
+	public List<PropertyMetadata<BeanClass>> getProperties();
+}
@@ -28,13 +28,18 @@ package de.s42.base.beans;
 import de.s42.base.strings.StringHelper;
 import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  *
@@ -51,6 +56,7 @@ public final class BeanProperty<BeanClass, PropertyClass>
 	protected final Method writeMethod;
 	protected final Field field;
 	protected final List<Class> genericTypes;
+	protected final Type genericType;
 	protected final boolean own;
 	protected final boolean write;
 	protected final boolean read;
@@ -58,6 +64,9 @@ public final class BeanProperty<BeanClass, PropertyClass>
 	protected final boolean publicField;
 	protected final boolean isTransient;
 	protected final PropertyDescriptor descriptor;
+	private volatile BeanAccessors.Getter getter;
+	private volatile BeanAccessors.Setter setter;
+	private volatile Annotations annotations;
 
 	public BeanProperty(
 		String name,
@@ -69,14 +78,31 @@ public final class BeanProperty<BeanClass, PropertyClass>
 		boolean own,
 		PropertyDescriptor descriptor
 	)
+	{
+		this(name, propertyClass, propertyClass, readMethod, writeMethod, field, genericTypes, own, descriptor);
+	}
+
+	public BeanProperty(
+		String name,
+		Class<PropertyClass> propertyClass,
+		Type genericType,
+		Method readMethod,
+		Method writeMethod,
+		Field field,
+		List<Class> genericTypes,
+		boolean own,
+		PropertyDescriptor descriptor
+	)
 	{
 		assert name != null;
 		assert propertyClass != null : "propertyClass != null in property " + name;
+		assert genericType != null : "genericType != null in property " + name;
 
 		int modifiers = (field != null) ? field.getModifiers() : 0;
 
 		this.name = name;
 		this.propertyClass = propertyClass;
+		this.genericType = genericType;
 		this.readMethod = readMethod;
 		this.writeMethod = writeMethod;
 		this.field = field;
@@ -87,9 +113,10 @@ public final class BeanProperty<BeanClass, PropertyClass>
 		}
 		this.own = own;
 		this.descriptor = descriptor;
-		publicField = (descriptor == null && Modifier.isPublic(modifiers));
+		// Public fields are just used directly if there are no accessor methods
+		publicField = (readMethod == null && writeMethod == null && Modifier.isPublic(modifiers));
 		read = readMethod != null || publicField;
-		write = writeMethod != null || publicField;
+		write = writeMethod != null || (publicField && !Modifier.isFinal(modifiers));
 		hasGenericTypes = !this.genericTypes.isEmpty();
 		isTransient = Modifier.isTransient(modifiers);
 	}
@@ -99,14 +126,12 @@ public final class BeanProperty<BeanClass, PropertyClass>
 		assert object != null;
 
 		try {
-			if (writeMethod != null) {
-				writeMethod.invoke(object, (Object) value);
-			} else {
-				field.set(object, value);
-			}
-		} catch (InvocationTargetException ex) {
-			throw new InvalidBean("Error writing value " + value + " to property " + getName() + " from bean " + object + " - " + ex.getCause().getMessage(), ex);
-		} catch (IllegalAccessException | IllegalArgumentException ex) {
+			setter().set(object, value);
+		} catch (InvalidBean ex) {
+			throw ex;
+		} catch (Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
 			throw new InvalidBean("Error writing value " + value + " to property " + getName() + " from bean " + object + " - " + ex.getMessage(), ex);
 		}
 	}
@@ -117,82 +142,163 @@ public final class BeanProperty<BeanClass, PropertyClass>
 		assert object != null;
 
 		try {
-			if (readMethod != null) {
-				return (ReturnType) readMethod.invoke(object);
-			} else {
-				if (field == null) {
-					throw new InvalidBean("Error reading property " + getName() + " from bean " + object + " - field is null ");
-				}
-				return (ReturnType) field.get(object);
-			}
-		} catch (InvocationTargetException ex) {
-			throw new InvalidBean("Error reading property " + getName() + " from bean - " + ex.getCause().getMessage(), ex);
-		} catch (IllegalAccessException ex) {
+			return (ReturnType) getter().get(object);
+		} catch (InvalidBean ex) {
+			throw ex;
+		} catch (Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
 			throw new InvalidBean("Error reading property " + getName() + " from bean - " + ex.getMessage(), ex);
 		}
 	}
 
-	public boolean isAnnotationPresent(Class<? extends Annotation> annotationClass)
+	/**
+	 * Returns the accessor for reading - it gets created on first use as most properties are never accessed.
+	 */
+	private BeanAccessors.Getter getter() throws InvalidBean
 	{
-		assert annotationClass != null;
-
-		boolean annotation;
+		BeanAccessors.Getter current = getter;
 
-		if (field != null) {
-
-			annotation = field.isAnnotationPresent(annotationClass);
-
-			if (annotation) {
-				return true;
+		if (current == null) {
+			if (readMethod != null) {
+				current = BeanAccessors.createGetter(readMethod);
+			} else if (field != null) {
+				current = BeanAccessors.createGetter(field);
+			} else {
+				throw new InvalidBean("Error reading property " + getName() + " - field is null ");
 			}
+			getter = current;
 		}
 
-		if (readMethod != null) {
+		return current;
+	}
 
-			annotation = readMethod.isAnnotationPresent(annotationClass);
+	private BeanAccessors.Setter setter() throws InvalidBean
+	{
+		BeanAccessors.Setter current = setter;
 
-			if (annotation) {
-				return true;
+		if (current == null) {
+			if (writeMethod != null) {
+				current = BeanAccessors.createSetter(writeMethod);
+			} else if (field != null) {
+				current = BeanAccessors.createSetter(field);
+			} else {
+				throw new InvalidBean("Error writing property " + getName() + " - field is null ");
 			}
+			setter = current;
 		}
 
-		if (writeMethod != null) {
+		return current;
+	}
 
-			return writeMethod.isAnnotationPresent(annotationClass);
+	/**
+	 * Uses the given direct accessors of a {@link BeanMetadata} instead of creating them on first use.
+	 */
+	void setAccessors(Function<Object, Object> getter, BiConsumer<Object, Object> setter)
+	{
+		if (getter != null) {
+			this.getter = getter::apply;
 		}
 
-		return false;
+		if (setter != null) {
+			this.setter = setter::accept;
+		}
 	}
 
-	public <AnnotationType extends Annotation> Optional<AnnotationType> getAnnotation(Class<? extends AnnotationType> annotationClass)
+	/**
+	 * The merged annotations of field, read and write method - created on first use.
+	 */
+	private static final class Annotations
 	{
-		assert annotationClass != null;
-
-		AnnotationType annotation;
 
-		if (field != null) {
+		private final Map<Class<? extends Annotation>, Annotation> byClass;
+		private final AnnotationSet annotationSet;
 
-			annotation = field.getAnnotation(annotationClass);
+		Annotations(Field field, Method readMethod, Method writeMethod)
+		{
+			// The field has precedence over the read method and the read method over the write method
+			Map<Class<? extends Annotation>, Annotation> merged = new LinkedHashMap<>();
+			add(merged, field);
+			add(merged, readMethod);
+			add(merged, writeMethod);
 
-			if (annotation != null) {
-				return Optional.of(annotation);
-			}
+			byClass = Map.copyOf(merged);
+			annotationSet = AnnotationSet.of(merged.keySet());
 		}
 
-		if (readMethod != null) {
-
-			annotation = readMethod.getAnnotation(annotationClass);
+		private static void add(Map<Class<? extends Annotation>, Annotation> merged, AnnotatedElement element)
+		{
+			if (element == null) {
+				return;
+			}
 
-			if (annotation != null) {
-				return Optional.of(annotation);
+			for (Annotation annotation : element.getAnnotations()) {
+				merged.putIfAbsent(annotation.annotationType(), annotation);
 			}
 		}
+	}
+
+	private Annotations annotations()
+	{
+		Annotations current = annotations;
 
-		if (writeMethod != null) {
-			return Optional.ofNullable(writeMethod.getAnnotation(annotationClass));
+		// Immutable - so concurrent creation is harmless
+		if (current == null) {
+			current = new Annotations(field, readMethod, writeMethod);
+			annotations = current;
 		}
 
-		return Optional.empty();
+		return current;
+	}
+
+	/**
+	 * Returns the annotations of the field, read and write method of this property - if an annotation class is present
+	 * at several of them, the one of the field has precedence over the read method and the read method over the write
+	 * method.
+	 *
+	 * @return immutable map of the annotations by their class
+	 */
+	public Map<Class<? extends Annotation>, Annotation> getAnnotations()
+	{
+		return annotations().byClass;
+	}
+
+	/**
+	 * Returns the classes of the annotations of this property.
+	 *
+	 * @return the annotation classes
+	 */
+	public AnnotationSet getAnnotationSet()
+	{
+		return annotations().annotationSet;
+	}
+
+	public boolean isAnnotationPresent(Class<? extends Annotation> annotationClass)
+	{
+		assert annotationClass != null;
+
+		return annotations().byClass.containsKey(annotationClass);
+	}
+
+	/**
+	 * Returns true if any of the given annotations is present - checks all of them at once.
+	 *
+	 * @param annotationClasses
+	 * @return true if at least one annotation is present
+	 */
+	public boolean isAnyAnnotationPresent(AnnotationSet annotationClasses)
+	{
+		assert annotationClasses != null;
+
+		return annotations().annotationSet.intersects(annotationClasses);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <AnnotationType extends Annotation> Optional<AnnotationType> getAnnotation(Class<? extends AnnotationType> annotationClass)
+	{
+		assert annotationClass != null;
+
+		return Optional.ofNullable((AnnotationType) annotations().byClass.get(annotationClass));
 	}
 
 	public boolean isTransient()
@@ -265,6 +371,17 @@ public final class BeanProperty<BeanClass, PropertyClass>
 		return genericTypes;
 	}
 
+	/**
+	 * Returns the full generic type of the property (i.e. Map&lt;String, List&lt;Integer&gt;&gt;) - the property class
+	 * if it is not generic.
+	 *
+	 * @return the generic type
+	 */
+	public Type getGenericType()
+	{
+		return genericType;
+	}
+
 	public PropertyDescriptor getDescriptor()
 	{
 		return descriptor;
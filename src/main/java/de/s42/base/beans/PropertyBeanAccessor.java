@@ -0,0 +1,86 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans;
+
+/**
+ * Accessor using the properties directly - used if no accessor can or shall be generated.
+ *
+ * @author Benjamin Schiller
+ * @param <BeanClass>
+ */
+final class PropertyBeanAccessor<BeanClass> implements BeanAccessor<BeanClass>
+{
+
+	private final BeanProperty<BeanClass, ?>[] properties;
+
+	PropertyBeanAccessor(BeanProperty<BeanClass, ?>[] properties)
+	{
+		assert properties != null : "properties != null";
+
+		this.properties = properties;
+	}
+
+	private BeanProperty<BeanClass, ?> property(int propertyIndex) throws InvalidBean
+	{
+		if (propertyIndex < 0 || propertyIndex >= properties.length) {
+			throw new InvalidBean("Property index " + propertyIndex + " is out of range");
+		}
+
+		return properties[propertyIndex];
+	}
+
+	@Override
+	public Object read(BeanClass bean, int propertyIndex) throws InvalidBean
+	{
+		return property(propertyIndex).read(bean);
+	}
+
+	@Override
+	public void write(BeanClass bean, int propertyIndex, Object value) throws InvalidBean
+	{
+		property(propertyIndex).write(bean, value);
+	}
+
+	@Override
+	public void readAll(BeanClass bean, Object[] out) throws InvalidBean
+	{
+		for (int i = 0; i < properties.length; ++i) {
+			BeanProperty<BeanClass, ?> property = properties[i];
+			out[i] = property.canRead() ? property.read(bean) : null;
+		}
+	}
+
+	@Override
+	public void writeAll(BeanClass bean, Object[] in) throws InvalidBean
+	{
+		for (int i = 0; i < properties.length; ++i) {
+			BeanProperty<BeanClass, ?> property = properties[i];
+			if (property.canWrite()) {
+				property.write(bean, in[i]);
+			}
+		}
+	}
+}
@@ -0,0 +1,124 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Precomputed property of a {@link BeanMetadata} - the names of its members and direct accessors to them.
+ *
+ * @author Benjamin Schiller
+ * @param <BeanClass>
+ */
+public final class PropertyMetadata<BeanClass>
+{
+
+	protected final String name;
+	protected final Class<?> propertyClass;
+	protected final Class<?> writeClass;
+	protected final String readMethodName;
+	protected final String writeMethodName;
+	protected final String fieldName;
+	protected final Function<BeanClass, Object> getter;
+	protected final BiConsumer<BeanClass, Object> setter;
+
+	/**
+	 * @param name Name of the property
+	 * @param propertyClass Erased type of the property - the return type of the read method if there is one
+	 * @param writeClass Erased parameter type of the write method - may be narrower than propertyClass, null if there
+	 * is no write method
+	 * @param readMethodName Name of the public getter or null
+	 * @param writeMethodName Name of the public setter or null
+	 * @param fieldName Name of the field of the property (of any visibility) or null
+	 * @param getter Reads the property directly or null if it is not readable
+	 * @param setter Writes the property directly or null if it is not writable
+	 */
+	public PropertyMetadata(
+		String name,
+		Class<?> propertyClass,
+		Class<?> writeClass,
+		String readMethodName,
+		String writeMethodName,
+		String fieldName,
+		Function<BeanClass, Object> getter,
+		BiConsumer<BeanClass, Object> setter
+	)
+	{
+		assert name != null : "name != null";
+		assert propertyClass != null : "propertyClass != null";
+		assert writeMethodName == null || writeClass != null : "writeMethodName == null || writeClass != null";
+
+		this.name = name;
+		this.propertyClass = propertyClass;
+		this.writeClass = writeClass;
+		this.readMethodName = readMethodName;
+		this.writeMethodName = writeMethodName;
+		this.fieldName = fieldName;
+		this.getter = getter;
+		this.setter = setter;
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	public Class<?> getPropertyClass()
+	{
+		return propertyClass;
+	}
+
+	public Class<?> getWriteClass()
+	{
+		return writeClass;
+	}
+
+	public String getReadMethodName()
+	{
+		return readMethodName;
+	}
+
+	public String getWriteMethodName()
+	{
+		return writeMethodName;
+	}
+
+	public String getFieldName()
+	{
+		return fieldName;
+	}
+
+	public Function<BeanClass, Object> getGetter()
+	{
+		return getter;
+	}
+
+	public BiConsumer<BeanClass, Object> getSetter()
+	{
+		return setter;
+	}
+}
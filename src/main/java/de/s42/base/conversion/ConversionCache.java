@@ -0,0 +1,145 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded concurrent memoization of a single converter. Reads are lock free. If the cache is full an entry not used
+ * since the last pass of the clock hand gets evicted (second chance). Failed conversions are not cached.
+ *
+ * @author Benjamin Schiller
+ */
+final class ConversionCache implements Function<Object, Object>
+{
+
+	private static final class Entry
+	{
+
+		final Object value;
+		volatile boolean used;
+
+		Entry(Object value)
+		{
+			this.value = value;
+		}
+	}
+
+	private final Function<Object, Object> converter;
+	private final UnaryOperator<Object> copier;
+	private final int maxSize;
+	private final Map<Object, Entry> entries;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private Iterator<Map.Entry<Object, Entry>> clockHand;
+
+	ConversionCache(Function<Object, Object> converter, int maxSize, UnaryOperator<Object> copier)
+	{
+		assert converter != null : "converter != null";
+		assert maxSize > 0 : "maxSize > 0";
+
+		this.converter = converter;
+		this.maxSize = maxSize;
+		this.copier = copier;
+		this.entries = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+	}
+
+	@Override
+	public Object apply(Object value)
+	{
+		Entry entry = entries.get(value);
+
+		if (entry != null) {
+
+			// Avoid writing the shared entry on each hit
+			if (!entry.used) {
+				entry.used = true;
+			}
+
+			hits.increment();
+
+			return copy(entry.value);
+		}
+
+		misses.increment();
+
+		Object result = converter.apply(value);
+
+		if (entries.size() >= maxSize) {
+			evict();
+		}
+
+		entry = entries.putIfAbsent(value, new Entry(result));
+
+		return copy((entry != null) ? entry.value : result);
+	}
+
+	private Object copy(Object value)
+	{
+		if (copier == null || value == null) {
+			return value;
+		}
+
+		return copier.apply(value);
+	}
+
+	private synchronized void evict()
+	{
+		// Give each used entry a second chance -> at most 2 rounds
+		for (int i = 0, max = 2 * entries.size() + 1; i < max; ++i) {
+
+			if (clockHand == null || !clockHand.hasNext()) {
+				clockHand = entries.entrySet().iterator();
+
+				if (!clockHand.hasNext()) {
+					return;
+				}
+			}
+
+			Map.Entry<Object, Entry> current = clockHand.next();
+
+			if (current.getValue().used) {
+				current.getValue().used = false;
+			} else {
+				if (entries.remove(current.getKey(), current.getValue())) {
+					evictions.increment();
+				}
+				return;
+			}
+		}
+	}
+
+	ConversionCacheStatistics getStatistics()
+	{
+		return new ConversionCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), entries.size(), maxSize);
+	}
+}
@@ -0,0 +1,98 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+/**
+ * Snapshot of the statistics of a memoized converter - see
+ * {@link ConversionHelper#enableMemoization(Class, Class, int)}.
+ *
+ * @author Benjamin Schiller
+ */
+public final class ConversionCacheStatistics
+{
+
+	private final long hits;
+	private final long misses;
+	private final long evictions;
+	private final int size;
+	private final int maxSize;
+
+	ConversionCacheStatistics(long hits, long misses, long evictions, int size, int maxSize)
+	{
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+		this.size = size;
+		this.maxSize = maxSize;
+	}
+
+	public long getHits()
+	{
+		return hits;
+	}
+
+	public long getMisses()
+	{
+		return misses;
+	}
+
+	public long getEvictions()
+	{
+		return evictions;
+	}
+
+	public int getSize()
+	{
+		return size;
+	}
+
+	public int getMaxSize()
+	{
+		return maxSize;
+	}
+
+	/**
+	 * Returns the ratio of hits to all requests.
+	 *
+	 * @return hit rate between 0 and 1 - 0 if there were no requests yet
+	 */
+	public double getHitRate()
+	{
+		long requests = hits + misses;
+
+		if (requests == 0) {
+			return 0.0;
+		}
+
+		return (double) hits / (double) requests;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "ConversionCacheStatistics{" + "hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ", size=" + size + ", maxSize=" + maxSize + '}';
+	}
+}
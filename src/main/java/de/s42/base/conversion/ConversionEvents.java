@@ -0,0 +1,146 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR events of {@link ConversionInstrumentation} - jdk.jfr is an optional module, so this class is just loaded when
+ * instrumentation is enabled and the module is present. The events are passed as Object, so the callers do not link
+ * against jdk.jfr themselves.
+ *
+ * @author Benjamin Schiller
+ */
+final class ConversionEvents
+{
+
+	private ConversionEvents()
+	{
+		// never instantiated
+	}
+
+	/**
+	 * Single conversion - by default just the ones taking at least 1 ms get recorded.
+	 */
+	@Name("de.s42.base.conversion.Conversion")
+	@Label("Conversion")
+	@Description("Conversion of a value by ConversionHelper")
+	@Category({"Base42", "Conversion"})
+	@Threshold("1 ms")
+	@StackTrace(false)
+	static final class ConversionEvent extends Event
+	{
+
+		@Label("Source Class")
+		Class<?> sourceClass;
+
+		@Label("Target Class")
+		Class<?> targetClass;
+
+		@Label("Failed")
+		boolean failed;
+	}
+
+	/**
+	 * Periodic snapshot of the metrics of each source and target class.
+	 */
+	@Name("de.s42.base.conversion.ConversionStatistics")
+	@Label("Conversion Statistics")
+	@Description("Invocations, failures and latencies per source and target class of ConversionHelper")
+	@Category({"Base42", "Conversion"})
+	@Period("60 s")
+	@StackTrace(false)
+	static final class ConversionStatisticsEvent extends Event
+	{
+
+		@Label("Source Class")
+		Class<?> sourceClass;
+
+		@Label("Target Class")
+		Class<?> targetClass;
+
+		@Label("Invocations")
+		long invocations;
+
+		@Label("Failures")
+		long failures;
+
+		@Label("Mean Latency")
+		@Timespan(Timespan.NANOSECONDS)
+		long meanNanos;
+
+		@Label("Max Latency")
+		@Timespan(Timespan.NANOSECONDS)
+		long maxNanos;
+	}
+
+	static void registerStatisticsEvent(Runnable emitter)
+	{
+		assert emitter != null : "emitter != null";
+
+		FlightRecorder.addPeriodicEvent(ConversionStatisticsEvent.class, emitter);
+	}
+
+	static Object begin()
+	{
+		ConversionEvent event = new ConversionEvent();
+		event.begin();
+		return event;
+	}
+
+	static void commit(Object conversionEvent, Class sourceClass, Class targetClass, boolean failed)
+	{
+		ConversionEvent event = (ConversionEvent) conversionEvent;
+		event.end();
+		if (event.shouldCommit()) {
+			event.sourceClass = sourceClass;
+			event.targetClass = targetClass;
+			event.failed = failed;
+			event.commit();
+		}
+	}
+
+	static void commitStatistics(Class sourceClass, Class targetClass, long invocations, long failures, long meanNanos, long maxNanos)
+	{
+		ConversionStatisticsEvent event = new ConversionStatisticsEvent();
+		event.sourceClass = sourceClass;
+		event.targetClass = targetClass;
+		event.invocations = invocations;
+		event.failures = failures;
+		event.meanNanos = meanNanos;
+		event.maxNanos = maxNanos;
+		event.commit();
+	}
+}
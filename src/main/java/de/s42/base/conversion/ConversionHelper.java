@@ -31,27 +31,47 @@ import java.awt.Dimension;
 import java.awt.Insets;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.io.InputStream;
+import java.io.Reader;
 import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.nio.file.Path;
 import java.text.DateFormat;
-import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -69,15 +89,449 @@ public final class ConversionHelper
 	{
 	}
 
-	private final static Map<Class, Map<Class, Function<?, ?>>> converters = Collections.synchronizedMap(new HashMap<>());
+	/**
+	 * Immutable target table of a single source class. Reads are lock free, writes copy the table on write as they
+	 * only happen rarely (mostly in static initializers). Additionally it caches the resolved converters for this
+	 * class as exact source class.
+	 */
+	private static final class ConverterTable
+	{
+
+		private final Class sourceClass;
+		private volatile Map<Class, Function<?, ?>> targetMappings = Map.of();
+		private volatile Map<Class, Predicate<?>> validators = Map.of();
+		private volatile Map<Class, ConversionCache> caches = Map.of();
+		private volatile ResolvedConverters resolved = new ResolvedConverters(-1);
+		private volatile ToIntFunction intConverter;
+		private volatile ToLongFunction longConverter;
+		private volatile ToDoubleFunction doubleConverter;
+		private volatile Predicate booleanConverter;
+
+		ConverterTable(Class sourceClass)
+		{
+			this.sourceClass = sourceClass;
+		}
+
+		Function<?, ?> get(Class targetClass)
+		{
+			return targetMappings.get(targetClass);
+		}
+
+		Set<Class> getTargetClasses()
+		{
+			return targetMappings.keySet();
+		}
+
+		boolean isEmpty()
+		{
+			return targetMappings.isEmpty();
+		}
+
+		Predicate<?> getValidator(Class targetClass)
+		{
+			return validators.get(targetClass);
+		}
+
+		ConversionCache getCache(Class targetClass)
+		{
+			return caches.get(targetClass);
+		}
+
+		synchronized ConversionCache setCache(Class targetClass, ConversionCache cache)
+		{
+			Map<Class, ConversionCache> copy = new HashMap<>(caches);
+			ConversionCache previous = (cache != null) ? copy.put(targetClass, cache) : copy.remove(targetClass);
+			caches = Map.copyOf(copy);
+
+			return previous;
+		}
+
+		synchronized boolean putIfAbsent(Class targetClass, Function<?, ?> converter, Predicate<?> validator)
+		{
+			if (targetMappings.containsKey(targetClass)) {
+				return false;
+			}
+
+			// Publish the validator first - it is only looked up for a present converter
+			if (validator != null) {
+				Map<Class, Predicate<?>> validatorCopy = new HashMap<>(validators);
+				validatorCopy.put(targetClass, validator);
+				validators = Map.copyOf(validatorCopy);
+			}
+
+			Map<Class, Function<?, ?>> copy = new HashMap<>(targetMappings);
+			copy.put(targetClass, converter);
+			targetMappings = Map.copyOf(copy);
+
+			return true;
+		}
+
+		synchronized boolean setIntConverter(ToIntFunction converter)
+		{
+			if (intConverter != null) {
+				return false;
+			}
+
+			intConverter = converter;
+
+			return true;
+		}
+
+		synchronized boolean setLongConverter(ToLongFunction converter)
+		{
+			if (longConverter != null) {
+				return false;
+			}
+
+			longConverter = converter;
+
+			return true;
+		}
+
+		synchronized boolean setDoubleConverter(ToDoubleFunction converter)
+		{
+			if (doubleConverter != null) {
+				return false;
+			}
+
+			doubleConverter = converter;
+
+			return true;
+		}
+
+		synchronized boolean setBooleanConverter(Predicate converter)
+		{
+			if (booleanConverter != null) {
+				return false;
+			}
+
+			booleanConverter = converter;
+
+			return true;
+		}
+
+		private ResolvedConverters current()
+		{
+			// A changed generation means converters got added since -> start with a fresh cache
+			int currentGeneration = generation.get();
+			ResolvedConverters current = resolved;
+			if (current.generation != currentGeneration) {
+				current = new ResolvedConverters(currentGeneration);
+				resolved = current;
+			}
+
+			return current;
+		}
+
+		Converter resolve(Class targetClass) throws RuntimeException
+		{
+			ResolvedConverters current = current();
+
+			Converter converter = current.converters.get(targetClass);
+
+			if (converter == null) {
+				converter = createConverter(sourceClass, targetClass);
+				if (ConversionInstrumentation.isEnabled()) {
+					converter = ConversionInstrumentation.instrument(sourceClass, targetClass, converter);
+				}
+				current.converters.putIfAbsent(targetClass, converter);
+			}
+
+			return converter;
+		}
+
+		/**
+		 * Returns the registered converter of this class or the nearest one of its super classes and interfaces.
+		 * Misses are cached as well.
+		 *
+		 * @param targetClass
+		 * @return the converter or null if there is none registered
+		 */
+		Function registered(Class targetClass)
+		{
+			Function converter = get(targetClass);
+
+			if (converter != null) {
+				return converter;
+			}
+
+			ResolvedConverters current = current();
+
+			converter = current.inherited.get(targetClass);
+
+			if (converter == null) {
+				converter = findInheritedConverter(sourceClass, targetClass);
+				if (converter == null) {
+					converter = NO_CONVERTER;
+				}
+				current.inherited.putIfAbsent(targetClass, converter);
+			}
+
+			return (converter != NO_CONVERTER) ? converter : null;
+		}
+
+		/**
+		 * Returns the cached shortest chain of converters from the source class of this table to targetClass.
+		 *
+		 * @param targetClass
+		 * @return the converters to apply in order or null if there is no chain
+		 */
+		Function[] chain(Class targetClass)
+		{
+			ResolvedConverters current = current();
+
+			Function[] chain = current.chains.get(targetClass);
+
+			if (chain == null) {
+				chain = findChain(sourceClass, targetClass);
+				if (chain == null) {
+					chain = NO_CHAIN;
+				}
+				current.chains.putIfAbsent(targetClass, chain);
+			}
+
+			return (chain != NO_CHAIN) ? chain : null;
+		}
+	}
+
+	private static final class ResolvedConverters
+	{
+
+		final int generation;
+		final Map<Class, Converter> converters = new ConcurrentHashMap<>();
+		final Map<Class, Function[]> chains = new ConcurrentHashMap<>();
+		final Map<Class, Function> inherited = new ConcurrentHashMap<>();
+
+		ResolvedConverters(int generation)
+		{
+			this.generation = generation;
+		}
+	}
+
+	/**
+	 * Cached result for a source and target class without any conversion. The message and the failure get just built
+	 * once.
+	 */
+	private static final class MissingConverter implements Converter<Object, Object>
+	{
+
+		private final String message;
+		private final ConversionResult<Object> failure;
+
+		MissingConverter(String message)
+		{
+			this.message = message;
+			this.failure = ConversionResult.ofFailure(message);
+		}
+
+		@Override
+		public Object convert(Object value) throws RuntimeException
+		{
+			if (value == null) {
+				return null;
+			}
+
+			throw new RuntimeException(message);
+		}
+
+		@Override
+		public ConversionResult<Object> tryConvert(Object value)
+		{
+			if (value == null) {
+				return ConversionResult.ofValue(null);
+			}
+
+			return failure;
+		}
+	}
+
+	/**
+	 * Converter calling a registered function. If a validator is registered for the pair, tryConvert checks the value
+	 * with it first and returns a prebuilt failure for invalid values instead of catching the exception of the
+	 * function.
+	 */
+	private static final class FunctionConverter implements Converter<Object, Object>
+	{
+
+		private final Function function;
+		private final Predicate validator;
+		private final String errorPrefix;
+		private final ConversionResult<Object> invalid;
+
+		FunctionConverter(Class sourceClass, Class targetClass, Function function, Predicate validator)
+		{
+			this.function = function;
+			this.validator = validator;
+			this.errorPrefix = "Error converting from " + sourceClass.getName() + " to " + targetClass.getName() + " - ";
+			this.invalid = (validator != null) ? ConversionResult.ofFailure(errorPrefix + "Invalid value") : null;
+		}
+
+		@Override
+		public Object convert(Object value) throws RuntimeException
+		{
+			if (value == null) {
+				return null;
+			}
+
+			try {
+				return function.apply(value);
+			} catch (RuntimeException ex) {
+				throw new RuntimeException(errorPrefix + ex.getMessage(), ex);
+			}
+		}
+
+		@Override
+		public ConversionResult<Object> tryConvert(Object value)
+		{
+			if (value == null) {
+				return ConversionResult.ofValue(null);
+			}
+
+			if (validator != null && !validator.test(value)) {
+				return invalid;
+			}
+
+			try {
+				return ConversionResult.ofValue(function.apply(value));
+			} catch (RuntimeException ex) {
+				return ConversionResult.ofFailure(errorPrefix + ex.getMessage(), ex);
+			}
+		}
+	}
+
+	/**
+	 * Converter resolving on the actual class of each value - used if the source class is not exact.
+	 */
+	private static final class DispatchingConverter implements Converter<Object, Object>
+	{
+
+		private final Class targetClass;
+
+		DispatchingConverter(Class targetClass)
+		{
+			this.targetClass = targetClass;
+		}
+
+		@Override
+		public Object convert(Object value) throws RuntimeException
+		{
+			return ConversionHelper.convert(value, targetClass);
+		}
+
+		@Override
+		public ConversionResult<Object> tryConvert(Object value)
+		{
+			return ConversionHelper.tryConvert(value, targetClass);
+		}
+	}
+
+	/**
+	 * Converter for loops over values of (mostly) the same class - keeps the last resolved converter as long as the
+	 * class of the values does not change. Not thread safe, create one per loop.
+	 */
+	private static final class ElementConverter implements Converter<Object, Object>
+	{
+
+		private final Class targetClass;
+		private Class lastSourceClass;
+		private Converter lastConverter;
+
+		ElementConverter(Class targetClass)
+		{
+			this.targetClass = targetClass;
+		}
+
+		@Override
+		public Object convert(Object value) throws RuntimeException
+		{
+			if (value == null) {
+				return null;
+			}
+
+			Class sourceClass = value.getClass();
+
+			if (sourceClass != lastSourceClass) {
+				lastConverter = converters.get(sourceClass).resolve(targetClass);
+				lastSourceClass = sourceClass;
+			}
+
+			return lastConverter.convert(value);
+		}
+	}
+
+	/**
+	 * Per source class converter tables - ClassValue allows lock free reads and does not pin the source classes.
+	 */
+	private final static ClassValue<ConverterTable> converters = new ClassValue<>()
+	{
+		@Override
+		protected ConverterTable computeValue(Class<?> sourceClass)
+		{
+			return new ConverterTable(sourceClass);
+		}
+	};
+
+	/**
+	 * Gets incremented with each added converter and invalidates all resolved converters.
+	 */
+	private final static AtomicInteger generation = new AtomicInteger();
+
+	/**
+	 * Maximal number of converters chained to convert between 2 classes without a direct converter.
+	 */
+	public final static int MAX_CHAIN_LENGTH = 3;
+
+	/**
+	 * Minimal number of elements the parallel bulk conversions convert in parallel.
+	 */
+	private static volatile int parallelThreshold = 10_000;
+
+	private final static Function[] NO_CHAIN = new Function[0];
+
+	private final static Function NO_CONVERTER = (Object value) -> {
+		throw new UnsupportedOperationException();
+	};
+
+	private final static Comparator<Class> CLASS_NAME_ORDER = Comparator.comparing(Class::getName);
+
+	/**
+	 * Integral and floating point number classes ordered by their range - converting to a smaller one is narrowing.
+	 */
+	private final static List<Class> INTEGRAL_CLASSES = List.of(Byte.class, Short.class, Integer.class, Long.class, BigInteger.class);
+
+	private final static List<Class> FLOATING_CLASSES = List.of(Float.class, Double.class, BigDecimal.class);
+
+	private final static Converter IDENTITY = (Object value) -> value;
+
+	private final static Converter TO_NULL = (Object value) -> null;
+
+	private final static Converter TO_STRING = (Object value) -> {
+		if (value == null) {
+			return null;
+		}
+		return value.toString();
+	};
+
 	private final static char[] HEX_ARRAY = "0123456789ABCDEF".toCharArray();
+
+	/**
+	 * Not thread safe - use {@link #DATE_FORMATTER} instead.
+	 *
+	 * @deprecated SimpleDateFormat can not be shared between threads
+	 */
+	@Deprecated
 	public final static DateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss:SSS");
 
+	/**
+	 * Thread safe formatter of the default date format used for String &lt;-&gt; Date conversion.
+	 */
+	public final static DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss:SSS");
+
 	static {
 
 		//String -> Instant
 		addConverter(String.class, Instant.class, (String value) -> {
-			return Instant.ofEpochMilli(Long.parseLong(value));
+			return DateConverters.parseInstant(value);
 		});
 
 		//Long -> Instant
@@ -105,6 +559,16 @@ public final class ConversionHelper
 			return value.toEpochMilli();
 		});
 
+		//Instant -> Date
+		addConverter(Instant.class, Date.class, (Instant value) -> {
+			return Date.from(value);
+		});
+
+		//Date -> Instant
+		addConverter(Date.class, Instant.class, (Date value) -> {
+			return value.toInstant();
+		});
+
 		//byte[] -> UUID
 		addConverter(byte[].class, UUID.class, (byte[] value) -> {
 			return UUIDHelper.toUuid(value);
@@ -113,47 +577,47 @@ public final class ConversionHelper
 		//String -> int
 		addConverter(String.class, int.class, (String value) -> {
 			return Integer.parseInt(value);
-		});
+		}, ParseHelper::isInt);
 
 		//String -> Integer
 		addConverter(String.class, Integer.class, (String value) -> {
 			return Integer.parseInt(value);
-		});
+		}, ParseHelper::isInt);
 
 		//String -> float
 		addConverter(String.class, float.class, (String value) -> {
 			return Float.parseFloat(value);
-		});
+		}, ParseHelper::isDouble);
 
 		//String -> Float
 		addConverter(String.class, Float.class, (String value) -> {
 			return Float.parseFloat(value);
-		});
+		}, ParseHelper::isDouble);
 
 		//String -> double
 		addConverter(String.class, double.class, (String value) -> {
 			return Double.parseDouble(value);
-		});
+		}, ParseHelper::isDouble);
 
 		//String -> Double
 		addConverter(String.class, Double.class, (String value) -> {
 			return Double.parseDouble(value);
-		});
+		}, ParseHelper::isDouble);
 
 		//String -> Number
 		addConverter(String.class, Number.class, (String value) -> {
 			return Double.parseDouble(value);
-		});
+		}, ParseHelper::isDouble);
 
 		//String -> long
 		addConverter(String.class, long.class, (String value) -> {
 			return Long.parseLong(value);
-		});
+		}, ParseHelper::isLong);
 
 		//String -> Long
 		addConverter(String.class, Long.class, (String value) -> {
 			return Long.parseLong(value);
-		});
+		}, ParseHelper::isLong);
 
 		//String -> boolean
 		addConverter(String.class, boolean.class, (String value) -> {
@@ -165,7 +629,7 @@ public final class ConversionHelper
 			}
 
 			throw new IllegalArgumentException("Value has to be 'true' or 'false'");
-		});
+		}, ParseHelper::isBoolean);
 
 		//String -> Boolean
 		addConverter(String.class, Boolean.class, (String value) -> {
@@ -177,7 +641,7 @@ public final class ConversionHelper
 			}
 
 			throw new IllegalArgumentException("Value has to be 'true' or 'false'");
-		});
+		}, ParseHelper::isBoolean);
 
 		//String -> Class
 		addConverter(String.class, Class.class, (String value) -> {
@@ -218,23 +682,22 @@ public final class ConversionHelper
 
 		//String -> Date
 		addConverter(String.class, Date.class, (String value) -> {
+			return DateConverters.parseDate(value);
+		});
 
-			// date as timestamp
-			if (value.matches("[0-9]+")) {
-				return new Date(Long.parseLong(value));
-			} else {
-				try {
-					return DATE_FORMAT.parse(value);
-				} catch (ParseException ex) {
-
-					// Try Timestamp
-					try {
-						return java.sql.Timestamp.valueOf(value);
-					} catch (IllegalArgumentException ex2) {
-						throw new RuntimeException("Error converting to date - " + ex2.getMessage(), ex2);
-					}
-				}
-			}
+		//String -> LocalDateTime
+		addConverter(String.class, LocalDateTime.class, (String value) -> {
+			return DateConverters.parseLocalDateTime(value);
+		});
+
+		//String -> OffsetDateTime
+		addConverter(String.class, OffsetDateTime.class, (String value) -> {
+			return DateConverters.parseZoned(value).toOffsetDateTime();
+		});
+
+		//String -> ZonedDateTime
+		addConverter(String.class, ZonedDateTime.class, (String value) -> {
+			return DateConverters.parseZoned(value);
 		});
 
 		//String -> URL
@@ -254,17 +717,27 @@ public final class ConversionHelper
 		//String (as JSON String) -> Map
 		addConverter(String.class, Map.class, (String value) -> {
 
-			JSONObject data = new JSONObject(value);
+			JsonReader reader = new JsonReader(value);
+			if (reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+				throw new IllegalArgumentException("JSON has to start with an object");
+			}
+			Object result = reader.nextValue();
+			reader.endDocument();
 
-			return data.toMap();
+			return (Map) result;
 		});
 
 		//String (as JSON String) -> List
 		addConverter(String.class, List.class, (String value) -> {
 
-			JSONArray data = new JSONArray(value);
+			JsonReader reader = new JsonReader(value);
+			if (reader.peek() != JsonReader.Token.BEGIN_ARRAY) {
+				throw new IllegalArgumentException("JSON has to start with an array");
+			}
+			Object result = reader.nextValue();
+			reader.endDocument();
 
-			return data.toList();
+			return (List) result;
 		});
 
 		//String -> Character
@@ -776,6 +1249,41 @@ public final class ConversionHelper
 		addConverter(URL.class, String.class, (URL value) -> {
 			return value.toString();
 		});
+
+		// Primitive converters - allow to convert to primitives without boxing
+		addIntConverter(String.class, Integer::parseInt);
+		addIntConverter(Integer.class, Integer::intValue);
+		addIntConverter(Long.class, Long::intValue);
+		addIntConverter(Short.class, Short::intValue);
+		addIntConverter(Byte.class, Byte::intValue);
+		addIntConverter(Float.class, Float::intValue);
+		addIntConverter(Double.class, Double::intValue);
+		addIntConverter(BigDecimal.class, BigDecimal::intValue);
+
+		addLongConverter(String.class, Long::parseLong);
+		addLongConverter(Long.class, Long::longValue);
+		addLongConverter(Integer.class, Integer::longValue);
+		addLongConverter(Short.class, Short::longValue);
+		addLongConverter(Byte.class, Byte::longValue);
+		addLongConverter(Float.class, Float::longValue);
+		addLongConverter(Double.class, Double::longValue);
+		addLongConverter(BigDecimal.class, BigDecimal::longValue);
+		addLongConverter(Instant.class, Instant::toEpochMilli);
+		addLongConverter(Date.class, Date::getTime);
+
+		addDoubleConverter(String.class, Double::parseDouble);
+		addDoubleConverter(Double.class, Double::doubleValue);
+		addDoubleConverter(Float.class, Float::doubleValue);
+		addDoubleConverter(Long.class, Long::doubleValue);
+		addDoubleConverter(Integer.class, Integer::doubleValue);
+		addDoubleConverter(Short.class, Short::doubleValue);
+		addDoubleConverter(Byte.class, Byte::doubleValue);
+		addDoubleConverter(BigDecimal.class, BigDecimal::doubleValue);
+
+		addBooleanConverter(String.class, (String value) -> {
+			return ParseHelper.parseBoolean(value, 0, value.length());
+		});
+		addBooleanConverter(Boolean.class, Boolean::booleanValue);
 	}
 
 	public static Class<?> wrapPrimitives(Class<?> clazz)
@@ -869,173 +1377,1222 @@ public final class ConversionHelper
 		return new String(hexChars);
 	}
 
-	public synchronized static <SourceType, TargetType> void addConverter(Class<SourceType> sourceClass, Class<TargetType> targetClass, Function<SourceType, TargetType> converter) throws RuntimeException
+	public static <SourceType, TargetType> void addConverter(Class<SourceType> sourceClass, Class<TargetType> targetClass, Function<SourceType, TargetType> converter) throws RuntimeException
+	{
+		addConverter(sourceClass, targetClass, converter, null);
+	}
+
+	/**
+	 * Adds a converter with a validator. The validator is used by {@link #tryConvert(Object, Class)} to detect
+	 * invalid values without the converter throwing an exception. It has to accept all values the converter can
+	 * convert.
+	 *
+	 * @param <SourceType>
+	 * @param <TargetType>
+	 * @param sourceClass
+	 * @param targetClass
+	 * @param converter
+	 * @param validator Returns false for values the converter would fail for - may be null
+	 * @throws RuntimeException if a converter is already mapped for sourceClass and targetClass
+	 */
+	public static <SourceType, TargetType> void addConverter(Class<SourceType> sourceClass, Class<TargetType> targetClass, Function<SourceType, TargetType> converter, Predicate<SourceType> validator) throws RuntimeException
 	{
+		assert sourceClass != null : "sourceClass != null";
 		assert targetClass != null : "targetClass != null";
 		assert converter != null : "converter != null";
 
-		Map<Class, Function<?, ?>> targetMappings = converters.get(sourceClass);
-
-		if (targetMappings == null) {
-			targetMappings = new HashMap<>();
-			converters.put(sourceClass, targetMappings);
+		if (!converters.get(sourceClass).putIfAbsent(targetClass, converter, validator)) {
+			throw new RuntimeException("Converter from class " + sourceClass.getName() + " to " + targetClass.getName() + " is already mapped");
 		}
 
-		if (targetMappings.putIfAbsent(targetClass, converter) != null) {
-			throw new RuntimeException("Converter from class " + sourceClass.getName() + " to " + targetClass.getName() + " is already mapped");
+		generation.incrementAndGet();
+	}
+
+	/**
+	 * Enables memoization of the registered converter from sourceClass to targetClass. Use it for expensive converters
+	 * which get called repeatedly with the same values like String to Pattern, Class, URL or UUID. The source values
+	 * are used as keys so they have to implement equals and hashCode. The cached results are returned as they are, so
+	 * the target class should be immutable. Just JSONObject and JSONArray are copied on each hit. Enabling it again
+	 * replaces the cache.
+	 *
+	 * @param sourceClass
+	 * @param targetClass
+	 * @param maxSize Maximal number of cached values
+	 * @throws RuntimeException if there is no converter registered for sourceClass and targetClass
+	 */
+	public static void enableMemoization(Class sourceClass, Class targetClass, int maxSize) throws RuntimeException
+	{
+		UnaryOperator copier = null;
+
+		// Deep copies - toMap and toList would drop JSONObject.NULL values
+		if (JSONObject.class.equals(targetClass)) {
+			copier = (Object value) -> new JSONObject(value.toString());
+		} else if (JSONArray.class.equals(targetClass)) {
+			copier = (Object value) -> new JSONArray(value.toString());
 		}
+
+		enableMemoization(sourceClass, targetClass, maxSize, copier);
 	}
 
-	public static <ReturnType> ReturnType convert(Object value, Class<? extends ReturnType> targetClass, ReturnType defaultValue) throws RuntimeException
+	/**
+	 * Enables memoization of the registered converter from sourceClass to targetClass and copies cached results with
+	 * copier before returning them.
+	 *
+	 * @param <SourceType>
+	 * @param <TargetType>
+	 * @param sourceClass
+	 * @param targetClass
+	 * @param maxSize Maximal number of cached values
+	 * @param copier Creates the returned copy of a cached result - null to return cached results directly
+	 * @throws RuntimeException if there is no converter registered for sourceClass and targetClass
+	 */
+	public static <SourceType, TargetType> void enableMemoization(Class<SourceType> sourceClass, Class<TargetType> targetClass, int maxSize, UnaryOperator<TargetType> copier) throws RuntimeException
 	{
+		assert sourceClass != null : "sourceClass != null";
 		assert targetClass != null : "targetClass != null";
 
-		if (value == null) {
+		if (maxSize <= 0) {
+			throw new RuntimeException("maxSize has to be > 0 but is " + maxSize);
+		}
 
-			if (defaultValue != null) {
-				return convert(defaultValue, targetClass);
-			}
+		ConverterTable table = converters.get(sourceClass);
+		Function converter = table.get(targetClass);
 
-			return null;
+		if (converter == null) {
+			throw new RuntimeException("No converter from class " + sourceClass.getName() + " to " + targetClass.getName() + " is mapped");
 		}
 
-		ReturnType result = convert(value, targetClass);
+		table.setCache(targetClass, new ConversionCache(converter, maxSize, (UnaryOperator) copier));
 
-		if (result == null) {
+		generation.incrementAndGet();
+	}
 
-			if (defaultValue != null) {
-				return convert(defaultValue, targetClass);
-			}
+	public static void disableMemoization(Class sourceClass, Class targetClass)
+	{
+		assert sourceClass != null : "sourceClass != null";
+		assert targetClass != null : "targetClass != null";
 
-			return null;
+		if (converters.get(sourceClass).setCache(targetClass, null) != null) {
+			generation.incrementAndGet();
 		}
-
-		return result;
 	}
 
-	public static <ReturnType> ReturnType convert(Object value, Class<? extends ReturnType> targetClass) throws RuntimeException
+	/**
+	 * Returns the statistics of the memoization of the converter from sourceClass to targetClass.
+	 *
+	 * @param sourceClass
+	 * @param targetClass
+	 * @return the statistics or null if memoization is not enabled for the converter
+	 */
+	public static ConversionCacheStatistics getMemoizationStatistics(Class sourceClass, Class targetClass)
 	{
+		assert sourceClass != null : "sourceClass != null";
 		assert targetClass != null : "targetClass != null";
 
-		//null remains null
-		if (value == null) {
-			return null;
-		}
+		ConversionCache cache = converters.get(sourceClass).getCache(targetClass);
 
-		//cast JSONObject.NULL always to null
-		if (value == JSONObject.NULL) {
+		if (cache == null) {
 			return null;
 		}
 
-		//cast to object return original
-		if (targetClass.equals(Object.class)) {
-			return (ReturnType) value;
-		}
+		return cache.getStatistics();
+	}
 
-		//equal class remains unchanged - its not an interceptor approach
-		if (targetClass.isInstance(value)) {
-			return (ReturnType) value;
-		}
+	/**
+	 * Enables the recording of invocations, failures and latencies per source and target class - see
+	 * {@link #getConversionStatistics(Class, Class)}. The metrics are also available as JFR events
+	 * (de.s42.base.conversion.Conversion for single conversions taking at least 1 ms and
+	 * de.s42.base.conversion.ConversionStatistics periodically). The primitive conversions like
+	 * {@link #convertToInt(Object)} and values already being an instance of the target class are not recorded. When
+	 * disabled the converters are not instrumented at all.
+	 */
+	public static void enableInstrumentation()
+	{
+		ConversionInstrumentation.setEnabled(true);
 
-		//handling for all enums
-		if (targetClass.isEnum()) {
-			return (ReturnType) Enum.valueOf((Class<Enum>) targetClass, value.toString());
-		}
+		generation.incrementAndGet();
+	}
 
-		//convert array types and check if all entries are consistent
-		if (value.getClass().isArray()) {
+	/**
+	 * Disables the recording - the already recorded metrics remain available.
+	 */
+	public static void disableInstrumentation()
+	{
+		ConversionInstrumentation.setEnabled(false);
 
-			if (targetClass.isArray()) {
+		generation.incrementAndGet();
+	}
 
-				Object[] sourceArray = ((Object[]) (value));
-				int length = sourceArray.length;
-				Class targetComponentType = targetClass.getComponentType();
-				Object[] targetArray = (Object[]) Array.newInstance(targetComponentType, length);
+	public static boolean isInstrumentationEnabled()
+	{
+		return ConversionInstrumentation.isEnabled();
+	}
 
-				for (int i = 0; i < length; ++i) {
+	/**
+	 * Returns the recorded metrics of the conversions of values of exactly sourceClass to targetClass.
+	 *
+	 * @param sourceClass
+	 * @param targetClass
+	 * @return the statistics or null if no such conversion has been recorded
+	 */
+	public static ConversionStatistics getConversionStatistics(Class sourceClass, Class targetClass)
+	{
+		assert sourceClass != null : "sourceClass != null";
+		assert targetClass != null : "targetClass != null";
 
-					// convert each element of the array
-					targetArray[i] = convert(sourceArray[i], targetComponentType);
+		return ConversionInstrumentation.getStatistics(sourceClass, targetClass);
+	}
+
+	/**
+	 * Returns the recorded metrics of all source and target classes.
+	 *
+	 * @return the statistics in no particular order
+	 */
+	public static List<ConversionStatistics> getConversionStatistics()
+	{
+		return ConversionInstrumentation.getStatistics();
+	}
+
+	/**
+	 * Resets all recorded metrics to 0.
+	 */
+	public static void resetConversionStatistics()
+	{
+		ConversionInstrumentation.reset();
+	}
+
+	public static <SourceType> void addIntConverter(Class<SourceType> sourceClass, ToIntFunction<SourceType> converter) throws RuntimeException
+	{
+		assert sourceClass != null : "sourceClass != null";
+		assert converter != null : "converter != null";
+
+		if (!converters.get(sourceClass).setIntConverter(converter)) {
+			throw new RuntimeException("Converter from class " + sourceClass.getName() + " to int is already mapped");
+		}
+	}
+
+	public static <SourceType> void addLongConverter(Class<SourceType> sourceClass, ToLongFunction<SourceType> converter) throws RuntimeException
+	{
+		assert sourceClass != null : "sourceClass != null";
+		assert converter != null : "converter != null";
+
+		if (!converters.get(sourceClass).setLongConverter(converter)) {
+			throw new RuntimeException("Converter from class " + sourceClass.getName() + " to long is already mapped");
+		}
+	}
+
+	public static <SourceType> void addDoubleConverter(Class<SourceType> sourceClass, ToDoubleFunction<SourceType> converter) throws RuntimeException
+	{
+		assert sourceClass != null : "sourceClass != null";
+		assert converter != null : "converter != null";
+
+		if (!converters.get(sourceClass).setDoubleConverter(converter)) {
+			throw new RuntimeException("Converter from class " + sourceClass.getName() + " to double is already mapped");
+		}
+	}
+
+	public static <SourceType> void addBooleanConverter(Class<SourceType> sourceClass, Predicate<SourceType> converter) throws RuntimeException
+	{
+		assert sourceClass != null : "sourceClass != null";
+		assert converter != null : "converter != null";
+
+		if (!converters.get(sourceClass).setBooleanConverter(converter)) {
+			throw new RuntimeException("Converter from class " + sourceClass.getName() + " to boolean is already mapped");
+		}
+	}
+
+	/**
+	 * Converts the value to int without boxing if a primitive converter is registered for the class of the value.
+	 * Otherwise it falls back to {@link #convert(Object, Class)}.
+	 *
+	 * @param value Value to convert - may not be null
+	 * @return The converted int
+	 * @throws RuntimeException if the value is null or can not be converted
+	 */
+	public static int convertToInt(Object value) throws RuntimeException
+	{
+		if (value == null || value == JSONObject.NULL) {
+			throw new RuntimeException("Can not convert null to int");
+		}
+
+		ToIntFunction converter = converters.get(value.getClass()).intConverter;
+
+		if (converter == null) {
+			return (int) convert(value, int.class);
+		}
+
+		try {
+			return converter.applyAsInt(value);
+		} catch (RuntimeException ex) {
+			throw new RuntimeException("Error converting from " + value.getClass().getName() + " to int - " + ex.getMessage(), ex);
+		}
+	}
+
+	public static int convertToInt(Object value, int defaultValue) throws RuntimeException
+	{
+		if (value == null || value == JSONObject.NULL) {
+			return defaultValue;
+		}
+
+		return convertToInt(value);
+	}
+
+	/**
+	 * Parses an int from the range start (inclusive) to end (exclusive) of value without creating a substring.
+	 *
+	 * @param value
+	 * @param start
+	 * @param end
+	 * @return The parsed int
+	 * @throws NumberFormatException if the range does not contain a valid int
+	 */
+	public static int convertToInt(CharSequence value, int start, int end) throws NumberFormatException
+	{
+		assert value != null : "value != null";
+
+		return ParseHelper.parseInt(value, start, end);
+	}
+
+	/**
+	 * Converts the value to long without boxing if a primitive converter is registered for the class of the value.
+	 * Otherwise it falls back to {@link #convert(Object, Class)}.
+	 *
+	 * @param value Value to convert - may not be null
+	 * @return The converted long
+	 * @throws RuntimeException if the value is null or can not be converted
+	 */
+	public static long convertToLong(Object value) throws RuntimeException
+	{
+		if (value == null || value == JSONObject.NULL) {
+			throw new RuntimeException("Can not convert null to long");
+		}
+
+		ToLongFunction converter = converters.get(value.getClass()).longConverter;
+
+		if (converter == null) {
+			return (long) convert(value, long.class);
+		}
+
+		try {
+			return converter.applyAsLong(value);
+		} catch (RuntimeException ex) {
+			throw new RuntimeException("Error converting from " + value.getClass().getName() + " to long - " + ex.getMessage(), ex);
+		}
+	}
+
+	public static long convertToLong(Object value, long defaultValue) throws RuntimeException
+	{
+		if (value == null || value == JSONObject.NULL) {
+			return defaultValue;
+		}
+
+		return convertToLong(value);
+	}
+
+	/**
+	 * Parses a long from the range start (inclusive) to end (exclusive) of value without creating a substring.
+	 *
+	 * @param value
+	 * @param start
+	 * @param end
+	 * @return The parsed long
+	 * @throws NumberFormatException if the range does not contain a valid long
+	 */
+	public static long convertToLong(CharSequence value, int start, int end) throws NumberFormatException
+	{
+		assert value != null : "value != null";
+
+		return ParseHelper.parseLong(value, start, end);
+	}
+
+	/**
+	 * Converts the value to double without boxing if a primitive converter is registered for the class of the value.
+	 * Otherwise it falls back to {@link #convert(Object, Class)}.
+	 *
+	 * @param value Value to convert - may not be null
+	 * @return The converted double
+	 * @throws RuntimeException if the value is null or can not be converted
+	 */
+	public static double convertToDouble(Object value) throws RuntimeException
+	{
+		if (value == null || value == JSONObject.NULL) {
+			throw new RuntimeException("Can not convert null to double");
+		}
+
+		ToDoubleFunction converter = converters.get(value.getClass()).doubleConverter;
+
+		if (converter == null) {
+			return (double) convert(value, double.class);
+		}
+
+		try {
+			return converter.applyAsDouble(value);
+		} catch (RuntimeException ex) {
+			throw new RuntimeException("Error converting from " + value.getClass().getName() + " to double - " + ex.getMessage(), ex);
+		}
+	}
+
+	public static double convertToDouble(Object value, double defaultValue) throws RuntimeException
+	{
+		if (value == null || value == JSONObject.NULL) {
+			return defaultValue;
+		}
+
+		return convertToDouble(value);
+	}
+
+	/**
+	 * Parses a double from the range start (inclusive) to end (exclusive) of value without creating a substring for
+	 * simple decimals.
+	 *
+	 * @param value
+	 * @param start
+	 * @param end
+	 * @return The parsed double
+	 * @throws NumberFormatException if the range does not contain a valid double
+	 */
+	public static double convertToDouble(CharSequence value, int start, int end) throws NumberFormatException
+	{
+		assert value != null : "value != null";
+
+		return ParseHelper.parseDouble(value, start, end);
+	}
+
+	/**
+	 * Converts the value to boolean without boxing if a primitive converter is registered for the class of the
+	 * value. Otherwise it falls back to {@link #convert(Object, Class)}.
+	 *
+	 * @param value Value to convert - may not be null
+	 * @return The converted boolean
+	 * @throws RuntimeException if the value is null or can not be converted
+	 */
+	public static boolean convertToBoolean(Object value) throws RuntimeException
+	{
+		if (value == null || value == JSONObject.NULL) {
+			throw new RuntimeException("Can not convert null to boolean");
+		}
+
+		Predicate converter = converters.get(value.getClass()).booleanConverter;
+
+		if (converter == null) {
+			return (boolean) convert(value, boolean.class);
+		}
+
+		try {
+			return converter.test(value);
+		} catch (RuntimeException ex) {
+			throw new RuntimeException("Error converting from " + value.getClass().getName() + " to boolean - " + ex.getMessage(), ex);
+		}
+	}
+
+	public static boolean convertToBoolean(Object value, boolean defaultValue) throws RuntimeException
+	{
+		if (value == null || value == JSONObject.NULL) {
+			return defaultValue;
+		}
+
+		return convertToBoolean(value);
+	}
+
+	/**
+	 * Parses a boolean ('true' or 'false' ignoring case) from the range start (inclusive) to end (exclusive) of value
+	 * without creating a substring.
+	 *
+	 * @param value
+	 * @param start
+	 * @param end
+	 * @return The parsed boolean
+	 * @throws IllegalArgumentException if the range does not contain 'true' or 'false'
+	 */
+	public static boolean convertToBoolean(CharSequence value, int start, int end) throws IllegalArgumentException
+	{
+		assert value != null : "value != null";
+
+		return ParseHelper.parseBoolean(value, start, end);
+	}
+
+	/**
+	 * Converts the name to the enum constant without creating a String from value.
+	 *
+	 * @param <EnumType>
+	 * @param value Name of the constant - may be null
+	 * @param enumClass
+	 * @return The constant or null if value is null
+	 * @throws IllegalArgumentException if there is no constant with the name
+	 */
+	public static <EnumType extends Enum<EnumType>> EnumType convertToEnum(CharSequence value, Class<EnumType> enumClass) throws IllegalArgumentException
+	{
+		return convertToEnum(value, enumClass, false);
+	}
+
+	/**
+	 * Converts the name to the enum constant without creating a String from value. If ignoreCase is set and there is
+	 * no exact match the name is matched ignoring case (as long as it is not ambiguous).
+	 *
+	 * @param <EnumType>
+	 * @param value Name of the constant - may be null
+	 * @param enumClass
+	 * @param ignoreCase
+	 * @return The constant or null if value is null
+	 * @throws IllegalArgumentException if there is no constant with the name
+	 */
+	public static <EnumType extends Enum<EnumType>> EnumType convertToEnum(CharSequence value, Class<EnumType> enumClass, boolean ignoreCase) throws IllegalArgumentException
+	{
+		assert enumClass != null : "enumClass != null";
+
+		if (value == null) {
+			return null;
+		}
+
+		EnumConverters.EnumTable table = EnumConverters.table(enumClass);
+		Enum result = table.find(value, ignoreCase);
+
+		if (result == null) {
+			throw new IllegalArgumentException(table.missingMessage(value));
+		}
+
+		return (EnumType) result;
+	}
+
+	/**
+	 * Converts the ordinal to the enum constant.
+	 *
+	 * @param <EnumType>
+	 * @param ordinal
+	 * @param enumClass
+	 * @return The constant with the given ordinal
+	 * @throws IllegalArgumentException if ordinal is out of range
+	 */
+	public static <EnumType extends Enum<EnumType>> EnumType convertToEnum(int ordinal, Class<EnumType> enumClass) throws IllegalArgumentException
+	{
+		assert enumClass != null : "enumClass != null";
+
+		Enum result = EnumConverters.table(enumClass).find(ordinal);
+
+		if (result == null) {
+			throw new IllegalArgumentException("No enum constant with ordinal " + ordinal + " in " + enumClass.getCanonicalName());
+		}
+
+		return (EnumType) result;
+	}
+
+	/**
+	 * Finds the enum constant by name without throwing on a miss.
+	 *
+	 * @param <EnumType>
+	 * @param value Name of the constant
+	 * @param enumClass
+	 * @param ignoreCase
+	 * @return The constant or null if value is null, there is no match or the name is ambiguous ignoring case
+	 */
+	public static <EnumType extends Enum<EnumType>> EnumType findEnum(CharSequence value, Class<EnumType> enumClass, boolean ignoreCase)
+	{
+		assert enumClass != null : "enumClass != null";
+
+		if (value == null) {
+			return null;
+		}
+
+		return (EnumType) EnumConverters.table(enumClass).find(value, ignoreCase);
+	}
+
+	public static <ReturnType> ReturnType convert(Object value, Class<? extends ReturnType> targetClass, ReturnType defaultValue) throws RuntimeException
+	{
+		assert targetClass != null : "targetClass != null";
+
+		if (value == null) {
+
+			if (defaultValue != null) {
+				return convert(defaultValue, targetClass);
+			}
+
+			return null;
+		}
+
+		ReturnType result = convert(value, targetClass);
+
+		if (result == null) {
+
+			if (defaultValue != null) {
+				return convert(defaultValue, targetClass);
+			}
+
+			return null;
+		}
+
+		return result;
+	}
+
+	public static <ReturnType> ReturnType convert(Object value, Class<? extends ReturnType> targetClass) throws RuntimeException
+	{
+		assert targetClass != null : "targetClass != null";
+
+		//null remains null
+		if (value == null) {
+			return null;
+		}
+
+		//cast JSONObject.NULL always to null
+		if (value == JSONObject.NULL) {
+			return null;
+		}
+
+		//equal class remains unchanged - its not an interceptor approach
+		if (targetClass.isInstance(value)) {
+			return (ReturnType) value;
+		}
+
+		return (ReturnType) converters.get(value.getClass()).resolve(targetClass).convert(value);
+	}
+
+	/**
+	 * Converts the value to a generic type like List&lt;Integer&gt; or Map&lt;String, UUID&gt; (also nested) - i.e.
+	 * from {@link java.lang.reflect.Field#getGenericType()}. Collections, arrays and maps get converted element wise
+	 * and JSON strings are read in a single pass directly into the typed result. Values already matching the type
+	 * remain unchanged.
+	 *
+	 * @param <ReturnType>
+	 * @param value Value to convert
+	 * @param targetType Type to convert to
+	 * @return The converted value
+	 * @throws RuntimeException if the value can not be converted
+	 */
+	public static <ReturnType> ReturnType convert(Object value, Type targetType) throws RuntimeException
+	{
+		assert targetType != null : "targetType != null";
+
+		if (targetType instanceof Class targetClass) {
+			return (ReturnType) convert(value, targetClass);
+		}
+
+		if (value == null || value == JSONObject.NULL) {
+			return null;
+		}
+
+		return (ReturnType) TypedConverters.get(targetType).convert(value);
+	}
+
+	/**
+	 * Creates a parameterized type like List&lt;Integer&gt; to be used in {@link #convert(Object, Type)}.
+	 *
+	 * @param rawClass i.e. List.class
+	 * @param typeArguments i.e. Integer.class
+	 * @return The type - equal to the ones from reflection
+	 */
+	public static ParameterizedType parameterizedType(Class rawClass, Type... typeArguments)
+	{
+		assert rawClass != null : "rawClass != null";
+		assert typeArguments != null : "typeArguments != null";
+
+		if (rawClass.getTypeParameters().length != typeArguments.length) {
+			throw new RuntimeException("Class " + rawClass.getName() + " has " + rawClass.getTypeParameters().length + " type parameters but got " + typeArguments.length);
+		}
+
+		return new TypedConverters.ParameterizedTypeImpl(rawClass, typeArguments);
+	}
+
+	/**
+	 * Reads a JSON document directly into the given type (i.e. a bean class, List&lt;Integer&gt; or Map&lt;String,
+	 * Object&gt;) without building a JSONObject or JSONArray first. Bean properties are written with their generic
+	 * types and unknown properties are skipped.
+	 *
+	 * @param <ReturnType>
+	 * @param reader Reader to read the document from - remains open
+	 * @param targetType Type to read
+	 * @return The read value
+	 * @throws RuntimeException if the document is invalid or can not be converted
+	 */
+	public static <ReturnType> ReturnType readJson(Reader reader, Type targetType) throws RuntimeException
+	{
+		assert reader != null : "reader != null";
+		assert targetType != null : "targetType != null";
+
+		return (ReturnType) TypedConverters.get(targetType).readDocument(new JsonReader(reader));
+	}
+
+	/**
+	 * Reads a UTF-8 JSON document like {@link #readJson(Reader, Type)}.
+	 *
+	 * @param <ReturnType>
+	 * @param in Stream to read the document from - remains open
+	 * @param targetType Type to read
+	 * @return The read value
+	 * @throws RuntimeException if the document is invalid or can not be converted
+	 */
+	public static <ReturnType> ReturnType readJson(InputStream in, Type targetType) throws RuntimeException
+	{
+		assert in != null : "in != null";
+		assert targetType != null : "targetType != null";
+
+		return (ReturnType) TypedConverters.get(targetType).readDocument(new JsonReader(in));
+	}
+
+	/**
+	 * Reads a JSON document like {@link #readJson(Reader, Type)}.
+	 *
+	 * @param <ReturnType>
+	 * @param json Document to read
+	 * @param targetType Type to read
+	 * @return The read value
+	 * @throws RuntimeException if the document is invalid or can not be converted
+	 */
+	public static <ReturnType> ReturnType readJson(CharSequence json, Type targetType) throws RuntimeException
+	{
+		assert json != null : "json != null";
+		assert targetType != null : "targetType != null";
+
+		return (ReturnType) TypedConverters.get(targetType).readDocument(new JsonReader(json));
+	}
+
+	/**
+	 * Reads a JSON array element by element - each element is read like {@link #readJson(Reader, Type)} and passed
+	 * to the consumer, so large arrays (i.e. of beans) are processed without holding all of them.
+	 *
+	 * @param <ElementType>
+	 * @param reader Reader to read the document from - remains open
+	 * @param elementType Type of the elements
+	 * @param consumer Receives the elements in order
+	 * @return The number of elements
+	 * @throws RuntimeException if the document is invalid or can not be converted
+	 */
+	public static <ElementType> long readJsonArray(Reader reader, Type elementType, Consumer<? super ElementType> consumer) throws RuntimeException
+	{
+		assert reader != null : "reader != null";
+
+		return readJsonArray(new JsonReader(reader), elementType, consumer);
+	}
+
+	/**
+	 * Reads a UTF-8 JSON array element by element like {@link #readJsonArray(Reader, Type, Consumer)}.
+	 *
+	 * @param <ElementType>
+	 * @param in Stream to read the document from - remains open
+	 * @param elementType Type of the elements
+	 * @param consumer Receives the elements in order
+	 * @return The number of elements
+	 * @throws RuntimeException if the document is invalid or can not be converted
+	 */
+	public static <ElementType> long readJsonArray(InputStream in, Type elementType, Consumer<? super ElementType> consumer) throws RuntimeException
+	{
+		assert in != null : "in != null";
+
+		return readJsonArray(new JsonReader(in), elementType, consumer);
+	}
+
+	private static <ElementType> long readJsonArray(JsonReader reader, Type elementType, Consumer<? super ElementType> consumer) throws RuntimeException
+	{
+		assert elementType != null : "elementType != null";
+		assert consumer != null : "consumer != null";
+
+		TypedConverters.TypedConverter converter = TypedConverters.get(elementType);
+		long count = 0;
+
+		reader.beginArray();
+		while (reader.hasNext()) {
+			consumer.accept((ElementType) converter.read(reader));
+			++count;
+		}
+		reader.endArray();
+		reader.endDocument();
+
+		return count;
+	}
+
+	/**
+	 * Converts the value like {@link #convert(Object, Class)} but returns failures instead of throwing them. Invalid
+	 * values of converters with validators (i.e. String to numbers) and missing converters do not create any
+	 * exception.
+	 *
+	 * @param <ReturnType>
+	 * @param value Value to convert
+	 * @param targetClass Class to convert to
+	 * @return The result containing either the converted value or the failure
+	 */
+	public static <ReturnType> ConversionResult<ReturnType> tryConvert(Object value, Class<? extends ReturnType> targetClass)
+	{
+		assert targetClass != null : "targetClass != null";
+
+		//null and JSONObject.NULL remain null
+		if (value == null || value == JSONObject.NULL) {
+			return ConversionResult.ofValue(null);
+		}
+
+		//equal class remains unchanged - its not an interceptor approach
+		if (targetClass.isInstance(value)) {
+			return ConversionResult.ofValue((ReturnType) value);
+		}
+
+		Converter converter;
+		try {
+			converter = converters.get(value.getClass()).resolve(targetClass);
+		} catch (RuntimeException ex) {
+			return ConversionResult.ofFailure(String.valueOf(ex.getMessage()), ex);
+		}
+
+		return converter.tryConvert(value);
+	}
+
+	/**
+	 * Resolves a converter from sourceClass to targetClass once. The returned handle can be held and reused to
+	 * convert many values without doing the lookups of {@link #convert(Object, Class)} for each value. If the
+	 * sourceClass is not final the handle dispatches on the actual class of the given values.
+	 *
+	 * @param <SourceType> Type of the values to convert
+	 * @param <TargetType> Type of the converted values
+	 * @param sourceClass Class of the values to convert
+	 * @param targetClass Class of the converted values
+	 * @return A reusable converter handle
+	 * @throws RuntimeException if no conversion from sourceClass to targetClass is possible
+	 */
+	public static <SourceType, TargetType> Converter<SourceType, TargetType> converterFor(Class<SourceType> sourceClass, Class<TargetType> targetClass) throws RuntimeException
+	{
+		assert sourceClass != null : "sourceClass != null";
+		assert targetClass != null : "targetClass != null";
+
+		Converter converter = resolveConverter(sourceClass, targetClass);
+
+		// Fail fast on resolving
+		if (ConversionInstrumentation.uninstrumented(converter) instanceof MissingConverter missing) {
+			throw new RuntimeException(missing.message);
+		}
+
+		return converter;
+	}
+
+	/**
+	 * Resolves a converter from sourceClass to a generic targetType like List&lt;Integer&gt; once - see
+	 * {@link #convert(Object, Type)}. For a class as targetType it is the same as {@link #converterFor(Class, Class)}.
+	 *
+	 * @param <SourceType> Type of the values to convert
+	 * @param <TargetType> Type of the converted values
+	 * @param sourceClass Class of the values to convert
+	 * @param targetType Type of the converted values
+	 * @return A reusable converter handle
+	 * @throws RuntimeException if the targetType is not supported or no conversion to it is possible
+	 */
+	@SuppressWarnings("unchecked")
+	public static <SourceType, TargetType> Converter<SourceType, TargetType> converterFor(Class<SourceType> sourceClass, Type targetType) throws RuntimeException
+	{
+		assert sourceClass != null : "sourceClass != null";
+		assert targetType != null : "targetType != null";
+
+		if (targetType instanceof Class targetClass) {
+			return converterFor(sourceClass, targetClass);
+		}
+
+		TypedConverters.TypedConverter converter = TypedConverters.get(targetType);
+
+		return (SourceType value) -> {
+
+			if (value == null || value == JSONObject.NULL) {
+				return null;
+			}
+
+			return (TargetType) converter.convert(value);
+		};
+	}
+
+	/**
+	 * Resolves like {@link #converterFor(Class, Class)} but returns missing conversions as converter failing for each
+	 * non null value.
+	 *
+	 * @param sourceClass
+	 * @param targetClass
+	 * @return the converter
+	 */
+	static Converter<Object, Object> resolveConverter(Class sourceClass, Class targetClass)
+	{
+		if (isExact(sourceClass)) {
+			return converters.get(sourceClass).resolve(targetClass);
+		}
+
+		// JSONObject.NULL has to be converted to null -> identity can just be used if it can not be a source
+		if (targetClass.isAssignableFrom(sourceClass) && !sourceClass.isInstance(JSONObject.NULL)) {
+			return IDENTITY;
+		}
+
+		// Dispatch on the actual class of the value
+		return new DispatchingConverter(targetClass);
+	}
+
+	static boolean isMissing(Converter converter)
+	{
+		return ConversionInstrumentation.uninstrumented(converter) instanceof MissingConverter;
+	}
+
+	/**
+	 * Returns true if values of the given class can not be of a sub class.
+	 *
+	 * @param sourceClass
+	 * @return true if values of the given class always have this class
+	 */
+	private static boolean isExact(Class sourceClass)
+	{
+		if (sourceClass.isPrimitive()) {
+			return true;
+		}
+
+		if (sourceClass.isArray()) {
+			return isExact(sourceClass.getComponentType());
+		}
+
+		return Modifier.isFinal(sourceClass.getModifiers());
+	}
+
+	/**
+	 * Creates the converter for values of exactly the class sourceClass. It contains the decision ladder which has
+	 * been run in each convert call before.
+	 *
+	 * @param sourceClass Exact class of the values
+	 * @param targetClass Class of the converted values
+	 * @return The converter
+	 * @throws RuntimeException if no conversion from sourceClass to targetClass is possible
+	 */
+	private static Converter createConverter(Class sourceClass, Class targetClass) throws RuntimeException
+	{
+		//cast JSONObject.NULL always to null
+		if (sourceClass.isInstance(JSONObject.NULL)) {
+			return TO_NULL;
+		}
+
+		//cast to object return original
+		if (targetClass.equals(Object.class)) {
+			return IDENTITY;
+		}
+
+		//equal class remains unchanged - its not an interceptor approach
+		//handle automatic conversion of implementations to their interfaces
+		if (targetClass.isAssignableFrom(sourceClass)) {
+			return IDENTITY;
+		}
+
+		//handling for all enums
+		if (targetClass.isEnum()) {
+			return EnumConverters.createToEnum(targetClass);
+		}
+
+		//convert from and to primitive arrays
+		if ((sourceClass.isArray() && sourceClass.getComponentType().isPrimitive())
+			|| (targetClass.isArray() && targetClass.getComponentType().isPrimitive())) {
+
+			Converter converter = PrimitiveArrayConverters.create(sourceClass, targetClass);
+
+			if (converter != null) {
+				return converter;
+			}
+		}
+
+		//convert array types and check if all entries are consistent
+		if (sourceClass.isArray() && !sourceClass.getComponentType().isPrimitive()) {
+
+			if (targetClass.isArray()) {
+
+				Class targetComponentType = targetClass.getComponentType();
+				Converter elementConverter = resolveConverter(sourceClass.getComponentType(), targetComponentType);
+
+				if (isMissing(elementConverter)) {
+					return elementConverter;
 				}
 
-				return (ReturnType) targetArray;
+				return (Object value) -> {
+
+					if (value == null) {
+						return null;
+					}
+
+					Object[] sourceArray = ((Object[]) (value));
+					int length = sourceArray.length;
+					Object[] targetArray = (Object[]) Array.newInstance(targetComponentType, length);
+
+					for (int i = 0; i < length; ++i) {
+
+						// convert each element of the array
+						targetArray[i] = elementConverter.convert(sourceArray[i]);
+					}
+
+					return targetArray;
+				};
 			} // Convert array into string
 			else if (String.class.isAssignableFrom(targetClass)) {
 
-				Object[] sourceArray = ((Object[]) (value));
-				int length = sourceArray.length;
+				Converter elementConverter = resolveConverter(sourceClass.getComponentType(), String.class);
 
-				StringBuilder builder = new StringBuilder();
+				if (isMissing(elementConverter)) {
+					return elementConverter;
+				}
 
-				for (int i = 0; i < length; ++i) {
+				return (Object value) -> {
 
-					builder.append(convert(sourceArray[i], String.class));
-					if (i < length - 1) {
-						builder.append(", ");
+					if (value == null) {
+						return null;
 					}
-				}
 
-				return (ReturnType) builder.toString();
+					Object[] sourceArray = ((Object[]) (value));
+					int length = sourceArray.length;
+
+					StringBuilder builder = new StringBuilder();
+
+					for (int i = 0; i < length; ++i) {
+
+						builder.append(elementConverter.convert(sourceArray[i]));
+						if (i < length - 1) {
+							builder.append(", ");
+						}
+					}
+
+					return builder.toString();
+				};
 			}
 		}
 
 		//handling arrays from string
-		if (targetClass.isArray() && (value instanceof String)) {
+		if (targetClass.isArray() && !targetClass.getComponentType().isPrimitive() && String.class.equals(sourceClass)) {
 
-			String[] parts = ((String) value).split(",");
+			Class targetComponentType = targetClass.getComponentType();
+			Converter elementConverter = resolveConverter(String.class, targetComponentType);
 
-			Object[] array = (Object[]) Array.newInstance(targetClass.getComponentType(), parts.length);
+			if (isMissing(elementConverter)) {
+				return elementConverter;
+			}
+
+			return (Object value) -> {
+
+				if (value == null) {
+					return null;
+				}
 
-			int i = 0;
-			for (String part : parts) {
+				String[] parts = ((String) value).split(",");
 
-				array[i] = convert(part.trim(), targetClass.getComponentType());
-				++i;
+				Object[] array = (Object[]) Array.newInstance(targetComponentType, parts.length);
+
+				int i = 0;
+				for (String part : parts) {
+
+					array[i] = elementConverter.convert(part.trim());
+					++i;
+				}
+
+				return array;
+			};
+		}
+
+		//handling for all enums to String (including enum constants with a class body)
+		if (String.class.equals(targetClass) && Enum.class.isAssignableFrom(sourceClass)) {
+			return EnumConverters.createToString(sourceClass);
+		}
+
+		ConverterTable targetMappings = converters.get(sourceClass);
+
+		// Converters of the class itself or its nearest super class or interface
+		Function converter = targetMappings.registered(targetClass);
+
+		if (converter != null) {
+
+			// Validators and memoization are only registered for the exact pair
+			Predicate validator = null;
+			if (targetMappings.get(targetClass) == converter) {
+
+				validator = targetMappings.getValidator(targetClass);
+
+				ConversionCache cache = targetMappings.getCache(targetClass);
+				if (cache != null) {
+					converter = cache;
+				}
 			}
 
-			return (ReturnType) array;
+			return new FunctionConverter(sourceClass, targetClass, converter, validator);
 		}
 
-		//handling for all enums to String
-		if (String.class.equals(targetClass) && value.getClass().isEnum()) {
-			return (ReturnType) value.toString();
+		// Default conversion to String using the given toString method of the value
+		if (String.class.isAssignableFrom(targetClass)) {
+			return TO_STRING;
 		}
 
-		//handle automatic conversion of implementations to their interfaces
-		if (targetClass.isInterface() && targetClass.isAssignableFrom(value.getClass())) {
-			return (ReturnType) value;
+		// Chain converters i.e. Integer -> Long -> Instant
+		Function[] chain = targetMappings.chain(targetClass);
+
+		if (chain != null) {
+			return createChainConverter(sourceClass, targetClass, chain);
+		}
+
+		// Cache the miss
+		if (targetMappings.isEmpty()) {
+			return new MissingConverter("No source mappings for source class " + sourceClass.getName() + " to " + targetClass.getName());
 		}
 
-		Map<Class, Function<?, ?>> targetMappings = converters.get(value.getClass());
+		return new MissingConverter("No target mappings for source class " + sourceClass.getName() + " to " + targetClass.getName());
+	}
+
+	/**
+	 * Finds the converter of the nearest super class (excluding Object) or if there is none the nearest interface
+	 * (breadth first).
+	 *
+	 * @param sourceClass
+	 * @param targetClass
+	 * @return the converter or null if there is none
+	 */
+	private static Function findInheritedConverter(Class sourceClass, Class targetClass)
+	{
+		for (Class current = sourceClass.getSuperclass(); current != null && current != Object.class; current = current.getSuperclass()) {
 
-		if (targetMappings == null) {
+			Function converter = converters.get(current).get(targetClass);
 
-			// Default conversion to String using the given toString method of the value
-			if (String.class.isAssignableFrom(targetClass)) {
-				return (ReturnType) value.toString();
+			if (converter != null) {
+				return converter;
 			}
+		}
 
-			throw new RuntimeException("No source mappings for source class " + value.getClass().getName() + " to " + targetClass.getName());
+		Deque<Class> interfaces = new ArrayDeque<>();
+		for (Class current = sourceClass; current != null; current = current.getSuperclass()) {
+			interfaces.addAll(Arrays.asList(current.getInterfaces()));
 		}
 
-		Function converter = targetMappings.get(targetClass);
+		Set<Class> visited = new HashSet<>();
+		while (!interfaces.isEmpty()) {
 
-		// @improvement allow to check for converters of parent classes? if under what contract?
-		if (converter == null) {
+			Class current = interfaces.poll();
 
-			// Default conversion to String using the given toString method of the value
-			if (String.class.isAssignableFrom(targetClass)) {
-				return (ReturnType) value.toString();
+			if (!visited.add(current)) {
+				continue;
 			}
 
-			throw new RuntimeException("No target mappings for source class " + value.getClass().getName() + " to " + targetClass.getName());
+			Function converter = converters.get(current).get(targetClass);
+
+			if (converter != null) {
+				return converter;
+			}
+
+			interfaces.addAll(Arrays.asList(current.getInterfaces()));
 		}
 
-		try {
-			return (ReturnType) converter.apply(value);
-		} catch (RuntimeException ex) {
-			throw new RuntimeException("Error converting from " + value.getClass().getName() + " to " + targetClass.getName() + " - " + ex.getMessage(), ex);
+		return null;
+	}
+
+	private static Converter createChainConverter(Class sourceClass, Class targetClass, Function[] chain)
+	{
+		// Most chains have 2 converters -> avoid the loop
+		if (chain.length == 2) {
+
+			Function first = chain[0];
+			Function second = chain[1];
+
+			return new FunctionConverter(sourceClass, targetClass, (Object value) -> {
+
+				Object intermediate = first.apply(value);
+
+				if (intermediate == null) {
+					return null;
+				}
+
+				return second.apply(intermediate);
+			}, null);
 		}
+
+		return new FunctionConverter(sourceClass, targetClass, (Object value) -> {
+
+			Object result = value;
+
+			for (Function converter : chain) {
+
+				result = converter.apply(result);
+
+				if (result == null) {
+					return null;
+				}
+			}
+
+			return result;
+		}, null);
+	}
+
+	/**
+	 * Finds the shortest chain of registered converters from sourceClass to targetClass using a breadth first search
+	 * over the converter graph. Classes are visited in the order of their names to get stable results. String is
+	 * never used as intermediate class as formatting and parsing again is no sensible conversion. Narrowing number
+	 * converters (i.e. Integer to Byte or Double to Long) are never chained as they would silently truncate values.
+	 *
+	 * @param sourceClass
+	 * @param targetClass
+	 * @return the converters to apply in order or null if there is no chain up to MAX_CHAIN_LENGTH
+	 */
+	private static Function[] findChain(Class sourceClass, Class targetClass)
+	{
+		Map<Class, Class> previous = new HashMap<>();
+		previous.put(sourceClass, sourceClass);
+		List<Class> frontier = List.of(sourceClass);
+
+		for (int depth = 0; depth < MAX_CHAIN_LENGTH && !frontier.isEmpty(); ++depth) {
+
+			List<Class> next = new ArrayList<>();
+
+			for (Class current : frontier) {
+
+				List<Class> targets = new ArrayList<>(converters.get(current).getTargetClasses());
+				targets.sort(CLASS_NAME_ORDER);
+
+				for (Class target : targets) {
+
+					if (isNarrowing(current, target) || previous.putIfAbsent(target, current) != null) {
+						continue;
+					}
+
+					if (target.equals(targetClass)) {
+
+						// Walk back the path
+						List<Function> chain = new ArrayList<>();
+						Class hopTarget = target;
+						while (hopTarget != sourceClass) {
+							Class hopSource = previous.get(hopTarget);
+							chain.add(0, converters.get(hopSource).get(hopTarget));
+							hopTarget = hopSource;
+						}
+
+						return chain.toArray(Function[]::new);
+					}
+
+					if (!String.class.equals(target)) {
+						next.add(target);
+					}
+				}
+			}
+
+			frontier = next;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns true if converting numbers of sourceClass to targetClass may lose range or precision. Widening like in
+	 * Java (i.e. Integer to Long or Integer to Double) and conversions to BigInteger and BigDecimal are not narrowing.
+	 *
+	 * @param sourceClass
+	 * @param targetClass
+	 * @return true if both are number classes and the conversion is narrowing
+	 */
+	private static boolean isNarrowing(Class sourceClass, Class targetClass)
+	{
+		Class source = wrapPrimitives(sourceClass);
+		Class target = wrapPrimitives(targetClass);
+
+		int sourceIntegral = INTEGRAL_CLASSES.indexOf(source);
+		int targetIntegral = INTEGRAL_CLASSES.indexOf(target);
+		int sourceFloating = FLOATING_CLASSES.indexOf(source);
+		int targetFloating = FLOATING_CLASSES.indexOf(target);
+
+		if (sourceIntegral >= 0) {
+			if (targetIntegral >= 0) {
+				return targetIntegral < sourceIntegral;
+			}
+			// BigInteger just fits into BigDecimal
+			return targetFloating >= 0 && source == BigInteger.class && target != BigDecimal.class;
+		}
+
+		if (sourceFloating >= 0) {
+			return targetIntegral >= 0 || (targetFloating >= 0 && targetFloating < sourceFloating);
+		}
+
+		return false;
 	}
 
 	public static <ReturnType> ReturnType[] convertArray(Object[] values, Class<? extends ReturnType> targetClass) throws RuntimeException
@@ -1047,9 +2604,10 @@ public final class ConversionHelper
 		}
 
 		ReturnType[] result = (ReturnType[]) Array.newInstance(targetClass, values.length);
+		ElementConverter converter = new ElementConverter(targetClass);
 
 		for (int i = 0; i < values.length; ++i) {
-			result[i] = convert(values[i], targetClass);
+			result[i] = (ReturnType) converter.convert(values[i]);
 		}
 
 		return result;
@@ -1063,10 +2621,11 @@ public final class ConversionHelper
 			return null;
 		}
 
-		List<ReturnType> result = new ArrayList<>();
+		List<ReturnType> result = new ArrayList<>(values.length);
+		ElementConverter converter = new ElementConverter(targetClass);
 
 		for (int i = 0; i < values.length; ++i) {
-			result.add(convert(values[i], targetClass));
+			result.add((ReturnType) converter.convert(values[i]));
 		}
 
 		return result;
@@ -1080,10 +2639,11 @@ public final class ConversionHelper
 			return null;
 		}
 
-		List result = Collections.checkedList(new ArrayList<>(), targetClass);
+		List result = new ArrayList<>(values.size());
+		ElementConverter converter = new ElementConverter(targetClass);
 
 		for (Object value : values) {
-			result.add(convert(value, targetClass));
+			result.add(converter.convert(value));
 		}
 
 		return result;
@@ -1097,10 +2657,113 @@ public final class ConversionHelper
 			return null;
 		}
 
-		Set<ReturnType> result = new HashSet<>();
+		Set<ReturnType> result = HashSet.newHashSet(values.length);
+		ElementConverter converter = new ElementConverter(targetClass);
 
 		for (int i = 0; i < values.length; ++i) {
-			if (!result.add(convert(values[i], targetClass))) {
+			if (!result.add((ReturnType) converter.convert(values[i]))) {
+				throw new RuntimeException("Element " + i + " is already contained in Set");
+			}
+		}
+
+		return result;
+	}
+
+	public static int getParallelThreshold()
+	{
+		return parallelThreshold;
+	}
+
+	/**
+	 * Sets the minimal number of elements from which on the parallel bulk conversions like
+	 * {@link #convertArrayParallel(Object[], Class)} use the common fork join pool. Smaller inputs are converted on the
+	 * calling thread.
+	 *
+	 * @param parallelThreshold
+	 */
+	public static void setParallelThreshold(int parallelThreshold)
+	{
+		assert parallelThreshold > 0 : "parallelThreshold > 0";
+
+		ConversionHelper.parallelThreshold = parallelThreshold;
+	}
+
+	/**
+	 * Converts the values like {@link #convertArray(Object[], Class)} but in parallel if there are at least
+	 * {@link #getParallelThreshold()} values.
+	 *
+	 * @param <ReturnType>
+	 * @param values
+	 * @param targetClass
+	 * @return The converted values
+	 * @throws RuntimeException containing the lowest index of the elements failing to convert
+	 */
+	public static <ReturnType> ReturnType[] convertArrayParallel(Object[] values, Class<? extends ReturnType> targetClass) throws RuntimeException
+	{
+		assert targetClass != null : "targetClass != null";
+
+		if (values == null) {
+			return null;
+		}
+
+		ReturnType[] result = (ReturnType[]) Array.newInstance(targetClass, values.length);
+
+		ParallelConverters.convert(values, result, targetClass, parallelThreshold);
+
+		return result;
+	}
+
+	/**
+	 * Converts the values like {@link #convertList(List, Class)} but in parallel if there are at least
+	 * {@link #getParallelThreshold()} values.
+	 *
+	 * @param <ReturnType>
+	 * @param values
+	 * @param targetClass
+	 * @return The converted values
+	 * @throws RuntimeException containing the lowest index of the elements failing to convert
+	 */
+	public static <ReturnType> List<ReturnType> convertListParallel(List values, Class<? extends ReturnType> targetClass) throws RuntimeException
+	{
+		assert targetClass != null : "targetClass != null";
+
+		if (values == null) {
+			return null;
+		}
+
+		Object[] result = new Object[values.size()];
+
+		ParallelConverters.convert(values.toArray(), result, targetClass, parallelThreshold);
+
+		return new ArrayList<>((List<ReturnType>) Arrays.asList(result));
+	}
+
+	/**
+	 * Converts the values like {@link #convertSet(Object[], Class)} but in parallel if there are at least
+	 * {@link #getParallelThreshold()} values.
+	 *
+	 * @param <ReturnType>
+	 * @param values
+	 * @param targetClass
+	 * @return The converted values
+	 * @throws RuntimeException containing the lowest index of the elements failing to convert or being a duplicate
+	 */
+	public static <ReturnType> Set<ReturnType> convertSetParallel(Object[] values, Class<? extends ReturnType> targetClass) throws RuntimeException
+	{
+		assert targetClass != null : "targetClass != null";
+
+		if (values == null) {
+			return null;
+		}
+
+		Object[] converted = new Object[values.length];
+
+		ParallelConverters.convert(values, converted, targetClass, parallelThreshold);
+
+		Set<ReturnType> result = HashSet.newHashSet(converted.length);
+
+		for (int i = 0; i < converted.length; ++i) {
+			if (!result.add((ReturnType) converted[i])) {
 				throw new RuntimeException("Element " + i + " is already contained in Set");
 			}
 		}
@@ -1108,6 +2771,11 @@ public final class ConversionHelper
 		return result;
 	}
 
+	static Converter<Object, Object> createElementConverter(Class targetClass)
+	{
+		return new ElementConverter(targetClass);
+	}
+
 	@SuppressWarnings("null")
 	public static <ReturnType> ReturnType[] convertArray(ReturnType[] values, Class<? extends ReturnType>[] targetClasses) throws RuntimeException
 	{
@@ -1144,15 +2812,8 @@ public final class ConversionHelper
 		assert sourceClass != null : "sourceClass != null";
 		assert targetClass != null : "targetClass != null";
 
-		Map<Class, Function<?, ?>> targetMappings = converters.get(sourceClass);
-
-		if (targetMappings == null) {
-			return false;
-		}
-
-		Function converter = targetMappings.get(targetClass);
+		ConverterTable targetMappings = converters.get(sourceClass);
 
-		// @improvement allow to check for converters of parent classes? if under what contract?
-		return (converter != null);
+		return (targetMappings.registered(targetClass) != null) || (targetMappings.chain(targetClass) != null);
 	}
 }
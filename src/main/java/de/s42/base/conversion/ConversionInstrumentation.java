@@ -0,0 +1,306 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in metrics per source and target class. When enabled the resolved converters get wrapped by an
+ * {@link InstrumentedConverter}, when disabled they are created without it - so there is no overhead at all. The
+ * counters are striped (LongAdder) to keep contention low in parallel conversions. JFR events are emitted if the
+ * optional module jdk.jfr is present.
+ *
+ * @author Benjamin Schiller
+ */
+final class ConversionInstrumentation
+{
+
+	/**
+	 * Bucket i contains the latencies with i significant bits - [2^(i-1), 2^i) ns.
+	 */
+	final static int LATENCY_BUCKETS = 64;
+
+	/**
+	 * The metrics are stored with the source class like the converters, so they do not prevent unloading it.
+	 */
+	private final static ClassValue<Map<Class, PairMetrics>> metrics = new ClassValue<>()
+	{
+		@Override
+		protected Map<Class, PairMetrics> computeValue(Class<?> type)
+		{
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/**
+	 * All metrics for listing them - weak, the metrics of unloaded classes just disappear.
+	 */
+	private final static Set<PairMetrics> allMetrics = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+	private static volatile boolean enabled;
+
+	private static boolean periodicEventRegistered;
+
+	private ConversionInstrumentation()
+	{
+	}
+
+	/**
+	 * Loaded on first use - jdk.jfr is just read if it is present in the module graph.
+	 */
+	private static final class Jfr
+	{
+
+		final static boolean AVAILABLE = isAvailable();
+
+		private static boolean isAvailable()
+		{
+			Optional<Module> jfr = ModuleLayer.boot().findModule("jdk.jfr");
+
+			return jfr.isPresent() && ConversionInstrumentation.class.getModule().canRead(jfr.get());
+		}
+	}
+
+	/**
+	 * Counters of a single source and target class.
+	 */
+	static final class PairMetrics
+	{
+
+		final Class sourceClass;
+		final Class targetClass;
+		final LongAdder invocations = new LongAdder();
+		final LongAdder failures = new LongAdder();
+		final LongAdder totalNanos = new LongAdder();
+		final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+		final LongAdder[] latencies = new LongAdder[LATENCY_BUCKETS];
+
+		PairMetrics(Class sourceClass, Class targetClass)
+		{
+			this.sourceClass = sourceClass;
+			this.targetClass = targetClass;
+
+			for (int i = 0; i < LATENCY_BUCKETS; ++i) {
+				latencies[i] = new LongAdder();
+			}
+		}
+
+		void record(long nanos, boolean failed)
+		{
+			invocations.increment();
+			if (failed) {
+				failures.increment();
+			}
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+			latencies[LATENCY_BUCKETS - Long.numberOfLeadingZeros(Math.max(0L, nanos))].increment();
+		}
+
+		void reset()
+		{
+			invocations.reset();
+			failures.reset();
+			totalNanos.reset();
+			maxNanos.reset();
+			for (LongAdder latency : latencies) {
+				latency.reset();
+			}
+		}
+
+		ConversionStatistics getStatistics()
+		{
+			long[] histogram = new long[LATENCY_BUCKETS];
+			for (int i = 0; i < LATENCY_BUCKETS; ++i) {
+				histogram[i] = latencies[i].sum();
+			}
+
+			return new ConversionStatistics(sourceClass, targetClass, invocations.sum(), failures.sum(), totalNanos.sum(), maxNanos.get(), histogram);
+		}
+	}
+
+	/**
+	 * Measures the wrapped converter and emits conversion events if they are enabled in a running recording.
+	 */
+	static final class InstrumentedConverter implements Converter<Object, Object>
+	{
+
+		final Converter delegate;
+		private final PairMetrics pairMetrics;
+		private final boolean events;
+
+		InstrumentedConverter(Converter delegate, PairMetrics pairMetrics, boolean events)
+		{
+			this.delegate = delegate;
+			this.pairMetrics = pairMetrics;
+			this.events = events;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object convert(Object value) throws RuntimeException
+		{
+			Object event = events ? ConversionEvents.begin() : null;
+			long start = System.nanoTime();
+			boolean failed = true;
+
+			try {
+				Object result = delegate.convert(value);
+				failed = false;
+				return result;
+			} finally {
+				pairMetrics.record(System.nanoTime() - start, failed);
+				commit(event, failed);
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public ConversionResult<Object> tryConvert(Object value)
+		{
+			Object event = events ? ConversionEvents.begin() : null;
+			long start = System.nanoTime();
+
+			ConversionResult<Object> result = delegate.tryConvert(value);
+
+			pairMetrics.record(System.nanoTime() - start, result.isFailure());
+			commit(event, result.isFailure());
+
+			return result;
+		}
+
+		private void commit(Object event, boolean failed)
+		{
+			if (event != null) {
+				ConversionEvents.commit(event, pairMetrics.sourceClass, pairMetrics.targetClass, failed);
+			}
+		}
+	}
+
+	static boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	static synchronized void setEnabled(boolean enabled)
+	{
+		if (enabled && !periodicEventRegistered && Jfr.AVAILABLE) {
+			ConversionEvents.registerStatisticsEvent(ConversionInstrumentation::emitStatisticsEvents);
+			periodicEventRegistered = true;
+		}
+
+		ConversionInstrumentation.enabled = enabled;
+	}
+
+	static Converter instrument(Class sourceClass, Class targetClass, Converter converter)
+	{
+		PairMetrics pairMetrics = metrics.get(sourceClass).computeIfAbsent(targetClass, (Class key) -> {
+			PairMetrics created = new PairMetrics(sourceClass, targetClass);
+			allMetrics.add(created);
+			return created;
+		});
+
+		return new InstrumentedConverter(converter, pairMetrics, Jfr.AVAILABLE);
+	}
+
+	static Converter uninstrumented(Converter converter)
+	{
+		if (converter instanceof InstrumentedConverter instrumented) {
+			return instrumented.delegate;
+		}
+
+		return converter;
+	}
+
+	static ConversionStatistics getStatistics(Class sourceClass, Class targetClass)
+	{
+		PairMetrics pairMetrics = metrics.get(sourceClass).get(targetClass);
+
+		if (pairMetrics == null) {
+			return null;
+		}
+
+		return pairMetrics.getStatistics();
+	}
+
+	static List<ConversionStatistics> getStatistics()
+	{
+		List<ConversionStatistics> result = new ArrayList<>();
+
+		for (PairMetrics pairMetrics : getAllMetrics()) {
+			result.add(pairMetrics.getStatistics());
+		}
+
+		return result;
+	}
+
+	static void reset()
+	{
+		// The metrics are kept as the instrumented converters reference them
+		for (PairMetrics pairMetrics : getAllMetrics()) {
+			pairMetrics.reset();
+		}
+	}
+
+	private static List<PairMetrics> getAllMetrics()
+	{
+		synchronized (allMetrics) {
+			return new ArrayList<>(allMetrics);
+		}
+	}
+
+	private static void emitStatisticsEvents()
+	{
+		if (!enabled) {
+			return;
+		}
+
+		for (PairMetrics pairMetrics : getAllMetrics()) {
+
+			long invocations = pairMetrics.invocations.sum();
+
+			if (invocations == 0) {
+				continue;
+			}
+
+			ConversionEvents.commitStatistics(
+				pairMetrics.sourceClass,
+				pairMetrics.targetClass,
+				invocations,
+				pairMetrics.failures.sum(),
+				pairMetrics.totalNanos.sum() / invocations,
+				pairMetrics.maxNanos.get());
+		}
+	}
+}
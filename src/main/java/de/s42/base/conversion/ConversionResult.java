@@ -0,0 +1,284 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import de.s42.base.functional.Either;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * ConversionResult is the result of {@link ConversionHelper#tryConvert(Object, Class)}. It either contains the
+ * converted value (which may be null) or a failure message. Failures are not thrown, so expected failures do not cost
+ * stack traces.
+ *
+ * @param <ValueType> Type of the converted value
+ *
+ * @author Benjamin Schiller
+ */
+public final class ConversionResult<ValueType>
+{
+
+	@SuppressWarnings("rawtypes")
+	private final static ConversionResult NULL = new ConversionResult<>(null, null, null);
+
+	/**
+	 * Create a successful result.
+	 *
+	 * @param <ValueType> Type of the converted value
+	 * @param value Converted value - may be null
+	 * @return Successful ConversionResult
+	 */
+	@SuppressWarnings("unchecked")
+	public static <ValueType> ConversionResult<ValueType> ofValue(ValueType value)
+	{
+		if (value == null) {
+			return NULL;
+		}
+
+		return new ConversionResult<>(value, null, null);
+	}
+
+	/**
+	 * Create a failed result.
+	 *
+	 * @param <ValueType> Type of the converted value
+	 * @param failure Message describing the failure
+	 * @return Failed ConversionResult
+	 * @throws NullPointerException if failure is null
+	 */
+	public static <ValueType> ConversionResult<ValueType> ofFailure(String failure) throws NullPointerException
+	{
+		Objects.requireNonNull(failure, "failure may not be null");
+
+		return new ConversionResult<>(null, failure, null);
+	}
+
+	/**
+	 * Create a failed result caused by an exception.
+	 *
+	 * @param <ValueType> Type of the converted value
+	 * @param failure Message describing the failure
+	 * @param cause Exception which caused the failure - may be null
+	 * @return Failed ConversionResult
+	 * @throws NullPointerException if failure is null
+	 */
+	public static <ValueType> ConversionResult<ValueType> ofFailure(String failure, Throwable cause) throws NullPointerException
+	{
+		Objects.requireNonNull(failure, "failure may not be null");
+
+		return new ConversionResult<>(null, failure, cause);
+	}
+
+	/**
+	 * Stores the converted value.
+	 */
+	private final ValueType value;
+
+	/**
+	 * Stores the failure message - null if successful.
+	 */
+	private final String failure;
+
+	/**
+	 * Stores the optional cause of the failure.
+	 */
+	private final Throwable cause;
+
+	/**
+	 * Internal constructor for a ConversionResult.
+	 *
+	 * @param value Converted value
+	 * @param failure Failure message
+	 * @param cause Cause of the failure
+	 */
+	private ConversionResult(ValueType value, String failure, Throwable cause)
+	{
+		assert value == null || failure == null : "value == null || failure == null";
+
+		this.value = value;
+		this.failure = failure;
+		this.cause = cause;
+	}
+
+	/**
+	 * Returns true if the conversion succeeded.
+	 *
+	 * @return True if the conversion succeeded
+	 */
+	public boolean isSuccess()
+	{
+		return failure == null;
+	}
+
+	/**
+	 * Returns true if the conversion failed.
+	 *
+	 * @return True if the conversion failed
+	 */
+	public boolean isFailure()
+	{
+		return failure != null;
+	}
+
+	/**
+	 * Returns the converted value or throws a RuntimeException with the failure message if the conversion failed.
+	 *
+	 * @return The converted value - may be null
+	 * @throws RuntimeException if the conversion failed
+	 */
+	public ValueType getOrThrow() throws RuntimeException
+	{
+		if (isFailure()) {
+			throw new RuntimeException(failure, cause);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Returns the converted value if the conversion succeeded or other if it failed.
+	 *
+	 * @param other Value that will be returned if the conversion failed
+	 * @return The converted value or other
+	 */
+	public ValueType orElse(ValueType other)
+	{
+		if (isFailure()) {
+			return other;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Returns a nullable Optional of the converted value. It is empty if the conversion failed or the value is null.
+	 *
+	 * @return A nullable Optional of the converted value
+	 */
+	public Optional<ValueType> value()
+	{
+		return Optional.ofNullable(value);
+	}
+
+	/**
+	 * Returns a nullable Optional of the failure message.
+	 *
+	 * @return A nullable Optional of the failure message
+	 */
+	public Optional<String> failure()
+	{
+		return Optional.ofNullable(failure);
+	}
+
+	/**
+	 * Returns the failure message or null if successful.
+	 *
+	 * @return The failure message or null
+	 */
+	public String getFailure()
+	{
+		return failure;
+	}
+
+	/**
+	 * Returns the optional cause of the failure.
+	 *
+	 * @return A nullable Optional of the cause
+	 */
+	public Optional<Throwable> cause()
+	{
+		return Optional.ofNullable(cause);
+	}
+
+	/**
+	 * Returns an Either with the converted value as first or the failure message as second.
+	 *
+	 * @return An Either of value or failure message
+	 * @throws NullPointerException if the conversion succeeded with a null value as Either can not contain nulls
+	 */
+	public Either<ValueType, String> toEither() throws NullPointerException
+	{
+		if (isFailure()) {
+			return Either.ofSecond(failure);
+		}
+
+		return Either.ofFirst(value);
+	}
+
+	/**
+	 * Returns the value as string if successful or the failure message.
+	 *
+	 * @return String of either value or failure
+	 */
+	@Override
+	public String toString()
+	{
+		if (isFailure()) {
+			return "Failure: " + failure;
+		}
+
+		return String.valueOf(value);
+	}
+
+	/**
+	 * The combined hashcode of value and failure.
+	 *
+	 * @return Combined hashcode of value and failure
+	 */
+	@Override
+	public int hashCode()
+	{
+		int hash = 3;
+		hash = 53 * hash + Objects.hashCode(this.value);
+		hash = 53 * hash + Objects.hashCode(this.failure);
+		return hash;
+	}
+
+	/**
+	 * ConversionResult is equal if value and failure are equal.
+	 *
+	 * @param obj Other ConversionResult
+	 * @return True if value and failure are equal
+	 */
+	@Override
+	public boolean equals(Object obj)
+	{
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		final ConversionResult<?> other = (ConversionResult<?>) obj;
+		if (!Objects.equals(this.value, other.value)) {
+			return false;
+		}
+		return Objects.equals(this.failure, other.failure);
+	}
+}
@@ -0,0 +1,160 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+/**
+ * Snapshot of the metrics of the conversions from a source to a target class - see
+ * {@link ConversionHelper#enableInstrumentation()}.
+ *
+ * @author Benjamin Schiller
+ */
+public final class ConversionStatistics
+{
+
+	private final Class sourceClass;
+	private final Class targetClass;
+	private final long invocations;
+	private final long failures;
+	private final long totalNanos;
+	private final long maxNanos;
+	private final long[] latencyHistogram;
+
+	ConversionStatistics(Class sourceClass, Class targetClass, long invocations, long failures, long totalNanos, long maxNanos, long[] latencyHistogram)
+	{
+		this.sourceClass = sourceClass;
+		this.targetClass = targetClass;
+		this.invocations = invocations;
+		this.failures = failures;
+		this.totalNanos = totalNanos;
+		this.maxNanos = maxNanos;
+		this.latencyHistogram = latencyHistogram;
+	}
+
+	public Class getSourceClass()
+	{
+		return sourceClass;
+	}
+
+	public Class getTargetClass()
+	{
+		return targetClass;
+	}
+
+	public long getInvocations()
+	{
+		return invocations;
+	}
+
+	public long getFailures()
+	{
+		return failures;
+	}
+
+	public long getTotalNanos()
+	{
+		return totalNanos;
+	}
+
+	public long getMaxNanos()
+	{
+		return maxNanos;
+	}
+
+	/**
+	 * Returns the ratio of failures to all invocations.
+	 *
+	 * @return failure rate between 0 and 1 - 0 if there were no invocations yet
+	 */
+	public double getFailureRate()
+	{
+		if (invocations == 0) {
+			return 0.0;
+		}
+
+		return (double) failures / (double) invocations;
+	}
+
+	public double getMeanNanos()
+	{
+		if (invocations == 0) {
+			return 0.0;
+		}
+
+		return (double) totalNanos / (double) invocations;
+	}
+
+	/**
+	 * Returns the counts of the latency buckets. Bucket 0 counts latencies of 0 ns and bucket i &gt; 0 the ones in
+	 * [2^(i-1), 2^i) ns.
+	 *
+	 * @return a copy of the histogram
+	 */
+	public long[] getLatencyHistogram()
+	{
+		return latencyHistogram.clone();
+	}
+
+	/**
+	 * Returns an upper bound of the given latency percentile from the histogram - accurate to a factor of 2.
+	 *
+	 * @param percentile between 0 and 100 i.e. 99.9
+	 * @return the upper bound of the bucket containing the percentile in ns - 0 if there were no invocations yet
+	 */
+	public long getLatencyPercentileNanos(double percentile)
+	{
+		if (percentile < 0.0 || percentile > 100.0) {
+			throw new IllegalArgumentException("percentile has to be between 0 and 100 but is " + percentile);
+		}
+
+		long count = 0;
+		for (long bucket : latencyHistogram) {
+			count += bucket;
+		}
+
+		if (count == 0) {
+			return 0;
+		}
+
+		long rank = Math.max(1L, (long) Math.ceil(count * percentile / 100.0));
+		long seen = 0;
+
+		for (int i = 0; i < latencyHistogram.length; ++i) {
+			seen += latencyHistogram[i];
+			if (seen >= rank) {
+				long upperBound = (i == 0) ? 0L : (i >= 63 ? Long.MAX_VALUE : (1L << i) - 1);
+				return Math.min(upperBound, maxNanos);
+			}
+		}
+
+		return maxNanos;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "ConversionStatistics{" + "sourceClass=" + sourceClass.getName() + ", targetClass=" + targetClass.getName() + ", invocations=" + invocations + ", failures=" + failures + ", meanNanos=" + (long) getMeanNanos() + ", p99Nanos=" + getLatencyPercentileNanos(99.0) + ", maxNanos=" + maxNanos + '}';
+	}
+}
@@ -0,0 +1,65 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+/**
+ * A converter handle is resolved once for a source and target class using
+ * {@link ConversionHelper#converterFor(Class, Class)} and can then be reused for any number of conversions without
+ * running through the lookups of {@link ConversionHelper#convert(Object, Class)} again.
+ *
+ * @param <SourceType> Type of the values to convert
+ * @param <TargetType> Type of the converted values
+ *
+ * @author Benjamin Schiller
+ */
+@FunctionalInterface
+public interface Converter<SourceType, TargetType>
+{
+
+	/**
+	 * Converts the given value. null always remains null.
+	 *
+	 * @param value Value to convert
+	 * @return The converted value
+	 * @throws RuntimeException if the value can not be converted
+	 */
+	public TargetType convert(SourceType value) throws RuntimeException;
+
+	/**
+	 * Converts the given value without throwing if it can not be converted. null always remains null.
+	 *
+	 * @param value Value to convert
+	 * @return The result containing either the converted value or the failure
+	 */
+	public default ConversionResult<TargetType> tryConvert(SourceType value)
+	{
+		try {
+			return ConversionResult.ofValue(convert(value));
+		} catch (RuntimeException ex) {
+			return ConversionResult.ofFailure(String.valueOf(ex.getMessage()), ex);
+		}
+	}
+}
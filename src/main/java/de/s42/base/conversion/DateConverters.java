@@ -0,0 +1,278 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import java.sql.Timestamp;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+
+/**
+ * Thread safe parsing of dates from strings. Supported are (in this order):
+ * <ul>
+ * <li>Epoch milliseconds like 1717958547123 or -1000 (hand written digit fast path)</li>
+ * <li>The legacy format yyyy-MM-dd HH:mm:ss:SSS (hand written fast path, values with unpadded fields like
+ * 2022-4-14 1:2:3:4 fall back to a lenient SimpleDateFormat as before)</li>
+ * <li>ISO dates like 2022-04-14 and ISO date times like 2022-04-14T10:12:56.123, 2022-04-14T10:12:56Z or
+ * 2022-04-14T10:12:56+02:00[Europe/Berlin]</li>
+ * <li>JDBC timestamps like 2022-04-14 10:12:56.123456789</li>
+ * </ul>
+ * Values without zone are interpreted in the system default zone.
+ *
+ * @author Benjamin Schiller
+ */
+final class DateConverters
+{
+
+	/**
+	 * Length of yyyy-MM-dd HH:mm:ss:SSS
+	 */
+	private final static int LEGACY_LENGTH = 23;
+
+	/**
+	 * Length of yyyy-MM-dd
+	 */
+	private final static int DATE_LENGTH = 10;
+
+	private final static String LEGACY_PATTERN = "yyyy-MM-dd HH:mm:ss:SSS";
+
+	private DateConverters()
+	{
+		// never instantiated
+	}
+
+	static boolean isDigits(CharSequence value)
+	{
+		int length = value.length();
+
+		if (length == 0) {
+			return false;
+		}
+
+		for (int i = 0; i < length; ++i) {
+			char c = value.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns true for epoch milliseconds - digits with an optional leading minus.
+	 *
+	 * @param value
+	 * @return true if the value are epoch milliseconds
+	 */
+	static boolean isEpochMillis(CharSequence value)
+	{
+		if (value.length() > 1 && value.charAt(0) == '-') {
+			return isDigits(value, 1, value.length());
+		}
+
+		return isDigits(value);
+	}
+
+	private static boolean isDigits(CharSequence value, int start, int end)
+	{
+		for (int i = start; i < end; ++i) {
+			char c = value.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Parses yyyy-MM-dd HH:mm:ss:SSS without a formatter.
+	 *
+	 * @param value
+	 * @return the parsed date time or null if the value does not have the legacy format
+	 * @throws DateTimeException if the fields are out of range
+	 */
+	static LocalDateTime parseLegacy(CharSequence value) throws DateTimeException
+	{
+		if (value.length() != LEGACY_LENGTH
+			|| value.charAt(4) != '-'
+			|| value.charAt(7) != '-'
+			|| value.charAt(10) != ' '
+			|| value.charAt(13) != ':'
+			|| value.charAt(16) != ':'
+			|| value.charAt(19) != ':'
+			|| !isDigits(value, 0, 4)
+			|| !isDigits(value, 5, 7)
+			|| !isDigits(value, 8, 10)
+			|| !isDigits(value, 11, 13)
+			|| !isDigits(value, 14, 16)
+			|| !isDigits(value, 17, 19)
+			|| !isDigits(value, 20, 23)) {
+			return null;
+		}
+
+		return LocalDateTime.of(
+			ParseHelper.parseInt(value, 0, 4),
+			ParseHelper.parseInt(value, 5, 7),
+			ParseHelper.parseInt(value, 8, 10),
+			ParseHelper.parseInt(value, 11, 13),
+			ParseHelper.parseInt(value, 14, 16),
+			ParseHelper.parseInt(value, 17, 19),
+			ParseHelper.parseInt(value, 20, 23) * 1_000_000
+		);
+	}
+
+	/**
+	 * Parses the legacy format like the former SimpleDateFormat did - unpadded fields and trailing text are accepted.
+	 * SimpleDateFormat is not thread safe, so a new one is created for each of these rare values.
+	 *
+	 * @param value
+	 * @return the parsed date or null if the value does not have the legacy format
+	 */
+	static Date parseLegacyLenient(String value)
+	{
+		return new SimpleDateFormat(LEGACY_PATTERN).parse(value, new ParsePosition(0));
+	}
+
+	/**
+	 * Parses any of the supported formats into a ZonedDateTime.
+	 *
+	 * @param value
+	 * @return the parsed date time
+	 * @throws IllegalArgumentException if the value is in none of the supported formats
+	 */
+	static ZonedDateTime parseZoned(String value) throws IllegalArgumentException
+	{
+		assert value != null : "value != null";
+
+		// Epoch millis and padded legacy values with out of range fields are rejected
+		try {
+			if (isEpochMillis(value)) {
+				return Instant.ofEpochMilli(Long.parseLong(value)).atZone(ZoneId.systemDefault());
+			}
+
+			LocalDateTime legacy = parseLegacy(value);
+			if (legacy != null) {
+				return legacy.atZone(ZoneId.systemDefault());
+			}
+		} catch (DateTimeException | NumberFormatException ex) {
+			throw new IllegalArgumentException("Value '" + value + "' is no valid date - " + ex.getMessage(), ex);
+		}
+
+		RuntimeException failure = null;
+
+		try {
+			if (value.length() == DATE_LENGTH) {
+				return LocalDate.parse(value, DateTimeFormatter.ISO_LOCAL_DATE).atStartOfDay(ZoneId.systemDefault());
+			}
+
+			if (value.length() > DATE_LENGTH && value.charAt(DATE_LENGTH) == 'T') {
+
+				TemporalAccessor parsed = DateTimeFormatter.ISO_DATE_TIME.parseBest(value, ZonedDateTime::from, LocalDateTime::from);
+
+				if (parsed instanceof ZonedDateTime zoned) {
+					return zoned;
+				}
+
+				return ((LocalDateTime) parsed).atZone(ZoneId.systemDefault());
+			}
+
+			if (value.length() > DATE_LENGTH && value.charAt(DATE_LENGTH) == ' ') {
+				return Timestamp.valueOf(value).toLocalDateTime().atZone(ZoneId.systemDefault());
+			}
+		} catch (DateTimeException | IllegalArgumentException ex) {
+			failure = ex;
+		}
+
+		// Unpadded legacy values like 2022-4-14 1:2:3:4
+		Date lenient = parseLegacyLenient(value);
+		if (lenient != null) {
+			return lenient.toInstant().atZone(ZoneId.systemDefault());
+		}
+
+		if (failure != null) {
+			throw new IllegalArgumentException("Value '" + value + "' is no valid date - " + failure.getMessage(), failure);
+		}
+
+		throw new IllegalArgumentException("Value '" + value + "' is no valid date");
+	}
+
+	static Date parseDate(String value) throws IllegalArgumentException
+	{
+		assert value != null : "value != null";
+
+		// Fast path for timestamps
+		if (isEpochMillis(value)) {
+			return new Date(Long.parseLong(value));
+		}
+
+		try {
+			LocalDateTime legacy = parseLegacy(value);
+			if (legacy != null) {
+				return Date.from(legacy.atZone(ZoneId.systemDefault()).toInstant());
+			}
+
+			// JDBC timestamps keep their nanos as in the past
+			if (value.length() > DATE_LENGTH && value.charAt(DATE_LENGTH) == ' ') {
+				return Timestamp.valueOf(value);
+			}
+		} catch (DateTimeException ex) {
+			throw new IllegalArgumentException("Value '" + value + "' is no valid date - " + ex.getMessage(), ex);
+		} catch (IllegalArgumentException ex) {
+			// No JDBC timestamp - parseZoned tries the remaining formats
+		}
+
+		return Date.from(parseZoned(value).toInstant());
+	}
+
+	static Instant parseInstant(String value) throws IllegalArgumentException
+	{
+		assert value != null : "value != null";
+
+		// Fast path for timestamps
+		if (isEpochMillis(value)) {
+			return Instant.ofEpochMilli(Long.parseLong(value));
+		}
+
+		return parseZoned(value).toInstant();
+	}
+
+	static LocalDateTime parseLocalDateTime(String value) throws IllegalArgumentException
+	{
+		assert value != null : "value != null";
+
+		return parseZoned(value).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+	}
+}
@@ -0,0 +1,358 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+/**
+ * Lookup tables for the conversion from and to enums. The tables are built once per enum class and allow to look up
+ * constants by name (optionally ignoring case) from any CharSequence without allocations and by ordinal. The toString
+ * values of the constants are cached as well.
+ *
+ * @author Benjamin Schiller
+ */
+final class EnumConverters
+{
+
+	private final static ClassValue<EnumTable> tables = new ClassValue<>()
+	{
+		@Override
+		protected EnumTable computeValue(Class<?> enumClass)
+		{
+			return new EnumTable(enumClass);
+		}
+	};
+
+	private EnumConverters()
+	{
+	}
+
+	/**
+	 * Lookup table of a single enum class. Names are stored in open addressing hash tables containing ordinal + 1 per
+	 * slot (0 is empty). In the case insensitive table names only differing in case are stored negated and do not
+	 * match.
+	 */
+	static final class EnumTable
+	{
+
+		private final Class enumClass;
+		private final Enum[] constants;
+		private final String[] strings;
+		private final int[] exact;
+		private final int[] ignoreCase;
+		private final int mask;
+
+		EnumTable(Class enumClass)
+		{
+			this.enumClass = enumClass;
+			constants = (Enum[]) enumClass.getEnumConstants();
+
+			int size = Integer.highestOneBit(Math.max(constants.length, 1) * 4 - 1);
+			exact = new int[size];
+			ignoreCase = new int[size];
+			mask = size - 1;
+
+			strings = new String[constants.length];
+			for (Enum constant : constants) {
+				strings[constant.ordinal()] = constant.toString();
+				putExact(constant);
+				putIgnoreCase(constant);
+			}
+		}
+
+		private void putExact(Enum constant)
+		{
+			String name = constant.name();
+			int slot = spread(name.hashCode()) & mask;
+
+			while (exact[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+
+			exact[slot] = constant.ordinal() + 1;
+		}
+
+		private void putIgnoreCase(Enum constant)
+		{
+			String name = constant.name();
+			int slot = hash(name, true) & mask;
+
+			while (ignoreCase[slot] != 0) {
+
+				int other = ignoreCase[slot];
+
+				// Ambiguous name -> keep it in the table but disable it
+				if (constants[Math.abs(other) - 1].name().equalsIgnoreCase(name)) {
+					ignoreCase[slot] = -Math.abs(other);
+					return;
+				}
+
+				slot = (slot + 1) & mask;
+			}
+
+			ignoreCase[slot] = constant.ordinal() + 1;
+		}
+
+		/**
+		 * Finds the constant with the given name.
+		 *
+		 * @param value Name of the constant
+		 * @param caseInsensitive if true and there is no exact match the name is compared ignoring case
+		 * @return The constant or null if there is none or the name is ambiguous ignoring case
+		 */
+		Enum find(CharSequence value, boolean caseInsensitive)
+		{
+			assert value != null : "value != null";
+
+			// Strings cache their hash and compare intrinsified
+			if (value instanceof String string) {
+
+				int slot = spread(string.hashCode()) & mask;
+
+				for (int entry = exact[slot]; entry != 0; entry = exact[slot]) {
+
+					if (constants[entry - 1].name().equals(string)) {
+						return constants[entry - 1];
+					}
+
+					slot = (slot + 1) & mask;
+				}
+			} else {
+
+				int slot = hash(value, false) & mask;
+
+				for (int entry = exact[slot]; entry != 0; entry = exact[slot]) {
+
+					if (matches(constants[entry - 1].name(), value, false)) {
+						return constants[entry - 1];
+					}
+
+					slot = (slot + 1) & mask;
+				}
+			}
+
+			if (!caseInsensitive) {
+				return null;
+			}
+
+			int slot = hash(value, true) & mask;
+
+			for (int entry = ignoreCase[slot]; entry != 0; entry = ignoreCase[slot]) {
+
+				Enum constant = constants[Math.abs(entry) - 1];
+
+				if (matches(constant.name(), value, true)) {
+					return (entry > 0) ? constant : null;
+				}
+
+				slot = (slot + 1) & mask;
+			}
+
+			return null;
+		}
+
+		/**
+		 * Finds the constant with the given ordinal.
+		 *
+		 * @param ordinal
+		 * @return The constant or null if ordinal is out of range
+		 */
+		Enum find(long ordinal)
+		{
+			if (ordinal < 0 || ordinal >= constants.length) {
+				return null;
+			}
+
+			return constants[(int) ordinal];
+		}
+
+		String toString(Enum constant)
+		{
+			return strings[constant.ordinal()];
+		}
+
+		String missingMessage(Object value)
+		{
+			return "No enum constant " + enumClass.getCanonicalName() + "." + value;
+		}
+
+		/**
+		 * Hashes like String.hashCode (or of the folded chars if caseInsensitive) to match the cached hash of Strings.
+		 */
+		private static int hash(CharSequence value, boolean caseInsensitive)
+		{
+			int hash = 0;
+			int length = value.length();
+
+			if (caseInsensitive) {
+				for (int i = 0; i < length; ++i) {
+					hash = 31 * hash + fold(value.charAt(i));
+				}
+			} else {
+				for (int i = 0; i < length; ++i) {
+					hash = 31 * hash + value.charAt(i);
+				}
+			}
+
+			return spread(hash);
+		}
+
+		/**
+		 * Spreads the higher bits as the tables are small.
+		 */
+		private static int spread(int hash)
+		{
+			return hash ^ (hash >>> 16);
+		}
+
+		private static boolean matches(String name, CharSequence value, boolean caseInsensitive)
+		{
+			int length = name.length();
+
+			if (length != value.length()) {
+				return false;
+			}
+
+			for (int i = 0; i < length; ++i) {
+
+				char c1 = name.charAt(i);
+				char c2 = value.charAt(i);
+
+				if (c1 != c2 && (!caseInsensitive || fold(c1) != fold(c2))) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		/**
+		 * Folds the char the same way as String.equalsIgnoreCase compares chars.
+		 */
+		private static char fold(char c)
+		{
+			// ASCII fast path
+			if (c < 128) {
+				return (c >= 'A' && c <= 'Z') ? (char) (c + 32) : c;
+			}
+
+			return Character.toLowerCase(Character.toUpperCase(c));
+		}
+	}
+
+	/**
+	 * Converts values to the constants of an enum by name. CharSequences are looked up directly, other values by
+	 * toString.
+	 */
+	private static final class ToEnumConverter implements Converter<Object, Object>
+	{
+
+		private final EnumTable table;
+
+		ToEnumConverter(EnumTable table)
+		{
+			this.table = table;
+		}
+
+		private Enum find(Object value)
+		{
+			if (value instanceof CharSequence sequence) {
+				return table.find(sequence, false);
+			}
+
+			return table.find(value.toString(), false);
+		}
+
+		@Override
+		public Object convert(Object value) throws IllegalArgumentException
+		{
+			if (value == null) {
+				return null;
+			}
+
+			Enum result = find(value);
+
+			if (result == null) {
+				throw new IllegalArgumentException(table.missingMessage(value));
+			}
+
+			return result;
+		}
+
+		@Override
+		public ConversionResult<Object> tryConvert(Object value)
+		{
+			if (value == null) {
+				return ConversionResult.ofValue(null);
+			}
+
+			Enum result = find(value);
+
+			if (result == null) {
+				return ConversionResult.ofFailure(table.missingMessage(value));
+			}
+
+			return ConversionResult.ofValue(result);
+		}
+	}
+
+	static EnumTable table(Class enumClass)
+	{
+		assert enumClass != null : "enumClass != null";
+		assert enumClass.isEnum() : "enumClass.isEnum()";
+
+		return tables.get(enumClass);
+	}
+
+	/**
+	 * Creates the converter to the enum targetClass. Values are always matched by name - ordinals are only matched on
+	 * request by ConversionHelper.convertToEnum(int, Class).
+	 *
+	 * @param targetClass
+	 * @return the converter
+	 */
+	static Converter createToEnum(Class targetClass)
+	{
+		return new ToEnumConverter(table(targetClass));
+	}
+
+	/**
+	 * Creates the converter from the enum (or enum constant with class body) sourceClass to String using the cached
+	 * toString values.
+	 *
+	 * @param sourceClass
+	 * @return the converter
+	 */
+	static Converter createToString(Class sourceClass)
+	{
+		EnumTable table = table(sourceClass.isEnum() ? sourceClass : sourceClass.getSuperclass());
+
+		return (Object value) -> {
+			if (value == null) {
+				return null;
+			}
+			return table.toString((Enum) value);
+		};
+	}
+}
@@ -0,0 +1,154 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fixed set of names with their indices for {@link JsonReader#nextName(JsonNames)} - names are matched directly in
+ * the buffer of the reader without creating a string. The table uses open addressing with the hash of
+ * {@link String#hashCode()}.
+ *
+ * @author Benjamin Schiller
+ */
+public final class JsonNames
+{
+
+	private final String[] names;
+	private final char[][] keys;
+	private final int[] hashes;
+	private final int[] indices;
+	private final int mask;
+
+	public JsonNames(List<String> names)
+	{
+		assert names != null : "names != null";
+
+		this.names = names.toArray(String[]::new);
+
+		int size = Integer.highestOneBit(Math.max(4, this.names.length * 2 - 1)) << 1;
+		keys = new char[size][];
+		hashes = new int[size];
+		indices = new int[size];
+		mask = size - 1;
+
+		for (int i = 0; i < this.names.length; ++i) {
+
+			String name = this.names[i];
+
+			assert name != null : "name != null";
+
+			if (indexOf(name) != -1) {
+				throw new IllegalArgumentException("Name " + name + " is contained twice");
+			}
+
+			int hash = name.hashCode();
+			int slot = hash & mask;
+			while (keys[slot] != null) {
+				slot = (slot + 1) & mask;
+			}
+
+			keys[slot] = name.toCharArray();
+			hashes[slot] = hash;
+			indices[slot] = i;
+		}
+	}
+
+	public JsonNames(String... names)
+	{
+		this(Arrays.asList(names));
+	}
+
+	/**
+	 * Returns the index of the name.
+	 *
+	 * @param name
+	 * @return the index or -1 if the name is not contained
+	 */
+	public int indexOf(String name)
+	{
+		assert name != null : "name != null";
+
+		int hash = name.hashCode();
+		int length = name.length();
+
+		for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+
+			char[] key = keys[slot];
+
+			if (key == null) {
+				return -1;
+			}
+
+			if (hashes[slot] == hash && key.length == length && equals(key, name)) {
+				return indices[slot];
+			}
+		}
+	}
+
+	/**
+	 * Returns the index of the name in chars[start, end) with the given precomputed hash.
+	 */
+	int indexOf(char[] chars, int start, int end, int hash)
+	{
+		int length = end - start;
+
+		for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+
+			char[] key = keys[slot];
+
+			if (key == null) {
+				return -1;
+			}
+
+			if (hashes[slot] == hash && key.length == length && Arrays.equals(key, 0, length, chars, start, end)) {
+				return indices[slot];
+			}
+		}
+	}
+
+	private static boolean equals(char[] key, String name)
+	{
+		for (int i = 0; i < key.length; ++i) {
+			if (key[i] != name.charAt(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	public String getName(int index)
+	{
+		return names[index];
+	}
+
+	public int size()
+	{
+		return names.length;
+	}
+}
@@ -0,0 +1,846 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pull reader for JSON documents from a Reader, InputStream (UTF-8) or CharSequence. The tokens are read one by one
+ * through a small buffer, so documents of any size can be read and callers can build their target structures directly
+ * without an intermediate JSONObject or JSONArray. Numbers are parsed from the buffer without creating strings. Not
+ * thread safe.
+ *
+ * @author Benjamin Schiller
+ */
+public final class JsonReader implements Closeable
+{
+
+	public static enum Token
+	{
+		BEGIN_ARRAY,
+		END_ARRAY,
+		BEGIN_OBJECT,
+		END_OBJECT,
+		NAME,
+		STRING,
+		NUMBER,
+		BOOLEAN,
+		NULL,
+		END_DOCUMENT
+	}
+
+	private final static int BUFFER_SIZE = 8192;
+
+	// Scopes of the nesting stack
+	private final static int EMPTY_DOCUMENT = 0;
+	private final static int NONEMPTY_DOCUMENT = 1;
+	private final static int EMPTY_ARRAY = 2;
+	private final static int NONEMPTY_ARRAY = 3;
+	private final static int EMPTY_OBJECT = 4;
+	private final static int DANGLING_NAME = 5;
+	private final static int NONEMPTY_OBJECT = 6;
+
+	private final Reader reader;
+	private final CharSequence sequence;
+	private int sequencePosition;
+	private char[] buffer;
+	private CharBuffer bufferView;
+	private int pos;
+	private int limit;
+	private long consumed;
+	private int[] stack = new int[32];
+	private int stackSize;
+	private Token peeked;
+	private CharSequence valueSource;
+	private int valueStart;
+	private int valueEnd;
+	private boolean booleanValue;
+
+	public JsonReader(Reader reader)
+	{
+		assert reader != null : "reader != null";
+
+		this.reader = reader;
+		this.sequence = null;
+		init(BUFFER_SIZE);
+	}
+
+	public JsonReader(InputStream in)
+	{
+		this(new InputStreamReader(in, StandardCharsets.UTF_8));
+	}
+
+	public JsonReader(CharSequence sequence)
+	{
+		assert sequence != null : "sequence != null";
+
+		this.reader = null;
+		this.sequence = sequence;
+		init(Math.max(16, Math.min(BUFFER_SIZE, sequence.length())));
+	}
+
+	private void init(int bufferSize)
+	{
+		buffer = new char[bufferSize];
+		bufferView = CharBuffer.wrap(buffer);
+		stack[stackSize++] = EMPTY_DOCUMENT;
+	}
+
+	public Token peek()
+	{
+		if (peeked == null) {
+			peeked = doPeek();
+		}
+
+		return peeked;
+	}
+
+	public boolean hasNext()
+	{
+		Token token = peek();
+
+		return token != Token.END_ARRAY && token != Token.END_OBJECT && token != Token.END_DOCUMENT;
+	}
+
+	public void beginArray()
+	{
+		expect(Token.BEGIN_ARRAY);
+		push(EMPTY_ARRAY);
+	}
+
+	public void endArray()
+	{
+		expect(Token.END_ARRAY);
+		--stackSize;
+	}
+
+	public void beginObject()
+	{
+		expect(Token.BEGIN_OBJECT);
+		push(EMPTY_OBJECT);
+	}
+
+	public void endObject()
+	{
+		expect(Token.END_OBJECT);
+		--stackSize;
+	}
+
+	public String nextName()
+	{
+		expect(Token.NAME);
+
+		return readString();
+	}
+
+	/**
+	 * Reads the next name and returns its index in names - names without escapes are matched in the buffer without
+	 * creating a string.
+	 *
+	 * @param names
+	 * @return the index of the name or -1 if it is not contained in names
+	 */
+	public int nextName(JsonNames names)
+	{
+		assert names != null : "names != null";
+
+		expect(Token.NAME);
+
+		int hash = 0;
+		for (int i = pos; i < limit; ++i) {
+
+			char c = buffer[i];
+
+			if (c == '"') {
+				int index = names.indexOf(buffer, pos, i, hash);
+				pos = i + 1;
+				return index;
+			}
+
+			if (c == '\\') {
+				break;
+			}
+
+			hash = 31 * hash + c;
+		}
+
+		// Escaped or not completely buffered
+		return names.indexOf(readString());
+	}
+
+	public String nextString()
+	{
+		Token token = peek();
+
+		if (token == Token.STRING) {
+			peeked = null;
+			return readString();
+		}
+
+		if (token == Token.NUMBER || token == Token.BOOLEAN) {
+			peeked = null;
+			return new String(buffer, valueStart, valueEnd - valueStart);
+		}
+
+		throw error("Expected STRING but was " + token);
+	}
+
+	public boolean nextBoolean()
+	{
+		expect(Token.BOOLEAN);
+
+		return booleanValue;
+	}
+
+	public void nextNull()
+	{
+		expect(Token.NULL);
+	}
+
+	public int nextInt()
+	{
+		expectNumber();
+
+		try {
+			return ParseHelper.parseInt(valueSource, valueStart, valueEnd);
+		} catch (NumberFormatException ex) {
+
+			// Allows values like 1.0 or 1e3
+			double value = parseDouble();
+			if ((int) value != value) {
+				throw error("Expected int but was " + valueSource.subSequence(valueStart, valueEnd));
+			}
+			return (int) value;
+		}
+	}
+
+	public long nextLong()
+	{
+		expectNumber();
+
+		try {
+			return ParseHelper.parseLong(valueSource, valueStart, valueEnd);
+		} catch (NumberFormatException ex) {
+
+			double value = parseDouble();
+			if ((long) value != value) {
+				throw error("Expected long but was " + valueSource.subSequence(valueStart, valueEnd));
+			}
+			return (long) value;
+		}
+	}
+
+	public double nextDouble()
+	{
+		expectNumber();
+
+		return parseDouble();
+	}
+
+	/**
+	 * Reads the next number as float. The token is parsed directly - narrowing a parsed double would round twice.
+	 *
+	 * @return the number
+	 */
+	public float nextFloat()
+	{
+		expectNumber();
+
+		// Float.parseFloat also accepts NaN, hex and type suffixes which are no JSON numbers
+		for (int i = valueStart; i < valueEnd; ++i) {
+			char c = valueSource.charAt(i);
+			if (!((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E')) {
+				throw error("Expected number but was " + valueSource.subSequence(valueStart, valueEnd));
+			}
+		}
+
+		try {
+			return Float.parseFloat(valueSource.subSequence(valueStart, valueEnd).toString());
+		} catch (NumberFormatException ex) {
+			throw error("Expected number but was " + valueSource.subSequence(valueStart, valueEnd));
+		}
+	}
+
+	private double parseDouble()
+	{
+		try {
+			return ParseHelper.parseDouble(valueSource, valueStart, valueEnd);
+		} catch (NumberFormatException ex) {
+			throw error("Expected number but was " + valueSource.subSequence(valueStart, valueEnd));
+		}
+	}
+
+	/**
+	 * Reads the next number like org.json does - as Integer, Long or BigInteger for integral values and as BigDecimal
+	 * for others.
+	 *
+	 * @return the number
+	 */
+	public Number nextNumber()
+	{
+		expect(Token.NUMBER);
+
+		boolean integral = true;
+		for (int i = valueStart; i < valueEnd; ++i) {
+			char c = buffer[i];
+			if (c == '.' || c == 'e' || c == 'E') {
+				integral = false;
+				break;
+			}
+		}
+
+		int length = valueEnd - valueStart;
+
+		try {
+			if (!integral) {
+				return new BigDecimal(buffer, valueStart, length);
+			}
+
+			// 9 digits always fit an int and 18 a long
+			if (length <= 9) {
+				return ParseHelper.parseInt(bufferView, valueStart, valueEnd);
+			}
+
+			if (length <= 18) {
+				long value = ParseHelper.parseLong(bufferView, valueStart, valueEnd);
+				if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+					return (int) value;
+				}
+				return value;
+			}
+
+			BigInteger value = new BigInteger(new String(buffer, valueStart, length));
+			if (value.bitLength() < 64) {
+				return value.longValue();
+			}
+			return value;
+		} catch (NumberFormatException ex) {
+			throw error("Invalid number " + new String(buffer, valueStart, length));
+		}
+	}
+
+	/**
+	 * Reads the next value as String, Number (see {@link #nextNumber()}), Boolean, null, List or Map (with String
+	 * keys).
+	 *
+	 * @return the value
+	 */
+	public Object nextValue()
+	{
+		switch (peek()) {
+			case BEGIN_ARRAY -> {
+				List<Object> result = new ArrayList<>();
+				beginArray();
+				while (hasNext()) {
+					result.add(nextValue());
+				}
+				endArray();
+				return result;
+			}
+			case BEGIN_OBJECT -> {
+				Map<String, Object> result = new HashMap<>();
+				beginObject();
+				while (hasNext()) {
+					result.put(nextName(), nextValue());
+				}
+				endObject();
+				return result;
+			}
+			case STRING -> {
+				return nextString();
+			}
+			case NUMBER -> {
+				return nextNumber();
+			}
+			case BOOLEAN -> {
+				return nextBoolean();
+			}
+			case NULL -> {
+				nextNull();
+				return null;
+			}
+			default ->
+				throw error("Expected a value but was " + peek());
+		}
+	}
+
+	public void skipValue()
+	{
+		int depth = 0;
+
+		do {
+			switch (peek()) {
+				case BEGIN_ARRAY -> {
+					beginArray();
+					++depth;
+				}
+				case BEGIN_OBJECT -> {
+					beginObject();
+					++depth;
+				}
+				case END_ARRAY -> {
+					endArray();
+					--depth;
+				}
+				case END_OBJECT -> {
+					endObject();
+					--depth;
+				}
+				case NAME, STRING -> {
+					peeked = null;
+					skipString();
+				}
+				case END_DOCUMENT ->
+					throw error("Unexpected end of document");
+				default ->
+					peeked = null;
+			}
+		} while (depth > 0);
+	}
+
+	/**
+	 * Makes sure the document contains no further values.
+	 */
+	public void endDocument()
+	{
+		expect(Token.END_DOCUMENT);
+	}
+
+	/**
+	 * Returns the number of chars read so far.
+	 *
+	 * @return the position in the document
+	 */
+	public long getPosition()
+	{
+		return consumed + pos;
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		if (reader != null) {
+			reader.close();
+		}
+	}
+
+	private void expect(Token token)
+	{
+		Token current = peek();
+
+		if (current != token) {
+			throw error("Expected " + token + " but was " + current);
+		}
+
+		peeked = null;
+	}
+
+	private void expectNumber()
+	{
+		Token token = peek();
+
+		if (token == Token.NUMBER) {
+			peeked = null;
+			valueSource = bufferView;
+			return;
+		}
+
+		// Numbers as strings are accepted as well
+		if (token == Token.STRING) {
+			peeked = null;
+			String value = readString();
+			valueSource = value;
+			valueStart = 0;
+			valueEnd = value.length();
+			return;
+		}
+
+		throw error("Expected NUMBER but was " + token);
+	}
+
+	private void push(int scope)
+	{
+		if (stackSize == stack.length) {
+			int[] newStack = new int[stackSize * 2];
+			System.arraycopy(stack, 0, newStack, 0, stackSize);
+			stack = newStack;
+		}
+
+		stack[stackSize++] = scope;
+	}
+
+	/**
+	 * Reads more chars into the buffer. The chars before keepFrom are dropped - so indices into the buffer have to
+	 * be reduced by keepFrom afterwards.
+	 *
+	 * @param keepFrom First index in the buffer which is still needed
+	 * @return false if the end of the input is reached
+	 */
+	private boolean fill(int keepFrom)
+	{
+		if (keepFrom > 0) {
+			System.arraycopy(buffer, keepFrom, buffer, 0, limit - keepFrom);
+			limit -= keepFrom;
+			pos -= keepFrom;
+			consumed += keepFrom;
+		}
+
+		// Tokens longer than the buffer
+		if (limit == buffer.length) {
+			char[] newBuffer = new char[buffer.length * 2];
+			System.arraycopy(buffer, 0, newBuffer, 0, limit);
+			buffer = newBuffer;
+			bufferView = CharBuffer.wrap(buffer);
+		}
+
+		int read;
+
+		if (reader != null) {
+			try {
+				read = reader.read(buffer, limit, buffer.length - limit);
+			} catch (IOException ex) {
+				throw new UncheckedIOException("Error reading JSON - " + ex.getMessage(), ex);
+			}
+		} else {
+			read = Math.min(buffer.length - limit, sequence.length() - sequencePosition);
+			if (sequence instanceof String string) {
+				string.getChars(sequencePosition, sequencePosition + read, buffer, limit);
+			} else {
+				for (int i = 0; i < read; ++i) {
+					buffer[limit + i] = sequence.charAt(sequencePosition + i);
+				}
+			}
+			sequencePosition += read;
+		}
+
+		if (read <= 0) {
+			return false;
+		}
+
+		limit += read;
+
+		return true;
+	}
+
+	private void require(int count)
+	{
+		while (limit - pos < count) {
+			if (!fill(pos)) {
+				throw error("Unexpected end of document");
+			}
+		}
+	}
+
+	private Token doPeek()
+	{
+		int scope = stack[stackSize - 1];
+
+		switch (scope) {
+			case EMPTY_ARRAY -> {
+				stack[stackSize - 1] = NONEMPTY_ARRAY;
+				if (nextNonWhitespace() == ']') {
+					++pos;
+					return Token.END_ARRAY;
+				}
+			}
+			case NONEMPTY_ARRAY -> {
+				int c = nextNonWhitespace();
+				if (c == ']') {
+					++pos;
+					return Token.END_ARRAY;
+				}
+				if (c != ',') {
+					throw error("Expected , or ]");
+				}
+				++pos;
+			}
+			case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+				stack[stackSize - 1] = DANGLING_NAME;
+				int c = nextNonWhitespace();
+				if (c == '}') {
+					++pos;
+					return Token.END_OBJECT;
+				}
+				if (scope == NONEMPTY_OBJECT) {
+					if (c != ',') {
+						throw error("Expected , or }");
+					}
+					++pos;
+					c = nextNonWhitespace();
+				}
+				if (c != '"') {
+					throw error("Expected name");
+				}
+				++pos;
+				return Token.NAME;
+			}
+			case DANGLING_NAME -> {
+				stack[stackSize - 1] = NONEMPTY_OBJECT;
+				if (nextNonWhitespace() != ':') {
+					throw error("Expected :");
+				}
+				++pos;
+			}
+			case EMPTY_DOCUMENT ->
+				stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+			case NONEMPTY_DOCUMENT -> {
+				if (nextNonWhitespace() == -1) {
+					return Token.END_DOCUMENT;
+				}
+				throw error("Expected end of document");
+			}
+			default ->
+				throw new IllegalStateException("Unknown scope " + scope);
+		}
+
+		return peekValue();
+	}
+
+	private Token peekValue()
+	{
+		int c = nextNonWhitespace();
+
+		switch (c) {
+			case '[' -> {
+				++pos;
+				return Token.BEGIN_ARRAY;
+			}
+			case '{' -> {
+				++pos;
+				return Token.BEGIN_OBJECT;
+			}
+			case '"' -> {
+				++pos;
+				return Token.STRING;
+			}
+			case 't' -> {
+				readLiteral("true");
+				booleanValue = true;
+				return Token.BOOLEAN;
+			}
+			case 'f' -> {
+				readLiteral("false");
+				booleanValue = false;
+				return Token.BOOLEAN;
+			}
+			case 'n' -> {
+				readLiteral("null");
+				return Token.NULL;
+			}
+			case -1 ->
+				throw error("Unexpected end of document");
+			default -> {
+				if (c == '-' || (c >= '0' && c <= '9')) {
+					readNumber();
+					return Token.NUMBER;
+				}
+				throw error("Unexpected character '" + (char) c + "'");
+			}
+		}
+	}
+
+	private void readLiteral(String literal)
+	{
+		int length = literal.length();
+
+		require(length);
+
+		for (int i = 0; i < length; ++i) {
+			if (buffer[pos + i] != literal.charAt(i)) {
+				throw error("Expected " + literal);
+			}
+		}
+
+		valueStart = pos;
+		pos += length;
+		valueEnd = pos;
+	}
+
+	private void readNumber()
+	{
+		valueStart = pos;
+
+		for (;;) {
+
+			if (pos == limit) {
+				int keepFrom = valueStart;
+				boolean more = fill(keepFrom);
+				valueStart -= keepFrom;
+				if (!more) {
+					break;
+				}
+			}
+
+			char c = buffer[pos];
+			if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+				++pos;
+			} else {
+				break;
+			}
+		}
+
+		valueEnd = pos;
+	}
+
+	/**
+	 * Reads the string content after the opening quote.
+	 */
+	private String readString()
+	{
+		StringBuilder builder = null;
+		int start = pos;
+
+		for (;;) {
+
+			if (pos == limit) {
+				if (builder == null) {
+					builder = new StringBuilder(Math.max(16, 2 * (pos - start)));
+				}
+				builder.append(buffer, start, pos - start);
+				if (!fill(pos)) {
+					throw error("Unterminated string");
+				}
+				start = pos;
+			}
+
+			char c = buffer[pos++];
+
+			if (c == '"') {
+				if (builder == null) {
+					return new String(buffer, start, pos - 1 - start);
+				}
+				builder.append(buffer, start, pos - 1 - start);
+				return builder.toString();
+			}
+
+			if (c == '\\') {
+				if (builder == null) {
+					builder = new StringBuilder(Math.max(16, 2 * (pos - start)));
+				}
+				builder.append(buffer, start, pos - 1 - start);
+				builder.append(readEscape());
+				start = pos;
+			}
+		}
+	}
+
+	private void skipString()
+	{
+		for (;;) {
+
+			if (pos == limit && !fill(pos)) {
+				throw error("Unterminated string");
+			}
+
+			char c = buffer[pos++];
+
+			if (c == '"') {
+				return;
+			}
+
+			if (c == '\\') {
+				readEscape();
+			}
+		}
+	}
+
+	private char readEscape()
+	{
+		require(1);
+
+		char c = buffer[pos++];
+
+		switch (c) {
+			case 'u' -> {
+				require(4);
+				int value = 0;
+				for (int i = 0; i < 4; ++i) {
+					int digit = Character.digit(buffer[pos++], 16);
+					if (digit < 0) {
+						throw error("Invalid unicode escape");
+					}
+					value = (value << 4) | digit;
+				}
+				return (char) value;
+			}
+			case 't' -> {
+				return '\t';
+			}
+			case 'b' -> {
+				return '\b';
+			}
+			case 'n' -> {
+				return '\n';
+			}
+			case 'r' -> {
+				return '\r';
+			}
+			case 'f' -> {
+				return '\f';
+			}
+			case '"', '\\', '/' -> {
+				return c;
+			}
+			default ->
+				throw error("Invalid escape \\" + c);
+		}
+	}
+
+	private int nextNonWhitespace()
+	{
+		for (;;) {
+
+			if (pos == limit && !fill(pos)) {
+				return -1;
+			}
+
+			char c = buffer[pos];
+			if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+				++pos;
+			} else {
+				return c;
+			}
+		}
+	}
+
+	private RuntimeException error(String message)
+	{
+		return new RuntimeException(message + " at position " + getPosition());
+	}
+}
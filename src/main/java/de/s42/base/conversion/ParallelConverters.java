@@ -0,0 +1,176 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Converts arrays of values in parallel on the common fork join pool. Each leaf task converts a consecutive range with
+ * its own element converter. If elements fail the failure of the lowest index is reported, independent of the order
+ * in which the tasks ran.
+ *
+ * @author Benjamin Schiller
+ */
+final class ParallelConverters
+{
+
+	/**
+	 * Minimal number of elements converted by a single task.
+	 */
+	private final static int MIN_CHUNK_SIZE = 1024;
+
+	private ParallelConverters()
+	{
+	}
+
+	private static final class Failure
+	{
+
+		final int index;
+		final RuntimeException exception;
+
+		Failure(int index, RuntimeException exception)
+		{
+			this.index = index;
+			this.exception = exception;
+		}
+	}
+
+	private static final class ConversionTask extends RecursiveAction
+	{
+
+		private final Object[] values;
+		private final Object[] results;
+		private final Class targetClass;
+		private final int from;
+		private final int to;
+		private final int chunkSize;
+		private final AtomicReference<Failure> failure;
+
+		ConversionTask(Object[] values, Object[] results, Class targetClass, int from, int to, int chunkSize, AtomicReference<Failure> failure)
+		{
+			this.values = values;
+			this.results = results;
+			this.targetClass = targetClass;
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
+			this.failure = failure;
+		}
+
+		@Override
+		protected void compute()
+		{
+			if (to - from > chunkSize) {
+				int middle = (from + to) >>> 1;
+				invokeAll(
+					new ConversionTask(values, results, targetClass, from, middle, chunkSize, failure),
+					new ConversionTask(values, results, targetClass, middle, to, chunkSize, failure)
+				);
+				return;
+			}
+
+			Converter<Object, Object> converter = ConversionHelper.createElementConverter(targetClass);
+
+			for (int i = from; i < to; ++i) {
+
+				try {
+					results[i] = converter.convert(values[i]);
+				} catch (RuntimeException ex) {
+					fail(i, ex);
+					return;
+				}
+
+				// Stop early if a lower index failed already
+				if ((i & 0xFF) == 0) {
+					Failure current = failure.get();
+					if (current != null && current.index < i) {
+						return;
+					}
+				}
+			}
+		}
+
+		private void fail(int index, RuntimeException exception)
+		{
+			Failure next = new Failure(index, exception);
+
+			for (;;) {
+				Failure current = failure.get();
+
+				if (current != null && current.index < index) {
+					return;
+				}
+
+				if (failure.compareAndSet(current, next)) {
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Converts all values into results at the same index.
+	 *
+	 * @param values
+	 * @param results Presized array receiving the converted values
+	 * @param targetClass
+	 * @param threshold Minimal length of values to convert in parallel
+	 * @throws RuntimeException containing the lowest index of the failed elements
+	 */
+	static void convert(Object[] values, Object[] results, Class targetClass, int threshold) throws RuntimeException
+	{
+		assert values != null : "values != null";
+		assert results != null : "results != null";
+		assert values.length == results.length : "values.length == results.length";
+
+		int length = values.length;
+		AtomicReference<Failure> failure = new AtomicReference<>();
+
+		// Small inputs (or without parallelism) are converted as single chunk on the calling thread
+		int chunkSize = length;
+		int parallelism = ForkJoinPool.getCommonPoolParallelism();
+		if (length >= threshold && parallelism > 1) {
+			chunkSize = Math.max(MIN_CHUNK_SIZE, length / (parallelism * 4));
+		}
+
+		ConversionTask task = new ConversionTask(values, results, targetClass, 0, length, chunkSize, failure);
+
+		if (chunkSize >= length) {
+			task.compute();
+		} else {
+			task.invoke();
+		}
+
+		Failure result = failure.get();
+
+		if (result != null) {
+			throw new RuntimeException("Error converting element " + result.index + " - " + result.exception.getMessage(), result.exception);
+		}
+	}
+}
@@ -0,0 +1,393 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import de.s42.base.math.MathHelper;
+
+/**
+ * Parses primitive values directly from ranges of a CharSequence without creating substrings.
+ *
+ * @author Benjamin Schiller
+ */
+final class ParseHelper
+{
+
+	/**
+	 * Mantissas up to 2^53 are exact doubles.
+	 */
+	private final static long MAX_EXACT_MANTISSA = 1L << 53;
+
+	/**
+	 * More digits might overflow the long mantissa.
+	 */
+	private final static int MAX_MANTISSA_DIGITS = 18;
+
+	private ParseHelper()
+	{
+		// never instantiated
+	}
+
+	public static int parseInt(CharSequence value, int start, int end) throws NumberFormatException
+	{
+		assert value != null : "value != null";
+
+		return Integer.parseInt(value, start, end, 10);
+	}
+
+	public static long parseLong(CharSequence value, int start, int end) throws NumberFormatException
+	{
+		assert value != null : "value != null";
+
+		return Long.parseLong(value, start, end, 10);
+	}
+
+	/**
+	 * Parses simple decimals like -12.345e-3 directly. If the value can not be represented exactly with at most 18
+	 * digits and an exponent of +-15 or has another form (NaN, Infinity, hex, ...) it falls back to
+	 * Double.parseDouble.
+	 *
+	 * @param value
+	 * @param start
+	 * @param end
+	 * @return The parsed double
+	 * @throws NumberFormatException
+	 */
+	public static double parseDouble(CharSequence value, int start, int end) throws NumberFormatException
+	{
+		assert value != null : "value != null";
+
+		int i = start;
+		boolean negative = false;
+
+		if (i < end) {
+			char c = value.charAt(i);
+			if (c == '-') {
+				negative = true;
+				++i;
+			} else if (c == '+') {
+				++i;
+			}
+		}
+
+		long mantissa = 0;
+		int digits = 0;
+		int significantDigits = 0;
+		int exponent = 0;
+		boolean dot = false;
+
+		for (; i < end; ++i) {
+
+			char c = value.charAt(i);
+
+			if (c >= '0' && c <= '9') {
+				++digits;
+				if (mantissa != 0 || c != '0') {
+					++significantDigits;
+				}
+				mantissa = mantissa * 10 + (c - '0');
+				if (dot) {
+					--exponent;
+				}
+			} else if (c == '.' && !dot) {
+				dot = true;
+			} else {
+				break;
+			}
+		}
+
+		if (i < end && (value.charAt(i) == 'e' || value.charAt(i) == 'E') && digits > 0) {
+
+			++i;
+			boolean negativeExponent = false;
+			if (i < end) {
+				char c = value.charAt(i);
+				if (c == '-') {
+					negativeExponent = true;
+					++i;
+				} else if (c == '+') {
+					++i;
+				}
+			}
+
+			int explicitExponent = 0;
+			int exponentDigits = 0;
+			for (; i < end && exponentDigits < 4; ++i) {
+				char c = value.charAt(i);
+				if (c < '0' || c > '9') {
+					break;
+				}
+				explicitExponent = explicitExponent * 10 + (c - '0');
+				++exponentDigits;
+			}
+
+			if (exponentDigits == 0) {
+				return parseDoubleFallback(value, start, end);
+			}
+
+			exponent += negativeExponent ? -explicitExponent : explicitExponent;
+		}
+
+		// Not a simple decimal or not exactly representable -> let the JDK handle it
+		if (i != end
+			|| digits == 0
+			|| significantDigits > MAX_MANTISSA_DIGITS
+			|| mantissa > MAX_EXACT_MANTISSA
+			|| exponent >= MathHelper.POWERS_OF_TEN_DOUBLE.length
+			|| -exponent >= MathHelper.POWERS_OF_TEN_DOUBLE.length) {
+			return parseDoubleFallback(value, start, end);
+		}
+
+		double result = (double) mantissa;
+
+		if (exponent > 0) {
+			result *= MathHelper.POWERS_OF_TEN_DOUBLE[exponent];
+		} else if (exponent < 0) {
+			result /= MathHelper.POWERS_OF_TEN_DOUBLE[-exponent];
+		}
+
+		return negative ? -result : result;
+	}
+
+	public static boolean parseBoolean(CharSequence value, int start, int end) throws IllegalArgumentException
+	{
+		assert value != null : "value != null";
+
+		int length = end - start;
+
+		if (length == 4 && regionMatchesIgnoreCase(value, start, "true")) {
+			return true;
+		}
+
+		if (length == 5 && regionMatchesIgnoreCase(value, start, "false")) {
+			return false;
+		}
+
+		throw new IllegalArgumentException("Value has to be 'true' or 'false'");
+	}
+
+	/**
+	 * Checks without exceptions if Integer.parseInt would succeed.
+	 *
+	 * @param value
+	 * @return true if value is a valid int
+	 */
+	public static boolean isInt(CharSequence value)
+	{
+		assert value != null : "value != null";
+
+		return isInteger(value, 10, "2147483647", "2147483648");
+	}
+
+	/**
+	 * Checks without exceptions if Long.parseLong would succeed.
+	 *
+	 * @param value
+	 * @return true if value is a valid long
+	 */
+	public static boolean isLong(CharSequence value)
+	{
+		assert value != null : "value != null";
+
+		return isInteger(value, 19, "9223372036854775807", "9223372036854775808");
+	}
+
+	private static boolean isInteger(CharSequence value, int maxDigits, String maxPositive, String maxNegative)
+	{
+		int length = value.length();
+		int start = 0;
+		boolean negative = false;
+
+		if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+			negative = value.charAt(0) == '-';
+			start = 1;
+		}
+
+		// Skip leading zeros for the range check
+		int firstSignificant = start;
+		while (firstSignificant < length - 1 && value.charAt(firstSignificant) == '0') {
+			++firstSignificant;
+		}
+
+		if (start == length || !isDigits(value, start, length)) {
+			return false;
+		}
+
+		int digits = length - firstSignificant;
+
+		if (digits < maxDigits) {
+			return true;
+		}
+
+		if (digits > maxDigits) {
+			return false;
+		}
+
+		// Same number of digits -> compare lexicographically with the limit
+		String limit = negative ? maxNegative : maxPositive;
+		for (int i = 0; i < digits; ++i) {
+			char c = value.charAt(firstSignificant + i);
+			char l = limit.charAt(i);
+			if (c != l) {
+				return c < l;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Checks without exceptions if Double.parseDouble (and Float.parseFloat) would succeed. It follows the grammar of
+	 * Double.valueOf(String) including whitespace, NaN, Infinity and type suffixes. Hexadecimal values are accepted if
+	 * they start with 0x and are left to the parser.
+	 *
+	 * @param value
+	 * @return true if value is a valid double
+	 */
+	public static boolean isDouble(CharSequence value)
+	{
+		assert value != null : "value != null";
+
+		int start = 0;
+		int end = value.length();
+
+		// Double.parseDouble trims the value
+		while (start < end && value.charAt(start) <= ' ') {
+			++start;
+		}
+		while (end > start && value.charAt(end - 1) <= ' ') {
+			--end;
+		}
+
+		int i = start;
+
+		if (i < end && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+			++i;
+		}
+
+		if (i == end) {
+			return false;
+		}
+
+		if (end - i == 3 && "NaN".contentEquals(value.subSequence(i, end))) {
+			return true;
+		}
+
+		if (end - i == 8 && "Infinity".contentEquals(value.subSequence(i, end))) {
+			return true;
+		}
+
+		if (end - i > 2 && value.charAt(i) == '0' && (value.charAt(i + 1) == 'x' || value.charAt(i + 1) == 'X')) {
+			return true;
+		}
+
+		int digits = 0;
+		boolean dot = false;
+		for (; i < end; ++i) {
+			char c = value.charAt(i);
+			if (c >= '0' && c <= '9') {
+				++digits;
+			} else if (c == '.' && !dot) {
+				dot = true;
+			} else {
+				break;
+			}
+		}
+
+		if (digits == 0) {
+			return false;
+		}
+
+		if (i < end && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+
+			++i;
+			if (i < end && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+				++i;
+			}
+
+			int exponentDigits = 0;
+			for (; i < end && value.charAt(i) >= '0' && value.charAt(i) <= '9'; ++i) {
+				++exponentDigits;
+			}
+
+			if (exponentDigits == 0) {
+				return false;
+			}
+		}
+
+		if (i < end) {
+			char c = value.charAt(i);
+			if (c == 'f' || c == 'F' || c == 'd' || c == 'D') {
+				++i;
+			}
+		}
+
+		return i == end;
+	}
+
+	/**
+	 * Checks if the value is 'true' or 'false' ignoring case.
+	 *
+	 * @param value
+	 * @return true if value is a valid boolean
+	 */
+	public static boolean isBoolean(CharSequence value)
+	{
+		assert value != null : "value != null";
+
+		int length = value.length();
+
+		return (length == 4 && regionMatchesIgnoreCase(value, 0, "true"))
+			|| (length == 5 && regionMatchesIgnoreCase(value, 0, "false"));
+	}
+
+	private static boolean isDigits(CharSequence value, int start, int end)
+	{
+		for (int i = start; i < end; ++i) {
+			char c = value.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean regionMatchesIgnoreCase(CharSequence value, int start, String compare)
+	{
+		for (int i = 0; i < compare.length(); ++i) {
+			if (Character.toLowerCase(value.charAt(start + i)) != compare.charAt(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static double parseDoubleFallback(CharSequence value, int start, int end) throws NumberFormatException
+	{
+		return Double.parseDouble(value.subSequence(start, end).toString());
+	}
+}
@@ -0,0 +1,750 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+/**
+ * Creates the converters from and to arrays of primitives. Strings are tokenized in one pass at ',' without split or
+ * substrings (except float) and the tokens get parsed directly into the presized target array.
+ *
+ * @author Benjamin Schiller
+ */
+final class PrimitiveArrayConverters
+{
+
+	private PrimitiveArrayConverters()
+	{
+		// never instantiated
+	}
+
+	/**
+	 * Creates a converter if source or target is a primitive array and the conversion is supported.
+	 *
+	 * @param sourceClass Exact class of the values
+	 * @param targetClass Class of the converted values
+	 * @return The converter or null if the conversion is not supported here
+	 */
+	static Converter create(Class sourceClass, Class targetClass)
+	{
+		assert sourceClass != null : "sourceClass != null";
+		assert targetClass != null : "targetClass != null";
+
+		boolean primitiveSource = sourceClass.isArray() && sourceClass.getComponentType().isPrimitive();
+		boolean primitiveTarget = targetClass.isArray() && targetClass.getComponentType().isPrimitive();
+
+		if (primitiveTarget) {
+
+			Class targetComponentType = targetClass.getComponentType();
+
+			// String -> primitive array
+			if (String.class.equals(sourceClass)) {
+				return createFromString(targetComponentType);
+			}
+
+			// Object array -> primitive array
+			if (sourceClass.isArray() && !primitiveSource) {
+				return createFromObjects(targetComponentType);
+			}
+
+			// primitive array -> primitive array
+			if (primitiveSource) {
+				return createWidening(sourceClass.getComponentType(), targetComponentType);
+			}
+
+			return null;
+		}
+
+		if (primitiveSource) {
+
+			// primitive array -> Object array or String using the boxed array
+			if (targetClass.isArray() || String.class.equals(targetClass)) {
+				Class boxedClass = ConversionHelper.wrapPrimitives(sourceClass.getComponentType()).arrayType();
+				Converter<Object, Object> boxedConverter = ConversionHelper.resolveConverter(boxedClass, targetClass);
+
+				if (ConversionHelper.isMissing(boxedConverter)) {
+					return boxedConverter;
+				}
+				return (Object value) -> {
+					return boxedConverter.convert(box(value));
+				};
+			}
+		}
+
+		return null;
+	}
+
+	// <editor-fold desc="String -> primitive array" defaultstate="collapsed">
+	private static Converter createFromString(Class componentType)
+	{
+		if (componentType == int.class) {
+			return (Object value) -> parseIntArray((String) value);
+		}
+		if (componentType == long.class) {
+			return (Object value) -> parseLongArray((String) value);
+		}
+		if (componentType == double.class) {
+			return (Object value) -> parseDoubleArray((String) value);
+		}
+		if (componentType == float.class) {
+			return (Object value) -> parseFloatArray((String) value);
+		}
+		if (componentType == short.class) {
+			return (Object value) -> parseShortArray((String) value);
+		}
+		if (componentType == byte.class) {
+			return (Object value) -> parseByteArray((String) value);
+		}
+		if (componentType == boolean.class) {
+			return (Object value) -> parseBooleanArray((String) value);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Counts the tokens like String.split(",") does for boxed arrays - trailing empty tokens are dropped.
+	 */
+	private static int countTokens(String value)
+	{
+		if (value.isBlank()) {
+			return 0;
+		}
+
+		int length = value.length();
+		while (length > 0 && value.charAt(length - 1) == ',') {
+			--length;
+		}
+
+		if (length == 0) {
+			return 0;
+		}
+
+		int count = 1;
+		int index = value.indexOf(',');
+		while (index >= 0 && index < length) {
+			++count;
+			index = value.indexOf(',', index + 1);
+		}
+
+		return count;
+	}
+
+	private static int tokenEnd(String value, int start)
+	{
+		int end = value.indexOf(',', start);
+
+		return (end < 0) ? value.length() : end;
+	}
+
+	private static int trimStart(String value, int start, int end)
+	{
+		while (start < end && value.charAt(start) <= ' ') {
+			++start;
+		}
+
+		return start;
+	}
+
+	private static int trimEnd(String value, int start, int end)
+	{
+		while (end > start && value.charAt(end - 1) <= ' ') {
+			--end;
+		}
+
+		return end;
+	}
+
+	static int[] parseIntArray(String value)
+	{
+		if (value == null) {
+			return null;
+		}
+
+		int[] result = new int[countTokens(value)];
+		int start = 0;
+
+		for (int i = 0; i < result.length; ++i) {
+			int end = tokenEnd(value, start);
+			int tokenStart = trimStart(value, start, end);
+			result[i] = ParseHelper.parseInt(value, tokenStart, trimEnd(value, tokenStart, end));
+			start = end + 1;
+		}
+
+		return result;
+	}
+
+	static long[] parseLongArray(String value)
+	{
+		if (value == null) {
+			return null;
+		}
+
+		long[] result = new long[countTokens(value)];
+		int start = 0;
+
+		for (int i = 0; i < result.length; ++i) {
+			int end = tokenEnd(value, start);
+			int tokenStart = trimStart(value, start, end);
+			result[i] = ParseHelper.parseLong(value, tokenStart, trimEnd(value, tokenStart, end));
+			start = end + 1;
+		}
+
+		return result;
+	}
+
+	static double[] parseDoubleArray(String value)
+	{
+		if (value == null) {
+			return null;
+		}
+
+		double[] result = new double[countTokens(value)];
+		int start = 0;
+
+		for (int i = 0; i < result.length; ++i) {
+			int end = tokenEnd(value, start);
+			int tokenStart = trimStart(value, start, end);
+			result[i] = ParseHelper.parseDouble(value, tokenStart, trimEnd(value, tokenStart, end));
+			start = end + 1;
+		}
+
+		return result;
+	}
+
+	static float[] parseFloatArray(String value)
+	{
+		if (value == null) {
+			return null;
+		}
+
+		float[] result = new float[countTokens(value)];
+		int start = 0;
+
+		for (int i = 0; i < result.length; ++i) {
+			int end = tokenEnd(value, start);
+			// Float.parseFloat has no CharSequence range variant and rounding via double would not be exact
+			result[i] = Float.parseFloat(value.substring(start, end));
+			start = end + 1;
+		}
+
+		return result;
+	}
+
+	static short[] parseShortArray(String value)
+	{
+		if (value == null) {
+			return null;
+		}
+
+		short[] result = new short[countTokens(value)];
+		int start = 0;
+
+		for (int i = 0; i < result.length; ++i) {
+			int end = tokenEnd(value, start);
+			int tokenStart = trimStart(value, start, end);
+			int parsed = ParseHelper.parseInt(value, tokenStart, trimEnd(value, tokenStart, end));
+			if (parsed < Short.MIN_VALUE || parsed > Short.MAX_VALUE) {
+				throw new NumberFormatException("Value " + parsed + " out of range of short");
+			}
+			result[i] = (short) parsed;
+			start = end + 1;
+		}
+
+		return result;
+	}
+
+	static byte[] parseByteArray(String value)
+	{
+		if (value == null) {
+			return null;
+		}
+
+		byte[] result = new byte[countTokens(value)];
+		int start = 0;
+
+		for (int i = 0; i < result.length; ++i) {
+			int end = tokenEnd(value, start);
+			int tokenStart = trimStart(value, start, end);
+			int parsed = ParseHelper.parseInt(value, tokenStart, trimEnd(value, tokenStart, end));
+			if (parsed < Byte.MIN_VALUE || parsed > Byte.MAX_VALUE) {
+				throw new NumberFormatException("Value " + parsed + " out of range of byte");
+			}
+			result[i] = (byte) parsed;
+			start = end + 1;
+		}
+
+		return result;
+	}
+
+	static boolean[] parseBooleanArray(String value)
+	{
+		if (value == null) {
+			return null;
+		}
+
+		boolean[] result = new boolean[countTokens(value)];
+		int start = 0;
+
+		for (int i = 0; i < result.length; ++i) {
+			int end = tokenEnd(value, start);
+			int tokenStart = trimStart(value, start, end);
+			result[i] = ParseHelper.parseBoolean(value, tokenStart, trimEnd(value, tokenStart, end));
+			start = end + 1;
+		}
+
+		return result;
+	}
+	//</editor-fold>
+
+	// <editor-fold desc="Object array -> primitive array" defaultstate="collapsed">
+	private static Converter createFromObjects(Class componentType)
+	{
+		if (componentType == int.class) {
+			return (Object value) -> {
+				if (value == null) {
+					return null;
+				}
+				Object[] values = (Object[]) value;
+				int[] result = new int[values.length];
+				for (int i = 0; i < values.length; ++i) {
+					result[i] = ConversionHelper.convertToInt(nonNull(values, i));
+				}
+				return result;
+			};
+		}
+		if (componentType == long.class) {
+			return (Object value) -> {
+				if (value == null) {
+					return null;
+				}
+				Object[] values = (Object[]) value;
+				long[] result = new long[values.length];
+				for (int i = 0; i < values.length; ++i) {
+					result[i] = ConversionHelper.convertToLong(nonNull(values, i));
+				}
+				return result;
+			};
+		}
+		if (componentType == double.class) {
+			return (Object value) -> {
+				if (value == null) {
+					return null;
+				}
+				Object[] values = (Object[]) value;
+				double[] result = new double[values.length];
+				for (int i = 0; i < values.length; ++i) {
+					result[i] = ConversionHelper.convertToDouble(nonNull(values, i));
+				}
+				return result;
+			};
+		}
+		if (componentType == boolean.class) {
+			return (Object value) -> {
+				if (value == null) {
+					return null;
+				}
+				Object[] values = (Object[]) value;
+				boolean[] result = new boolean[values.length];
+				for (int i = 0; i < values.length; ++i) {
+					result[i] = ConversionHelper.convertToBoolean(nonNull(values, i));
+				}
+				return result;
+			};
+		}
+		if (componentType == float.class) {
+			return (Object value) -> {
+				if (value == null) {
+					return null;
+				}
+				Object[] values = (Object[]) value;
+				float[] result = new float[values.length];
+				for (int i = 0; i < values.length; ++i) {
+					result[i] = ConversionHelper.convert(nonNull(values, i), float.class);
+				}
+				return result;
+			};
+		}
+		if (componentType == short.class) {
+			return (Object value) -> {
+				if (value == null) {
+					return null;
+				}
+				Object[] values = (Object[]) value;
+				short[] result = new short[values.length];
+				for (int i = 0; i < values.length; ++i) {
+					result[i] = ConversionHelper.convert(nonNull(values, i), short.class);
+				}
+				return result;
+			};
+		}
+		if (componentType == byte.class) {
+			return (Object value) -> {
+				if (value == null) {
+					return null;
+				}
+				Object[] values = (Object[]) value;
+				byte[] result = new byte[values.length];
+				for (int i = 0; i < values.length; ++i) {
+					result[i] = ConversionHelper.convert(nonNull(values, i), byte.class);
+				}
+				return result;
+			};
+		}
+		if (componentType == char.class) {
+			return (Object value) -> {
+				if (value == null) {
+					return null;
+				}
+				Object[] values = (Object[]) value;
+				char[] result = new char[values.length];
+				for (int i = 0; i < values.length; ++i) {
+					result[i] = ConversionHelper.convert(nonNull(values, i), char.class);
+				}
+				return result;
+			};
+		}
+
+		return null;
+	}
+
+	private static Object nonNull(Object[] values, int index) throws RuntimeException
+	{
+		Object value = values[index];
+
+		if (value == null) {
+			throw new RuntimeException("Element " + index + " is null and can not be stored in a primitive array");
+		}
+
+		return value;
+	}
+	//</editor-fold>
+
+	// <editor-fold desc="primitive array -> primitive array" defaultstate="collapsed">
+	/**
+	 * Supports all widening primitive conversions (JLS 5.1.2) for arrays.
+	 *
+	 * @param sourceType
+	 * @param targetType
+	 * @return The converter or null if it is no widening conversion
+	 */
+	private static Converter createWidening(Class sourceType, Class targetType)
+	{
+		if (targetType == double.class) {
+			if (sourceType == byte.class || sourceType == short.class || sourceType == char.class
+				|| sourceType == int.class || sourceType == long.class || sourceType == float.class) {
+				return PrimitiveArrayConverters::toDoubleArray;
+			}
+		}
+
+		if (targetType == float.class) {
+			if (sourceType == byte.class || sourceType == short.class || sourceType == char.class
+				|| sourceType == int.class || sourceType == long.class) {
+				return PrimitiveArrayConverters::toFloatArray;
+			}
+		}
+
+		if (targetType == long.class) {
+			if (sourceType == byte.class || sourceType == short.class || sourceType == char.class
+				|| sourceType == int.class) {
+				return PrimitiveArrayConverters::toLongArray;
+			}
+		}
+
+		if (targetType == int.class) {
+			if (sourceType == byte.class || sourceType == short.class || sourceType == char.class) {
+				return PrimitiveArrayConverters::toIntArray;
+			}
+		}
+
+		if (targetType == short.class) {
+			if (sourceType == byte.class) {
+				return PrimitiveArrayConverters::toShortArray;
+			}
+		}
+
+		return null;
+	}
+
+	static double[] toDoubleArray(Object value)
+	{
+		if (value == null) {
+			return null;
+		}
+
+		if (value instanceof int[] values) {
+			double[] result = new double[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		if (value instanceof long[] values) {
+			double[] result = new double[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		if (value instanceof float[] values) {
+			double[] result = new double[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		if (value instanceof short[] values) {
+			double[] result = new double[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		if (value instanceof char[] values) {
+			double[] result = new double[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		byte[] values = (byte[]) value;
+		double[] result = new double[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			result[i] = values[i];
+		}
+		return result;
+	}
+
+	static float[] toFloatArray(Object value)
+	{
+		if (value == null) {
+			return null;
+		}
+
+		if (value instanceof int[] values) {
+			float[] result = new float[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		if (value instanceof long[] values) {
+			float[] result = new float[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		if (value instanceof short[] values) {
+			float[] result = new float[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		if (value instanceof char[] values) {
+			float[] result = new float[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		byte[] values = (byte[]) value;
+		float[] result = new float[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			result[i] = values[i];
+		}
+		return result;
+	}
+
+	static long[] toLongArray(Object value)
+	{
+		if (value == null) {
+			return null;
+		}
+
+		if (value instanceof int[] values) {
+			long[] result = new long[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		if (value instanceof short[] values) {
+			long[] result = new long[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		if (value instanceof char[] values) {
+			long[] result = new long[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		byte[] values = (byte[]) value;
+		long[] result = new long[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			result[i] = values[i];
+		}
+		return result;
+	}
+
+	static int[] toIntArray(Object value)
+	{
+		if (value == null) {
+			return null;
+		}
+
+		if (value instanceof short[] values) {
+			int[] result = new int[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		if (value instanceof char[] values) {
+			int[] result = new int[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		byte[] values = (byte[]) value;
+		int[] result = new int[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			result[i] = values[i];
+		}
+		return result;
+	}
+
+	static short[] toShortArray(Object value)
+	{
+		if (value == null) {
+			return null;
+		}
+
+		byte[] values = (byte[]) value;
+		short[] result = new short[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			result[i] = values[i];
+		}
+		return result;
+	}
+	//</editor-fold>
+
+	// <editor-fold desc="primitive array -> boxed array" defaultstate="collapsed">
+	/**
+	 * Boxes a primitive array into an array of its wrapper type.
+	 *
+	 * @param value primitive array
+	 * @return boxed array
+	 */
+	static Object[] box(Object value)
+	{
+		if (value == null) {
+			return null;
+		}
+
+		if (value instanceof int[] values) {
+			Integer[] result = new Integer[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		if (value instanceof long[] values) {
+			Long[] result = new Long[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		if (value instanceof double[] values) {
+			Double[] result = new Double[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		if (value instanceof float[] values) {
+			Float[] result = new Float[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		if (value instanceof short[] values) {
+			Short[] result = new Short[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		if (value instanceof byte[] values) {
+			Byte[] result = new Byte[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		if (value instanceof char[] values) {
+			Character[] result = new Character[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				result[i] = values[i];
+			}
+			return result;
+		}
+
+		boolean[] values = (boolean[]) value;
+		Boolean[] result = new Boolean[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			result[i] = values[i];
+		}
+		return result;
+	}
+	//</editor-fold>
+}
@@ -0,0 +1,912 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import de.s42.base.beans.BeanHelper;
+import de.s42.base.beans.BeanInfo;
+import de.s42.base.beans.BeanProperty;
+import de.s42.base.beans.InvalidBean;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Conversion to generic types like List&lt;Integer&gt; or Map&lt;String, UUID&gt; (also nested). The converters are
+ * created once per type. JSON strings and streams are read in a single pass directly into the typed result - also into
+ * beans.
+ *
+ * @author Benjamin Schiller
+ */
+@SuppressWarnings("unchecked")
+final class TypedConverters
+{
+
+	// Class targets are cached in the class itself so bean classes can be unloaded
+	private final static ClassValue<TypedConverter> classConverters = new ClassValue<>()
+	{
+		@Override
+		protected TypedConverter computeValue(Class<?> type)
+		{
+			return create(type);
+		}
+	};
+
+	// Generic types are cached in their raw class - lock free like the class targets
+	private final static ClassValue<Map<Type, TypedConverter>> typedConverters = new ClassValue<>()
+	{
+		@Override
+		protected Map<Type, TypedConverter> computeValue(Class<?> type)
+		{
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private TypedConverters()
+	{
+	}
+
+	/**
+	 * Converter to a single type.
+	 */
+	static abstract class TypedConverter
+	{
+
+		/**
+		 * Converts an in memory value.
+		 */
+		abstract Object convert(Object value) throws RuntimeException;
+
+		/**
+		 * Reads the next value of the reader.
+		 */
+		abstract Object read(JsonReader reader) throws RuntimeException;
+
+		/**
+		 * Returns true if the value already matches the type including all its elements.
+		 */
+		abstract boolean isInstance(Object value);
+
+		Object readDocument(CharSequence json) throws RuntimeException
+		{
+			return readDocument(new JsonReader(json));
+		}
+
+		Object readDocument(JsonReader reader) throws RuntimeException
+		{
+			Object result = read(reader);
+			reader.endDocument();
+
+			return result;
+		}
+	}
+
+	/**
+	 * Values of a class - delegates to {@link ConversionHelper#convert(Object, Class)} and reads numbers directly.
+	 */
+	private static final class ValueConverter extends TypedConverter
+	{
+
+		private final Class targetClass;
+		private final Class wrappedClass;
+		// Resolved on first use as the component class may be this class again
+		private volatile TypedConverter componentConverter;
+
+		ValueConverter(Class targetClass)
+		{
+			this.targetClass = targetClass;
+			this.wrappedClass = ConversionHelper.wrapPrimitives(targetClass);
+		}
+
+		private TypedConverter getComponentConverter()
+		{
+			TypedConverter converter = componentConverter;
+
+			if (converter == null) {
+				converter = get(targetClass.getComponentType());
+				componentConverter = converter;
+			}
+
+			return converter;
+		}
+
+		@Override
+		Object convert(Object value) throws RuntimeException
+		{
+			return ConversionHelper.convert(value, targetClass);
+		}
+
+		@Override
+		boolean isInstance(Object value)
+		{
+			return value == null || wrappedClass.isInstance(value);
+		}
+
+		@Override
+		Object read(JsonReader reader) throws RuntimeException
+		{
+			switch (reader.peek()) {
+				case NULL -> {
+					reader.nextNull();
+					return null;
+				}
+				case NUMBER -> {
+					return readNumber(reader);
+				}
+				case STRING -> {
+					if (wrappedClass == String.class) {
+						return reader.nextString();
+					}
+					return ConversionHelper.convert(reader.nextString(), targetClass);
+				}
+				case BOOLEAN -> {
+					return ConversionHelper.convert(reader.nextBoolean(), targetClass);
+				}
+				case BEGIN_ARRAY -> {
+					if (targetClass.isArray()) {
+						return readArray(reader, getComponentConverter(), targetClass.getComponentType());
+					}
+					return toTarget(reader.nextValue());
+				}
+				default -> {
+					return toTarget(reader.nextValue());
+				}
+			}
+		}
+
+		private Object readNumber(JsonReader reader)
+		{
+			if (wrappedClass == Integer.class) {
+				return reader.nextInt();
+			}
+			if (wrappedClass == Long.class) {
+				return reader.nextLong();
+			}
+			if (wrappedClass == Double.class) {
+				return reader.nextDouble();
+			}
+			if (wrappedClass == Float.class) {
+				return reader.nextFloat();
+			}
+			if (wrappedClass == String.class) {
+				return reader.nextString();
+			}
+
+			return ConversionHelper.convert(reader.nextNumber(), targetClass);
+		}
+
+		private Object toTarget(Object value)
+		{
+			if (targetClass == JSONObject.class && value instanceof Map map) {
+				return new JSONObject(map);
+			}
+			if (targetClass == JSONArray.class && value instanceof List list) {
+				return new JSONArray(list);
+			}
+
+			return ConversionHelper.convert(value, targetClass);
+		}
+	}
+
+	/**
+	 * Beans with a public default constructor - JSON objects are read property by property into a new instance
+	 * without an intermediate map. Other values are handled like in {@link ValueConverter}.
+	 */
+	private static final class BeanConverter extends TypedConverter
+	{
+
+		private final Class beanClass;
+		private final ValueConverter valueConverter;
+		private volatile BeanPlan plan;
+
+		BeanConverter(Class beanClass)
+		{
+			this.beanClass = beanClass;
+			this.valueConverter = new ValueConverter(beanClass);
+		}
+
+		/**
+		 * Created on first use as the converters of properties may refer to this bean class again.
+		 */
+		private BeanPlan getPlan()
+		{
+			BeanPlan current = plan;
+
+			if (current == null) {
+				try {
+					current = new BeanPlan(BeanHelper.getBeanInfo(beanClass));
+				} catch (InvalidBean ex) {
+					throw new RuntimeException("Error reading bean " + beanClass.getName() + " - " + ex.getMessage(), ex);
+				}
+				plan = current;
+			}
+
+			return current;
+		}
+
+		@Override
+		boolean isInstance(Object value)
+		{
+			return value == null || beanClass.isInstance(value);
+		}
+
+		@Override
+		Object convert(Object value) throws RuntimeException
+		{
+			if (value instanceof Map<?, ?> map) {
+
+				BeanPlan current = getPlan();
+
+				try {
+					Object bean = current.info.newInstance();
+					for (Map.Entry entry : map.entrySet()) {
+						int index = current.names.indexOf(String.valueOf(entry.getKey()));
+						if (index >= 0) {
+							Object propertyValue = entry.getValue();
+							if (propertyValue != null && propertyValue != JSONObject.NULL) {
+								propertyValue = current.converters[index].convert(propertyValue);
+							} else {
+								propertyValue = null;
+							}
+							current.properties[index].write(bean, propertyValue);
+						}
+					}
+					return bean;
+				} catch (InvalidBean ex) {
+					throw new RuntimeException("Error converting to bean " + beanClass.getName() + " - " + ex.getMessage(), ex);
+				}
+			}
+
+			if (value instanceof CharSequence json && isJsonObject(json)) {
+				return readDocument(json);
+			}
+
+			return valueConverter.convert(value);
+		}
+
+		@Override
+		Object read(JsonReader reader) throws RuntimeException
+		{
+			if (reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+				return valueConverter.read(reader);
+			}
+
+			BeanPlan current = getPlan();
+			BeanProperty[] properties = current.properties;
+			TypedConverter[] converters = current.converters;
+
+			try {
+				Object bean = current.info.newInstance();
+
+				reader.beginObject();
+				while (reader.hasNext()) {
+					int index = reader.nextName(current.names);
+					if (index >= 0) {
+						properties[index].write(bean, converters[index].read(reader));
+					} else {
+						reader.skipValue();
+					}
+				}
+				reader.endObject();
+
+				return bean;
+			} catch (InvalidBean ex) {
+				throw new RuntimeException("Error reading bean " + beanClass.getName() + " - " + ex.getMessage(), ex);
+			}
+		}
+
+		private static boolean isJsonObject(CharSequence value)
+		{
+			for (int i = 0, length = value.length(); i < length; ++i) {
+				char c = value.charAt(i);
+				if (!Character.isWhitespace(c)) {
+					return c == '{';
+				}
+			}
+
+			return false;
+		}
+	}
+
+	/**
+	 * The writable properties of a bean with their names and converters resolved once.
+	 */
+	private static final class BeanPlan
+	{
+
+		private final BeanInfo info;
+		private final JsonNames names;
+		private final BeanProperty[] properties;
+		private final TypedConverter[] converters;
+
+		BeanPlan(BeanInfo<?> info)
+		{
+			this.info = info;
+
+			List<String> propertyNames = new ArrayList<>();
+			List<BeanProperty> props = new ArrayList<>();
+			for (BeanProperty property : info.getIndexedProperties()) {
+				if (property.canWrite()) {
+					propertyNames.add(property.getName());
+					props.add(property);
+				}
+			}
+
+			names = new JsonNames(propertyNames);
+			properties = props.toArray(BeanProperty[]::new);
+			converters = new TypedConverter[properties.length];
+			for (int i = 0; i < properties.length; ++i) {
+				converters[i] = get(properties[i].getGenericType());
+			}
+		}
+	}
+
+	/**
+	 * Collections of typed elements.
+	 */
+	private static final class CollectionConverter extends TypedConverter
+	{
+
+		private final Class collectionClass;
+		private final TypedConverter elementConverter;
+		private final Supplier<Collection> factory;
+
+		CollectionConverter(Class collectionClass, TypedConverter elementConverter)
+		{
+			this.collectionClass = collectionClass;
+			this.elementConverter = elementConverter;
+			this.factory = collectionFactory(collectionClass);
+		}
+
+		@Override
+		boolean isInstance(Object value)
+		{
+			if (value == null) {
+				return true;
+			}
+
+			if (!collectionClass.isInstance(value)) {
+				return false;
+			}
+
+			for (Object element : (Iterable) value) {
+				if (!elementConverter.isInstance(element)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		Object convert(Object value) throws RuntimeException
+		{
+			if (value == null || value == JSONObject.NULL || isInstance(value)) {
+				return value;
+			}
+
+			if (value instanceof CharSequence json) {
+				return readDocument(json);
+			}
+
+			Collection result = factory.get();
+
+			if (value instanceof Iterable iterable) {
+				for (Object element : iterable) {
+					result.add(elementConverter.convert(element));
+				}
+			} else if (value instanceof Object[] array) {
+				for (Object element : array) {
+					result.add(elementConverter.convert(element));
+				}
+			} else if (value.getClass().isArray()) {
+				for (int i = 0, length = Array.getLength(value); i < length; ++i) {
+					result.add(elementConverter.convert(Array.get(value, i)));
+				}
+			} else {
+				throw new RuntimeException("Can not convert " + value.getClass().getName() + " to " + collectionClass.getName());
+			}
+
+			return result;
+		}
+
+		@Override
+		Object read(JsonReader reader) throws RuntimeException
+		{
+			if (reader.peek() == JsonReader.Token.NULL) {
+				reader.nextNull();
+				return null;
+			}
+
+			Collection result = factory.get();
+
+			reader.beginArray();
+			while (reader.hasNext()) {
+				result.add(elementConverter.read(reader));
+			}
+			reader.endArray();
+
+			return result;
+		}
+	}
+
+	/**
+	 * Arrays of typed elements.
+	 */
+	private static final class ArrayConverter extends TypedConverter
+	{
+
+		private final Class componentClass;
+		private final TypedConverter elementConverter;
+
+		ArrayConverter(Class componentClass, TypedConverter elementConverter)
+		{
+			this.componentClass = componentClass;
+			this.elementConverter = elementConverter;
+		}
+
+		@Override
+		boolean isInstance(Object value)
+		{
+			if (value == null) {
+				return true;
+			}
+
+			if (!(value instanceof Object[] array) || !componentClass.isAssignableFrom(array.getClass().getComponentType())) {
+				return false;
+			}
+
+			for (Object element : array) {
+				if (!elementConverter.isInstance(element)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		Object convert(Object value) throws RuntimeException
+		{
+			if (value == null || value == JSONObject.NULL || isInstance(value)) {
+				return value;
+			}
+
+			if (value instanceof CharSequence json) {
+				return readDocument(json);
+			}
+
+			List<Object> elements;
+			if (value instanceof Collection collection) {
+				elements = new ArrayList<>(collection);
+			} else if (value instanceof Object[] array) {
+				elements = Arrays.asList(array);
+			} else {
+				throw new RuntimeException("Can not convert " + value.getClass().getName() + " to " + componentClass.getName() + "[]");
+			}
+
+			Object[] result = (Object[]) Array.newInstance(componentClass, elements.size());
+			for (int i = 0; i < result.length; ++i) {
+				result[i] = elementConverter.convert(elements.get(i));
+			}
+
+			return result;
+		}
+
+		@Override
+		Object read(JsonReader reader) throws RuntimeException
+		{
+			if (reader.peek() == JsonReader.Token.NULL) {
+				reader.nextNull();
+				return null;
+			}
+
+			return readArray(reader, elementConverter, componentClass);
+		}
+	}
+
+	/**
+	 * Maps of typed keys and values.
+	 */
+	private static final class MapConverter extends TypedConverter
+	{
+
+		private final Class mapClass;
+		private final TypedConverter keyConverter;
+		private final TypedConverter valueConverter;
+		private final Supplier<Map> factory;
+
+		MapConverter(Class mapClass, TypedConverter keyConverter, TypedConverter valueConverter)
+		{
+			this.mapClass = mapClass;
+			this.keyConverter = keyConverter;
+			this.valueConverter = valueConverter;
+			this.factory = mapFactory(mapClass);
+		}
+
+		@Override
+		boolean isInstance(Object value)
+		{
+			if (value == null) {
+				return true;
+			}
+
+			if (!mapClass.isInstance(value)) {
+				return false;
+			}
+
+			for (Map.Entry entry : ((Map<?, ?>) value).entrySet()) {
+				if (!keyConverter.isInstance(entry.getKey()) || !valueConverter.isInstance(entry.getValue())) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		Object convert(Object value) throws RuntimeException
+		{
+			if (value == null || value == JSONObject.NULL || isInstance(value)) {
+				return value;
+			}
+
+			if (value instanceof CharSequence json) {
+				return readDocument(json);
+			}
+
+			Map result = factory.get();
+
+			if (value instanceof Map<?, ?> map) {
+				for (Map.Entry entry : map.entrySet()) {
+					result.put(keyConverter.convert(entry.getKey()), valueConverter.convert(entry.getValue()));
+				}
+			} else if (value instanceof JSONObject object) {
+				for (String key : object.keySet()) {
+					result.put(keyConverter.convert(key), valueConverter.convert(object.get(key)));
+				}
+			} else {
+				throw new RuntimeException("Can not convert " + value.getClass().getName() + " to " + mapClass.getName());
+			}
+
+			return result;
+		}
+
+		@Override
+		Object read(JsonReader reader) throws RuntimeException
+		{
+			if (reader.peek() == JsonReader.Token.NULL) {
+				reader.nextNull();
+				return null;
+			}
+
+			Map result = factory.get();
+
+			reader.beginObject();
+			while (reader.hasNext()) {
+				Object key = keyConverter.convert(reader.nextName());
+				result.put(key, valueConverter.read(reader));
+			}
+			reader.endObject();
+
+			return result;
+		}
+	}
+
+	private static Object readArray(JsonReader reader, TypedConverter elementConverter, Class componentClass)
+	{
+		List<Object> elements = new ArrayList<>();
+
+		reader.beginArray();
+		while (reader.hasNext()) {
+			elements.add(elementConverter.read(reader));
+		}
+		reader.endArray();
+
+		Object result = Array.newInstance(componentClass, elements.size());
+
+		if (componentClass.isPrimitive()) {
+			for (int i = 0; i < elements.size(); ++i) {
+				Object element = elements.get(i);
+				if (element == null) {
+					throw new RuntimeException("Element " + i + " is null and can not be stored in a primitive array");
+				}
+				Array.set(result, i, element);
+			}
+		} else {
+			elements.toArray((Object[]) result);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the cached converter for the given type.
+	 *
+	 * @param type
+	 * @return the converter
+	 * @throws RuntimeException if the type is not supported
+	 */
+	static TypedConverter get(Type type) throws RuntimeException
+	{
+		assert type != null : "type != null";
+
+		if (type instanceof Class targetClass) {
+			return classConverters.get(targetClass);
+		}
+
+		Map<Type, TypedConverter> converters = typedConverters.get(rawClass(type));
+
+		// Not computeIfAbsent as nested types create their converters recursively
+		TypedConverter converter = converters.get(type);
+
+		if (converter == null) {
+			converter = create(type);
+			TypedConverter existing = converters.putIfAbsent(type, converter);
+			if (existing != null) {
+				converter = existing;
+			}
+		}
+
+		return converter;
+	}
+
+	private static TypedConverter create(Type type) throws RuntimeException
+	{
+		if (type instanceof Class targetClass) {
+			if (isBeanClass(targetClass)) {
+				return new BeanConverter(targetClass);
+			}
+			return new ValueConverter(targetClass);
+		}
+
+		if (type instanceof ParameterizedType parameterizedType) {
+
+			Class rawClass = (Class) parameterizedType.getRawType();
+			Type[] arguments = parameterizedType.getActualTypeArguments();
+
+			if (Map.class.isAssignableFrom(rawClass) && arguments.length == 2) {
+				return new MapConverter(rawClass, get(arguments[0]), get(arguments[1]));
+			}
+
+			if ((Collection.class.isAssignableFrom(rawClass) || Iterable.class.equals(rawClass)) && arguments.length == 1) {
+				return new CollectionConverter(rawClass, get(arguments[0]));
+			}
+
+			// Other generic classes are converted by their raw class
+			return get(rawClass);
+		}
+
+		if (type instanceof GenericArrayType arrayType) {
+			Type componentType = arrayType.getGenericComponentType();
+			return new ArrayConverter(rawClass(componentType), get(componentType));
+		}
+
+		if (type instanceof WildcardType wildcardType) {
+			return get(wildcardType.getUpperBounds()[0]);
+		}
+
+		if (type instanceof TypeVariable typeVariable) {
+			return get(typeVariable.getBounds()[0]);
+		}
+
+		throw new RuntimeException("Type " + type.getTypeName() + " is not supported");
+	}
+
+	/**
+	 * Returns true for concrete public classes with a public default constructor outside of the JDK and org.json.
+	 */
+	private static boolean isBeanClass(Class type)
+	{
+		if (type.isPrimitive() || type.isArray() || type.isEnum() || type.isInterface()) {
+			return false;
+		}
+
+		int modifiers = type.getModifiers();
+		if (!Modifier.isPublic(modifiers) || Modifier.isAbstract(modifiers)) {
+			return false;
+		}
+
+		String name = type.getName();
+		if (name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("org.json.")) {
+			return false;
+		}
+
+		try {
+			type.getConstructor();
+			return true;
+		} catch (NoSuchMethodException ex) {
+			return false;
+		}
+	}
+
+	static Class rawClass(Type type)
+	{
+		if (type instanceof Class targetClass) {
+			return targetClass;
+		}
+		if (type instanceof ParameterizedType parameterizedType) {
+			return (Class) parameterizedType.getRawType();
+		}
+		if (type instanceof GenericArrayType arrayType) {
+			return rawClass(arrayType.getGenericComponentType()).arrayType();
+		}
+		if (type instanceof WildcardType wildcardType) {
+			return rawClass(wildcardType.getUpperBounds()[0]);
+		}
+		if (type instanceof TypeVariable typeVariable) {
+			return rawClass(typeVariable.getBounds()[0]);
+		}
+
+		return Object.class;
+	}
+
+	private static Supplier<Collection> collectionFactory(Class collectionClass)
+	{
+		if (!collectionClass.isInterface() && !Modifier.isAbstract(collectionClass.getModifiers())) {
+			return constructorFactory(collectionClass);
+		}
+
+		if (collectionClass.isAssignableFrom(ArrayList.class)) {
+			return ArrayList::new;
+		}
+		if (collectionClass.isAssignableFrom(HashSet.class)) {
+			return HashSet::new;
+		}
+		if (collectionClass.isAssignableFrom(TreeSet.class)) {
+			return TreeSet::new;
+		}
+		if (collectionClass.isAssignableFrom(ArrayDeque.class)) {
+			return ArrayDeque::new;
+		}
+
+		throw new RuntimeException("Collection class " + collectionClass.getName() + " is not supported");
+	}
+
+	private static Supplier<Map> mapFactory(Class mapClass)
+	{
+		if (!mapClass.isInterface() && !Modifier.isAbstract(mapClass.getModifiers())) {
+			return constructorFactory(mapClass);
+		}
+
+		if (mapClass.isAssignableFrom(HashMap.class)) {
+			return HashMap::new;
+		}
+		if (mapClass.isAssignableFrom(TreeMap.class)) {
+			return TreeMap::new;
+		}
+		if (mapClass.isAssignableFrom(ConcurrentHashMap.class)) {
+			return ConcurrentHashMap::new;
+		}
+
+		throw new RuntimeException("Map class " + mapClass.getName() + " is not supported");
+	}
+
+	private static Supplier constructorFactory(Class type)
+	{
+		try {
+			Constructor constructor = type.getConstructor();
+
+			return () -> {
+				try {
+					return constructor.newInstance();
+				} catch (ReflectiveOperationException ex) {
+					throw new RuntimeException("Error creating " + type.getName() + " - " + ex.getMessage(), ex);
+				}
+			};
+		} catch (NoSuchMethodException ex) {
+			throw new RuntimeException("Class " + type.getName() + " has no public default constructor", ex);
+		}
+	}
+
+	/**
+	 * Simple ParameterizedType - equal to the ones of the JDK with the same raw class and arguments.
+	 */
+	static final class ParameterizedTypeImpl implements ParameterizedType
+	{
+
+		private final Class rawType;
+		private final Type[] typeArguments;
+
+		ParameterizedTypeImpl(Class rawType, Type[] typeArguments)
+		{
+			this.rawType = rawType;
+			this.typeArguments = typeArguments.clone();
+		}
+
+		@Override
+		public Type[] getActualTypeArguments()
+		{
+			return typeArguments.clone();
+		}
+
+		@Override
+		public Type getRawType()
+		{
+			return rawType;
+		}
+
+		@Override
+		public Type getOwnerType()
+		{
+			return rawType.getDeclaringClass();
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return Arrays.hashCode(typeArguments) ^ Objects.hashCode(getOwnerType()) ^ rawType.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ParameterizedType other)) {
+				return false;
+			}
+
+			return rawType.equals(other.getRawType())
+				&& Objects.equals(getOwnerType(), other.getOwnerType())
+				&& Arrays.equals(typeArguments, other.getActualTypeArguments());
+		}
+
+		@Override
+		public String toString()
+		{
+			StringBuilder builder = new StringBuilder(rawType.getTypeName());
+			builder.append('<');
+			for (int i = 0; i < typeArguments.length; ++i) {
+				if (i > 0) {
+					builder.append(", ");
+				}
+				builder.append(typeArguments[i].getTypeName());
+			}
+			return builder.append('>').toString();
+		}
+	}
+}
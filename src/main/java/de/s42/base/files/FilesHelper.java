@@ -31,6 +31,7 @@ import java.awt.Graphics;
 import java.awt.Image;
 import java.awt.image.BufferedImage;
 import java.io.*;
+import java.lang.reflect.Type;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
@@ -57,6 +58,7 @@ import javax.imageio.stream.ImageOutputStream;
 import javax.swing.filechooser.FileSystemView;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.json.JSONTokener;
 
 /**
  *
@@ -275,7 +277,31 @@ public final class FilesHelper
 	{
 		assert path != null : "path != null";
 
-		return new JSONObject(getFileAsString(path));
+		try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			return new JSONObject(new JSONTokener(reader));
+		}
+	}
+
+	/**
+	 * Reads the JSON file directly into the given type (i.e. a bean class or List&lt;Integer&gt;) without loading the
+	 * whole file into a String or JSONObject.
+	 *
+	 * @param <ReturnType>
+	 * @param path File to read
+	 * @param type Type to read
+	 * @return The read value
+	 * @throws IOException
+	 */
+	public final static <ReturnType> ReturnType getFileAsJSON(Path path, Type type) throws IOException
+	{
+		assert path != null : "path != null";
+		assert type != null : "type != null";
+
+		try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			return ConversionHelper.readJson(reader, type);
+		} catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
 	}
 
 	public final static String getFileAsString(String path) throws IOException
@@ -28,6 +28,7 @@ module de.sft.base
 	requires java.compiler;
 	requires java.desktop;
 	requires java.sql;
+	requires static jdk.jfr;
 	requires org.json;
 	requires jakarta.activation;
 
@@ -0,0 +1,146 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ *
+ * @author Benjamin Schiller
+ */
+public class AnnotationSetTest
+{
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.FIELD, ElementType.METHOD})
+	public static @interface Marker
+	{
+
+		String value() default "";
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.FIELD, ElementType.METHOD})
+	public static @interface Other
+	{
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.FIELD, ElementType.METHOD})
+	public static @interface Unused
+	{
+	}
+
+	public static class AnnotatedBean
+	{
+
+		@Marker("field")
+		protected String value;
+		protected String other;
+		public String plain;
+
+		@Marker("getter")
+		public String getValue()
+		{
+			return value;
+		}
+
+		public void setValue(String value)
+		{
+			this.value = value;
+		}
+
+		public String getOther()
+		{
+			return other;
+		}
+
+		@Other
+		@Marker("setter")
+		public void setOther(String other)
+		{
+			this.other = other;
+		}
+	}
+
+	@Test
+	public void validMergedAnnotationsPreferFieldOverMethods() throws InvalidBean
+	{
+		BeanInfo<AnnotatedBean> info = BeanHelper.getBeanInfo(AnnotatedBean.class);
+
+		BeanProperty<AnnotatedBean, ?> value = info.getProperty("value").orElseThrow();
+		Assert.assertTrue(value.isAnnotationPresent(Marker.class));
+		Assert.assertEquals(value.<Marker>getAnnotation(Marker.class).orElseThrow().value(), "field");
+		Assert.assertEquals(value.getAnnotations().size(), 1);
+
+		BeanProperty<AnnotatedBean, ?> other = info.getProperty("other").orElseThrow();
+		Assert.assertEquals(other.<Marker>getAnnotation(Marker.class).orElseThrow().value(), "setter");
+		Assert.assertTrue(other.isAnnotationPresent(Other.class));
+
+		BeanProperty<AnnotatedBean, ?> plain = info.getProperty("plain").orElseThrow();
+		Assert.assertTrue(plain.getAnnotations().isEmpty());
+		Assert.assertFalse(plain.getAnnotation(Marker.class).isPresent());
+	}
+
+	@Test(expectedExceptions = UnsupportedOperationException.class)
+	public void invalidModifyAnnotations() throws InvalidBean
+	{
+		BeanHelper.getBeanInfo(AnnotatedBean.class).getProperty("value").orElseThrow().getAnnotations().clear();
+	}
+
+	@Test
+	public void validAnyAnnotationPresent() throws InvalidBean
+	{
+		BeanInfo<AnnotatedBean> info = BeanHelper.getBeanInfo(AnnotatedBean.class);
+
+		AnnotationSet otherOrUnused = AnnotationSet.of(Other.class, Unused.class);
+		AnnotationSet unused = AnnotationSet.of(Unused.class);
+
+		Assert.assertTrue(info.getProperty("other").orElseThrow().isAnyAnnotationPresent(otherOrUnused));
+		Assert.assertFalse(info.getProperty("value").orElseThrow().isAnyAnnotationPresent(otherOrUnused));
+		Assert.assertFalse(info.getProperty("other").orElseThrow().isAnyAnnotationPresent(unused));
+		Assert.assertFalse(info.getProperty("plain").orElseThrow().isAnyAnnotationPresent(otherOrUnused));
+		Assert.assertFalse(info.getProperty("other").orElseThrow().isAnyAnnotationPresent(AnnotationSet.of()));
+	}
+
+	@Test
+	public void validAnnotationSetContains()
+	{
+		AnnotationSet set = AnnotationSet.of(Marker.class, Other.class);
+
+		Assert.assertTrue(set.contains(Marker.class));
+		Assert.assertTrue(set.contains(Other.class));
+		Assert.assertFalse(set.contains(Unused.class));
+		Assert.assertTrue(set.intersects(AnnotationSet.of(Other.class)));
+		Assert.assertFalse(set.intersects(AnnotationSet.of(Unused.class)));
+		Assert.assertTrue(AnnotationSet.of().isEmpty());
+	}
+}
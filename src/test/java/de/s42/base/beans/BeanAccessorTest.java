@@ -0,0 +1,202 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans;
+
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ *
+ * @author Benjamin Schiller
+ */
+public class BeanAccessorTest
+{
+
+	public static class AccessorBean
+	{
+
+		public int count;
+		public final String constant = "constant";
+		protected String name;
+		protected long id;
+		protected List<String> tags;
+		protected String writeOnly;
+
+		public String getName()
+		{
+			return name;
+		}
+
+		public void setName(String name)
+		{
+			this.name = name;
+		}
+
+		public long getId()
+		{
+			return id;
+		}
+
+		public void setId(long id)
+		{
+			this.id = id;
+		}
+
+		public List<String> getTags()
+		{
+			return tags;
+		}
+
+		public void setTags(List<String> tags)
+		{
+			this.tags = tags;
+		}
+
+		public void setWriteOnly(String writeOnly)
+		{
+			this.writeOnly = writeOnly;
+		}
+	}
+
+	@DataProvider(name = "accessors")
+	public Object[][] accessors()
+	{
+		return new Object[][]{{true}, {false}};
+	}
+
+	protected BeanInfo<AccessorBean> createInfo(boolean generate) throws InvalidBean
+	{
+		boolean previous = BeanHelper.isGenerateAccessors();
+		BeanHelper.setGenerateAccessors(generate);
+		try {
+			BeanInfo<AccessorBean> info = new BeanInfo<>(AccessorBean.class);
+			info.getAccessor();
+			return info;
+		} finally {
+			BeanHelper.setGenerateAccessors(previous);
+		}
+	}
+
+	@Test
+	public void validGeneratedAccessorIsHiddenClass() throws InvalidBean
+	{
+		Assert.assertTrue(createInfo(true).getAccessor().getClass().isHidden());
+		Assert.assertFalse(createInfo(false).getAccessor().getClass().isHidden());
+	}
+
+	@Test(dataProvider = "accessors")
+	public void validReadWriteByIndex(boolean generate) throws InvalidBean
+	{
+		BeanInfo<AccessorBean> info = createInfo(generate);
+		BeanAccessor<AccessorBean> accessor = info.getAccessor();
+		AccessorBean bean = info.newInstance();
+
+		accessor.write(bean, info.getPropertyIndex("name"), "test");
+		accessor.write(bean, info.getPropertyIndex("id"), 42L);
+		accessor.write(bean, info.getPropertyIndex("count"), 3);
+		accessor.write(bean, info.getPropertyIndex("writeOnly"), "written");
+
+		Assert.assertEquals(accessor.read(bean, info.getPropertyIndex("name")), "test");
+		Assert.assertEquals(accessor.read(bean, info.getPropertyIndex("id")), 42L);
+		Assert.assertEquals(accessor.read(bean, info.getPropertyIndex("count")), 3);
+		Assert.assertEquals(accessor.read(bean, info.getPropertyIndex("constant")), "constant");
+		Assert.assertEquals(bean.writeOnly, "written");
+		Assert.assertEquals(info.getPropertyIndex("unknown"), -1);
+	}
+
+	@Test(dataProvider = "accessors")
+	public void validReadWriteAll(boolean generate) throws InvalidBean
+	{
+		BeanInfo<AccessorBean> info = createInfo(generate);
+		BeanAccessor<AccessorBean> accessor = info.getAccessor();
+		int size = info.getIndexedProperties().size();
+
+		AccessorBean source = info.newInstance();
+		source.setName("source");
+		source.setId(7L);
+		source.setTags(List.of("a"));
+		source.count = 5;
+
+		Object[] values = new Object[size];
+		accessor.readAll(source, values);
+
+		Assert.assertEquals(values[info.getPropertyIndex("name")], "source");
+		Assert.assertNull(values[info.getPropertyIndex("writeOnly")]);
+
+		values[info.getPropertyIndex("writeOnly")] = "copied";
+		AccessorBean target = info.newInstance();
+		accessor.writeAll(target, values);
+
+		Assert.assertEquals(target.getName(), "source");
+		Assert.assertEquals(target.getId(), 7L);
+		Assert.assertEquals(target.getTags(), List.of("a"));
+		Assert.assertEquals(target.count, 5);
+		Assert.assertEquals(target.writeOnly, "copied");
+	}
+
+	@Test(dataProvider = "accessors")
+	public void validWriteWidensPrimitives(boolean generate) throws InvalidBean
+	{
+		BeanInfo<AccessorBean> info = createInfo(generate);
+		BeanAccessor<AccessorBean> accessor = info.getAccessor();
+		AccessorBean bean = info.newInstance();
+
+		accessor.write(bean, info.getPropertyIndex("id"), 5);
+		Assert.assertEquals(bean.getId(), 5L);
+
+		accessor.write(bean, info.getPropertyIndex("count"), (short) 6);
+		Assert.assertEquals(bean.count, 6);
+
+		info.write(bean, "id", 'a');
+		Assert.assertEquals(bean.getId(), 97L);
+	}
+
+	@Test(dataProvider = "accessors", expectedExceptions = InvalidBean.class)
+	public void invalidWriteNarrowingPrimitive(boolean generate) throws InvalidBean
+	{
+		BeanInfo<AccessorBean> info = createInfo(generate);
+
+		info.getAccessor().write(info.newInstance(), info.getPropertyIndex("id"), 5.5);
+	}
+
+	@Test(dataProvider = "accessors", expectedExceptions = InvalidBean.class, expectedExceptionsMessageRegExp = "Error writing value null to property id .*")
+	public void invalidWriteNullToPrimitive(boolean generate) throws InvalidBean
+	{
+		BeanInfo<AccessorBean> info = createInfo(generate);
+
+		info.getAccessor().write(info.newInstance(), info.getPropertyIndex("id"), null);
+	}
+
+	@Test(dataProvider = "accessors", expectedExceptions = InvalidBean.class, expectedExceptionsMessageRegExp = "Property index 100 is out of range")
+	public void invalidIndex(boolean generate) throws InvalidBean
+	{
+		BeanInfo<AccessorBean> info = createInfo(generate);
+
+		info.getAccessor().read(info.newInstance(), 100);
+	}
+}
@@ -0,0 +1,154 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans;
+
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ *
+ * @author Benjamin Schiller
+ */
+public class BeanDiffTest
+{
+
+	public static class DiffBean
+	{
+
+		public int count;
+		public int[] scores;
+		public transient String cache;
+		protected String name;
+		protected List<String> tags;
+
+		public String getName()
+		{
+			return name;
+		}
+
+		public void setName(String name)
+		{
+			this.name = name;
+		}
+
+		public List<String> getTags()
+		{
+			return tags;
+		}
+
+		public void setTags(List<String> tags)
+		{
+			this.tags = tags;
+		}
+
+		public void setWriteOnly(String value)
+		{
+			// not tracked
+		}
+	}
+
+	protected static DiffBean createBean()
+	{
+		DiffBean bean = new DiffBean();
+		bean.count = 1;
+		bean.scores = new int[]{1, 2};
+		bean.cache = "cache";
+		bean.setName("name");
+		bean.setTags(List.of("a"));
+		return bean;
+	}
+
+	@Test
+	public void validTrackedPropertiesSkipTransientClassAndWriteOnly() throws Exception
+	{
+		BeanDiff<DiffBean> diff = BeanHelper.getBeanInfo(DiffBean.class).getDiff();
+
+		Assert.assertEquals(diff.getPropertyNames(), List.of("count", "name", "scores", "tags"));
+		Assert.assertEquals(diff.getPropertyCount(), 4);
+		Assert.assertSame(BeanHelper.getBeanInfo(DiffBean.class).getDiff(), diff);
+	}
+
+	@Test
+	public void validUnchangedBeanHasNoChanges() throws Exception
+	{
+		BeanDiff<DiffBean> diff = new BeanDiff<>(DiffBean.class);
+		DiffBean bean = createBean();
+		Object[] snapshot = diff.snapshot(bean);
+
+		// Transient properties and equal replaced arrays are no changes
+		bean.cache = "other";
+		bean.scores = new int[]{1, 2};
+		bean.setTags(List.of("a"));
+
+		Assert.assertFalse(diff.isChanged(snapshot, bean));
+		Assert.assertEquals(diff.changedIndices(snapshot, bean).length, 0);
+		Assert.assertEquals(diff.changedIndices(snapshot, diff.snapshot(bean)).length, 0);
+		Assert.assertEquals(diff.changedIndices(createBean(), bean).length, 0);
+	}
+
+	@Test
+	public void validChangesAsIndicesAndNames() throws Exception
+	{
+		BeanInfo<DiffBean> info = BeanHelper.getBeanInfo(DiffBean.class);
+		BeanDiff<DiffBean> diff = info.getDiff();
+		DiffBean bean = createBean();
+		Object[] before = diff.snapshot(bean);
+
+		bean.count = 2;
+		bean.scores = new int[]{1, 3};
+		bean.setName(null);
+
+		int[] changed = diff.changedIndices(before, bean);
+		Assert.assertEquals(changed, new int[]{
+			info.getPropertyIndex("count"),
+			info.getPropertyIndex("name"),
+			info.getPropertyIndex("scores")
+		});
+		Assert.assertEquals(info.getAccessor().read(bean, changed[0]), 2);
+
+		Assert.assertTrue(diff.isChanged(before, bean));
+		Assert.assertEquals(diff.changedNames(before, bean), List.of("count", "name", "scores"));
+		Assert.assertEquals(diff.changedNames(before, diff.snapshot(bean)), List.of("count", "name", "scores"));
+		Assert.assertEquals(diff.changedNames(createBean(), bean), List.of("count", "name", "scores"));
+		Assert.assertEquals(diff.getNames(changed), List.of("count", "name", "scores"));
+	}
+
+	@Test
+	public void validSnapshotCanBeReused() throws Exception
+	{
+		BeanDiff<DiffBean> diff = new BeanDiff<>(DiffBean.class);
+		DiffBean bean = createBean();
+		Object[] snapshot = diff.snapshot(bean);
+
+		bean.setName("changed");
+		Assert.assertEquals(diff.changedNames(snapshot, bean), List.of("name"));
+
+		// Take the new state as base after persisting it
+		diff.snapshot(bean, snapshot);
+		Assert.assertFalse(diff.isChanged(snapshot, bean));
+	}
+}
@@ -0,0 +1,244 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans;
+
+import de.s42.base.compile.CompileHelper;
+import java.beans.Introspector;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ *
+ * @author Benjamin Schiller
+ */
+public class BeanHelperTest
+{
+
+	public static class ConcurrentBean
+	{
+
+		protected String value;
+
+		public String getValue()
+		{
+			return value;
+		}
+
+		public void setValue(String value)
+		{
+			this.value = value;
+		}
+	}
+
+	public static class MetadataBean
+	{
+
+		public int count;
+		protected String name;
+
+		public String getName()
+		{
+			return name;
+		}
+
+		public void setName(String name)
+		{
+			this.name = name;
+		}
+	}
+
+	@GenerateBeanMetadata
+	public static class NotGeneratedBean
+	{
+
+		protected String value;
+
+		public String getValue()
+		{
+			return value;
+		}
+
+		public void setValue(String value)
+		{
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Written like the generated metadata of base42-processor - counts the calls of its accessors.
+	 */
+	public static class MetadataBeanMetadata implements BeanMetadata<MetadataBean>
+	{
+
+		protected final AtomicInteger reads = new AtomicInteger();
+		protected final AtomicInteger writes = new AtomicInteger();
+
+		@Override
+		public Class<MetadataBean> getBeanClass()
+		{
+			return MetadataBean.class;
+		}
+
+		@Override
+		public MetadataBean newInstance()
+		{
+			return new MetadataBean();
+		}
+
+		@Override
+		public List<PropertyMetadata<MetadataBean>> getProperties()
+		{
+			return List.of(
+				new PropertyMetadata<>("class", Class.class, null, "getClass", null, null, MetadataBean::getClass, null),
+				new PropertyMetadata<>("count", int.class, null, null, null, "count",
+					(bean) -> bean.count,
+					(bean, value) -> bean.count = (Integer) value),
+				new PropertyMetadata<>("name", String.class, String.class, "getName", "setName", "name",
+					(bean) -> {
+						reads.incrementAndGet();
+						return bean.getName();
+					},
+					(bean, value) -> {
+						writes.incrementAndGet();
+						bean.setName((String) value);
+					})
+			);
+		}
+	}
+
+	@Test
+	public void validRegisteredMetadataIsUsedForBeanInfo() throws Exception
+	{
+		MetadataBeanMetadata metadata = new MetadataBeanMetadata();
+		BeanHelper.registerBeanMetadata(metadata);
+
+		Assert.assertSame(BeanHelper.getBeanMetadata(MetadataBean.class).orElseThrow(), metadata);
+
+		BeanInfo<MetadataBean> info = BeanHelper.getBeanInfo(MetadataBean.class);
+		BeanInfo<MetadataBean> introspected = new BeanInfo<>(MetadataBean.class);
+
+		// Same properties as by introspection
+		Assert.assertEquals(info.getPropertiesByName().keySet(), introspected.getPropertiesByName().keySet());
+		for (BeanProperty<MetadataBean, ?> property : introspected.getProperties()) {
+			BeanProperty<MetadataBean, ?> other = info.getProperty(property.getName()).orElseThrow();
+			Assert.assertEquals(other.getPropertyClass(), property.getPropertyClass());
+			Assert.assertEquals(other.getGenericType(), property.getGenericType());
+			Assert.assertEquals(other.getReadMethod(), property.getReadMethod());
+			Assert.assertEquals(other.getWriteMethod(), property.getWriteMethod());
+			Assert.assertEquals(other.getField(), property.getField());
+			Assert.assertEquals(other.canRead(), property.canRead());
+			Assert.assertEquals(other.canWrite(), property.canWrite());
+			Assert.assertEquals(other.isOwn(), property.isOwn());
+		}
+
+		// Reads and writes with the accessors of the metadata
+		MetadataBean bean = info.newInstance();
+		info.write(bean, "name", "test");
+		info.write(bean, "count", 42);
+		Assert.assertEquals(info.<String>read(bean, "name"), "test");
+		Assert.assertEquals(info.<Integer>read(bean, "count"), 42);
+		Assert.assertEquals(metadata.reads.get(), 1);
+		Assert.assertEquals(metadata.writes.get(), 1);
+	}
+
+	@Test
+	public void validMissingGeneratedMetadataFallsBackToIntrospection() throws Exception
+	{
+		Assert.assertTrue(BeanHelper.getBeanMetadata(NotGeneratedBean.class).isEmpty());
+
+		BeanInfo<NotGeneratedBean> info = BeanHelper.getBeanInfo(NotGeneratedBean.class);
+		NotGeneratedBean bean = info.newInstance();
+		info.write(bean, "value", "test");
+
+		Assert.assertEquals(bean.getValue(), "test");
+	}
+
+	@Test
+	public void validConcurrentGetBeanInfoCreatesOneInfo() throws Exception
+	{
+		int threads = 8;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		try {
+			List<Future<BeanInfo>> results = new ArrayList<>();
+			for (int i = 0; i < threads; ++i) {
+				results.add(executor.submit((Callable<BeanInfo>) () -> {
+					start.await();
+					return BeanHelper.getBeanInfo(ConcurrentBean.class);
+				}));
+			}
+
+			start.countDown();
+
+			BeanInfo first = results.get(0).get();
+			for (Future<BeanInfo> result : results) {
+				Assert.assertSame(result.get(), first);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void validCompiledBeanClassCanBeUnloaded() throws Exception
+	{
+		WeakReference<Class> reference = createCompiledBeanInfo();
+
+		for (int i = 0; i < 50 && reference.get() != null; ++i) {
+			System.gc();
+			Thread.sleep(20);
+		}
+
+		Assert.assertNull(reference.get(), "Compiled bean class has not been unloaded");
+	}
+
+	protected WeakReference<Class> createCompiledBeanInfo() throws Exception
+	{
+		Class<?> beanClass = CompileHelper.getCompiledClass(
+			"public class UnloadableBean { protected String value; public String getValue() { return value; } public void setValue(String value) { this.value = value; } }",
+			"UnloadableBean");
+
+		BeanInfo<Object> info = BeanHelper.getBeanInfo(beanClass);
+		Object bean = info.newInstance();
+		info.write(bean, "value", "test");
+		Assert.assertEquals(info.<String>read(bean, "value"), "test");
+
+		// The JDK introspector keeps its own cache of bean infos
+		Introspector.flushFromCaches(beanClass);
+
+		return new WeakReference<>(beanClass);
+	}
+}
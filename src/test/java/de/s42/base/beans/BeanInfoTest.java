@@ -92,6 +92,27 @@ public class BeanInfoTest
 		{
 			this.doubleValuesByName = doubleValuesByName;
 		}
+
+		public String getFailingValue()
+		{
+			throw new IllegalStateException("failing getter");
+		}
+
+		public void setFailingValue(String failingValue)
+		{
+			throw new IllegalStateException("failing setter");
+		}
+	}
+
+	public static class SubTestBean extends TestBean
+	{
+
+		public boolean subValue;
+
+		public String getComputedValue()
+		{
+			return "computed";
+		}
 	}
 
 	@Test
@@ -138,4 +159,92 @@ public class BeanInfoTest
 		BeanProperty property = info.getProperty("stringValues").orElseThrow();
 		Assert.assertEquals(property.getGenericTypes().get(0), String.class);
 	}
+
+	@Test
+	public void validWriteConvertedGenericProperty() throws InvalidBean
+	{
+		BeanInfo<TestBean> info = BeanHelper.getBeanInfo(TestBean.class);
+		TestBean bean = info.newInstance();
+
+		info.writeConverted(bean, "doubleValuesByName", "{\"a\": 1, \"b\": \"2.5\"}");
+		Assert.assertEquals(bean.getDoubleValuesByName(), Map.of("a", 1.0, "b", 2.5));
+
+		info.writeConverted(bean, "stringValues", List.of(1, 2));
+		Assert.assertEquals(bean.getStringValues(), List.of("1", "2"));
+	}
+
+	@Test
+	public void validAccessorsAreGenerated() throws Throwable
+	{
+		BeanAccessors.Getter getter = BeanAccessors.createGetter(TestBean.class.getMethod("getDoubleValue"));
+		BeanAccessors.Setter setter = BeanAccessors.createSetter(TestBean.class.getMethod("setDoubleValue", double.class));
+		TestBean bean = new TestBean();
+
+		setter.set(bean, 2.5);
+
+		Assert.assertEquals(getter.get(bean), 2.5);
+		Assert.assertTrue(getter.getClass().isHidden());
+		Assert.assertTrue(setter.getClass().isHidden());
+	}
+
+	@Test
+	public void validReadWritePrimitiveProperties() throws InvalidBean
+	{
+		BeanInfo<TestBean> info = BeanHelper.getBeanInfo(TestBean.class);
+		TestBean bean = info.newInstance();
+
+		info.write(bean, "doubleValue", 1.5);
+		info.write(bean, "publicValue", 3);
+
+		Assert.assertEquals(info.<Double>read(bean, "doubleValue"), 1.5);
+		Assert.assertEquals(info.<Integer>read(bean, "publicValue"), 3);
+	}
+
+	@Test(expectedExceptions = InvalidBean.class, expectedExceptionsMessageRegExp = ".*failing getter")
+	public void invalidReadFailingGetter() throws InvalidBean
+	{
+		BeanHelper.getBeanInfo(TestBean.class).read(new TestBean(), "failingValue");
+	}
+
+	@Test(expectedExceptions = InvalidBean.class, expectedExceptionsMessageRegExp = ".*failing setter")
+	public void invalidWriteFailingSetter() throws InvalidBean
+	{
+		BeanHelper.getBeanInfo(TestBean.class).write(new TestBean(), "failingValue", "value");
+	}
+
+	@Test(expectedExceptions = InvalidBean.class)
+	public void invalidWriteNullToPrimitive() throws InvalidBean
+	{
+		BeanHelper.getBeanInfo(TestBean.class).write(new TestBean(), "doubleValue", null);
+	}
+
+	@Test(expectedExceptions = InvalidBean.class)
+	public void invalidWriteWrongType() throws InvalidBean
+	{
+		BeanHelper.getBeanInfo(TestBean.class).write(new TestBean(), "stringValue", 42);
+	}
+
+	@Test
+	public void validInheritedPropertiesAndViews() throws InvalidBean
+	{
+		BeanInfo<SubTestBean> info = new BeanInfo<>(SubTestBean.class);
+
+		Assert.assertTrue(info.hasProperty("subValue"));
+		Assert.assertTrue(info.hasProperty("publicValue"));
+		Assert.assertTrue(info.hasReadProperty("stringValue"));
+		Assert.assertFalse(info.hasProperty("protectedValue"));
+		Assert.assertTrue(info.getProperty("computedValue").orElseThrow().isOwn());
+		Assert.assertFalse(info.getProperty("failingValue").orElseThrow().isOwn());
+
+		Assert.assertEquals(info.getProperties().size(), info.getPropertiesByName().size());
+		Assert.assertSame(info.getReadProperties(), info.getReadProperties());
+		Assert.assertTrue(info.getReadProperties().contains(info.getProperty("computedValue").orElseThrow()));
+		Assert.assertFalse(info.getWriteProperties().contains(info.getProperty("computedValue").orElseThrow()));
+		Assert.assertFalse(info.getReadProperties().contains(info.getProperty("writeOnlyValue").orElseThrow()));
+		Assert.assertEquals(info.getPropertyIndex("subValue"), info.getIndexedProperties().indexOf(info.getProperty("subValue").orElseThrow()));
+
+		SubTestBean bean = info.newInstance();
+		info.write(bean, "stringValue", "test");
+		Assert.assertEquals(bean.getStringValue(), "test");
+	}
 }
@@ -0,0 +1,238 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans;
+
+import de.s42.base.conversion.ConversionHelper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ *
+ * @author Benjamin Schiller
+ */
+public class BeanJsonWriterTest
+{
+
+	public static enum Color
+	{
+		RED, GREEN
+	}
+
+	public static class ChildBean
+	{
+
+		public String name;
+		public double value;
+	}
+
+	public static class ParentBean
+	{
+
+		public int count;
+		public transient String secret;
+		public String text;
+		public String missing;
+		public Color color;
+		public UUID id;
+		public int[] numbers;
+		public List<ChildBean> children;
+		public Map<String, Object> attributes;
+		protected ChildBean child;
+
+		public ChildBean getChild()
+		{
+			return child;
+		}
+
+		public void setChild(ChildBean child)
+		{
+			this.child = child;
+		}
+	}
+
+	public static class CodeBean
+	{
+
+		public String code;
+	}
+
+	protected static ChildBean createChild(String name, double value)
+	{
+		ChildBean child = new ChildBean();
+		child.name = name;
+		child.value = value;
+
+		return child;
+	}
+
+	protected static ParentBean createParent()
+	{
+		ParentBean parent = new ParentBean();
+		parent.count = 3;
+		parent.secret = "secret";
+		parent.text = "quote \" backslash \\ newline \n tab \t control \u0001 line \u2028";
+		parent.color = Color.GREEN;
+		parent.id = UUID.fromString("b1f7e04a-5b2c-4b8e-9c61-3f5a2b7c9d10");
+		parent.numbers = new int[]{1, 2, 3};
+		parent.children = Arrays.asList(createChild("a", 1.5), null, createChild("b", Double.NaN));
+		parent.attributes = new LinkedHashMap<>();
+		parent.attributes.put("key", "value");
+		parent.attributes.put("number", 42L);
+		parent.setChild(createChild("c", 2.0));
+
+		return parent;
+	}
+
+	@Test
+	public void validWriteBean()
+	{
+		String json = BeanJsonWriter.toJSON(createParent());
+
+		Assert.assertEquals(json, "{\"attributes\":{\"key\":\"value\",\"number\":42},\"child\":{\"name\":\"c\",\"value\":2.0},"
+			+ "\"children\":[{\"name\":\"a\",\"value\":1.5},null,{\"name\":\"b\",\"value\":null}],\"color\":\"GREEN\","
+			+ "\"count\":3,\"id\":\"b1f7e04a-5b2c-4b8e-9c61-3f5a2b7c9d10\",\"numbers\":[1,2,3],"
+			+ "\"text\":\"quote \\\" backslash \\\\ newline \\n tab \\t control \\u0001 line \\u2028\"}");
+	}
+
+	@Test
+	public void validWrittenJsonIsParseable()
+	{
+		ParentBean parent = createParent();
+
+		JSONObject json = new JSONObject(BeanHelper.toJSON(parent));
+
+		Assert.assertEquals(json.getString("text"), parent.text);
+		Assert.assertFalse(json.has("secret"));
+		Assert.assertFalse(json.has("missing"));
+		Assert.assertFalse(json.has("class"));
+		Assert.assertEquals(json.getJSONArray("children").getJSONObject(0).getString("name"), "a");
+	}
+
+	@Test
+	public void validWriteToStream() throws IOException
+	{
+		ChildBean child = createChild("\u00e4\u20ac", 1.0);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		BeanJsonWriter.write(Arrays.asList(child, child), out);
+
+		Assert.assertEquals(out.toString(StandardCharsets.UTF_8), "[{\"name\":\"\u00e4\u20ac\",\"value\":1.0},{\"name\":\"\u00e4\u20ac\",\"value\":1.0}]");
+	}
+
+	@Test
+	public void validWriteSimpleValues()
+	{
+		Assert.assertEquals(BeanJsonWriter.toJSON(null), "null");
+		Assert.assertEquals(BeanJsonWriter.toJSON(JSONObject.NULL), "null");
+		Assert.assertEquals(BeanJsonWriter.toJSON("test"), "\"test\"");
+		Assert.assertEquals(BeanJsonWriter.toJSON(true), "true");
+		Assert.assertEquals(BeanJsonWriter.toJSON(new String[]{"a", null}), "[\"a\",null]");
+		Assert.assertEquals(BeanJsonWriter.toJSON(new JSONArray("[1, {\"a\": 2}]")), "[1,{\"a\":2}]");
+	}
+
+	@Test
+	public void validWriteLargeOutputToWriterInChunks() throws IOException
+	{
+		List<ChildBean> children = new ArrayList<>();
+		for (int i = 0; i < 2000; ++i) {
+			children.add(createChild("child" + i, i));
+		}
+
+		StringWriter writer = new StringWriter();
+		BeanJsonWriter.write(children, writer);
+
+		Assert.assertEquals(writer.toString(), BeanJsonWriter.toJSON(children));
+		Assert.assertEquals(new JSONArray(writer.toString()).length(), 2000);
+	}
+
+	@Test
+	public void validWriteSharedReferences()
+	{
+		ChildBean child = createChild("a", 1.0);
+
+		Assert.assertEquals(BeanJsonWriter.toJSON(List.of(child, child)), "[{\"name\":\"a\",\"value\":1.0},{\"name\":\"a\",\"value\":1.0}]");
+	}
+
+	@Test(expectedExceptions = RuntimeException.class, expectedExceptionsMessageRegExp = "Cyclic reference to .*ParentBean.*")
+	public void invalidWriteCyclicBean()
+	{
+		ParentBean parent = createParent();
+		parent.attributes.put("parent", parent);
+
+		BeanJsonWriter.toJSON(parent);
+	}
+
+	@Test(expectedExceptions = RuntimeException.class, expectedExceptionsMessageRegExp = "Cyclic reference to .*")
+	public void invalidWriteCyclicList()
+	{
+		List<Object> list = new ArrayList<>();
+		list.add(list);
+
+		BeanHelper.toJSON(list);
+	}
+
+	@Test
+	public void validToJSONWritesPublicFields()
+	{
+		CodeBean bean = new CodeBean();
+		bean.code = "a";
+
+		// org.json just used getters
+		Assert.assertEquals(new JSONObject(bean).toString(), "{}");
+		Assert.assertEquals(BeanHelper.toJSON(bean), "{\"code\":\"a\"}");
+	}
+
+	@Test
+	public void validToJSONConvertsValuesWithConversionHelper()
+	{
+		// org.json used toString - java.awt.Color[r=255,g=0,b=0]
+		Assert.assertEquals(BeanHelper.toJSON(List.of(java.awt.Color.RED)), "[\"1.0,0.0,0.0,1.0\"]");
+	}
+
+	@Test
+	public void validToJSONWritesPublicClassesAsBeans()
+	{
+		ConversionHelper.addConverter(CodeBean.class, String.class, (CodeBean value) -> "code " + value.code);
+
+		CodeBean bean = new CodeBean();
+		bean.code = "b";
+
+		// Even with a registered String converter
+		Assert.assertEquals(BeanHelper.toJSON(bean), "{\"code\":\"b\"}");
+	}
+}
@@ -0,0 +1,160 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.beans;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ *
+ * @author Benjamin Schiller
+ */
+public class BeanMapperTest
+{
+
+	public static class SourceBean
+	{
+
+		public String id;
+		public String count;
+		public int number;
+		public List<String> values;
+		public String onlySource;
+		protected String name;
+
+		public String getName()
+		{
+			return name;
+		}
+
+		public void setName(String name)
+		{
+			this.name = name;
+		}
+	}
+
+	public static class TargetBean
+	{
+
+		public UUID id;
+		public int count;
+		public long number;
+		public List<Integer> values;
+		public String onlyTarget;
+		protected String name;
+
+		public String getName()
+		{
+			return name;
+		}
+
+		public void setName(String name)
+		{
+			this.name = name;
+		}
+	}
+
+	public static class IncompatibleBean
+	{
+
+		public SourceBean name;
+	}
+
+	protected static SourceBean createSource()
+	{
+		SourceBean source = new SourceBean();
+		source.id = "b1f7e04a-5b2c-4b8e-9c61-3f5a2b7c9d10";
+		source.count = "42";
+		source.number = 7;
+		source.values = Arrays.asList("1", "2", "3");
+		source.onlySource = "ignored";
+		source.setName("test");
+
+		return source;
+	}
+
+	@Test
+	public void validMapConvertsMatchingProperties() throws InvalidBean
+	{
+		BeanMapper<SourceBean, TargetBean> mapper = new BeanMapper<>(SourceBean.class, TargetBean.class);
+
+		Assert.assertEquals(mapper.getMappedPropertyNames(), List.of("count", "id", "name", "number", "values"));
+
+		TargetBean target = mapper.map(createSource());
+
+		Assert.assertEquals(target.id, UUID.fromString("b1f7e04a-5b2c-4b8e-9c61-3f5a2b7c9d10"));
+		Assert.assertEquals(target.count, 42);
+		Assert.assertEquals(target.number, 7L);
+		Assert.assertEquals(target.values, List.of(1, 2, 3));
+		Assert.assertEquals(target.getName(), "test");
+		Assert.assertNull(target.onlyTarget);
+	}
+
+	@Test
+	public void validCopyIdenticalTypesKeepsInstances() throws InvalidBean
+	{
+		BeanMapper<SourceBean, SourceBean> mapper = new BeanMapper<>(SourceBean.class, SourceBean.class);
+
+		SourceBean source = createSource();
+		SourceBean target = new SourceBean();
+		mapper.copy(source, target);
+
+		Assert.assertSame(target.values, source.values);
+		Assert.assertEquals(target.onlySource, "ignored");
+		Assert.assertEquals(target.getName(), "test");
+	}
+
+	@Test
+	public void validMapAll() throws InvalidBean
+	{
+		BeanMapper<SourceBean, TargetBean> mapper = new BeanMapper<>(SourceBean.class, TargetBean.class);
+
+		List<TargetBean> targets = mapper.mapAll(Arrays.asList(createSource(), null, createSource()));
+
+		Assert.assertEquals(targets.size(), 3);
+		Assert.assertEquals(targets.get(0).count, 42);
+		Assert.assertNull(targets.get(1));
+		Assert.assertEquals(targets.get(2).getName(), "test");
+	}
+
+	@Test(expectedExceptions = InvalidBean.class, expectedExceptionsMessageRegExp = "Error converting property count.*")
+	public void invalidMapUnconvertibleValue() throws InvalidBean
+	{
+		SourceBean source = createSource();
+		source.count = "not a number";
+
+		new BeanMapper<>(SourceBean.class, TargetBean.class).map(source);
+	}
+
+	@Test(expectedExceptions = InvalidBean.class, expectedExceptionsMessageRegExp = "Error mapping property name.*")
+	public void invalidMapperForIncompatibleTypes() throws InvalidBean
+	{
+		new BeanMapper<>(SourceBean.class, IncompatibleBean.class);
+	}
+}
@@ -0,0 +1,165 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.testng.Assert.*;
+import org.testng.annotations.Test;
+
+/**
+ *
+ * @author Benjamin Schiller
+ */
+public class ConversionHelperDateTest
+{
+
+	@Test
+	public void dateFromTimestamp()
+	{
+		assertEquals(ConversionHelper.convert("1717958547123", Date.class), new Date(1717958547123L));
+	}
+
+	@Test
+	public void negativeTimestamps()
+	{
+		assertEquals(ConversionHelper.convert("-1000", Instant.class), Instant.ofEpochMilli(-1000L));
+		assertEquals(ConversionHelper.convert("-1000", Date.class), new Date(-1000L));
+		assertEquals(ConversionHelper.convert("-1000", LocalDateTime.class),
+			LocalDateTime.ofInstant(Instant.ofEpochMilli(-1000L), ZoneId.systemDefault()));
+	}
+
+	@Test
+	public void dateFromUnpaddedDefaultFormat() throws Exception
+	{
+		Date expected = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss:SSS").parse("2022-4-14 1:2:3:4");
+
+		assertEquals(ConversionHelper.convert("2022-4-14 1:2:3:4", Date.class), expected);
+		assertEquals(ConversionHelper.convert("2022-4-14 1:2:3:4", Instant.class), expected.toInstant());
+	}
+
+	@Test
+	public void dateFromDefaultFormat() throws Exception
+	{
+		Date expected = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss:SSS").parse("2022-04-14 10:12:56:789");
+
+		assertEquals(ConversionHelper.convert("2022-04-14 10:12:56:789", Date.class), expected);
+	}
+
+	@Test
+	public void dateFromIsoFormats()
+	{
+		assertEquals(
+			ConversionHelper.convert("2022-04-14T10:12:56.789Z", Date.class),
+			Date.from(Instant.parse("2022-04-14T10:12:56.789Z")));
+		assertEquals(
+			ConversionHelper.convert("2022-04-14", Date.class),
+			Date.from(LocalDateTime.of(2022, 4, 14, 0, 0).atZone(ZoneId.systemDefault()).toInstant()));
+	}
+
+	@Test
+	public void dateFromJdbcTimestamp()
+	{
+		Date converted = ConversionHelper.convert("2022-04-14 10:12:56.123456789", Date.class);
+
+		assertEquals(converted, java.sql.Timestamp.valueOf("2022-04-14 10:12:56.123456789"));
+	}
+
+	@Test(expectedExceptions = RuntimeException.class)
+	public void invalidDateFromString()
+	{
+		ConversionHelper.convert("2022-13-14 10:12:56:789", Date.class);
+	}
+
+	@Test
+	public void instantFromIso()
+	{
+		assertEquals(ConversionHelper.convert("2022-04-14T10:12:56.789Z", Instant.class), Instant.parse("2022-04-14T10:12:56.789Z"));
+	}
+
+	@Test
+	public void localDateTimeFromString()
+	{
+		LocalDateTime expected = LocalDateTime.of(2022, 4, 14, 10, 12, 56, 789_000_000);
+
+		assertEquals(ConversionHelper.convert("2022-04-14 10:12:56:789", LocalDateTime.class), expected);
+		assertEquals(ConversionHelper.convert("2022-04-14T10:12:56.789", LocalDateTime.class), expected);
+		assertEquals(ConversionHelper.convert(expected.toString(), LocalDateTime.class), expected);
+	}
+
+	@Test
+	public void offsetAndZonedDateTimeFromString()
+	{
+		assertEquals(
+			ConversionHelper.convert("2022-04-14T10:12:56+02:00", OffsetDateTime.class),
+			OffsetDateTime.of(2022, 4, 14, 10, 12, 56, 0, ZoneOffset.ofHours(2)));
+		assertEquals(
+			ConversionHelper.convert("2022-04-14T10:12:56+02:00[Europe/Berlin]", ZonedDateTime.class),
+			ZonedDateTime.of(2022, 4, 14, 10, 12, 56, 0, ZoneId.of("Europe/Berlin")));
+	}
+
+	@Test
+	public void concurrentDateConversion() throws Exception
+	{
+		int threads = 8;
+		int iterations = 5000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int t = 0; t < threads; ++t) {
+				int thread = t;
+				results.add(executor.submit(() -> {
+					for (int i = 0; i < iterations; ++i) {
+						int day = 1 + ((thread + i) % 28);
+						int millis = (thread * 31 + i) % 1000;
+						String value = String.format("2022-04-%02d 10:12:56:%03d", day, millis);
+						Date expected = Date.from(LocalDateTime.of(2022, 4, day, 10, 12, 56, millis * 1_000_000).atZone(ZoneId.systemDefault()).toInstant());
+						if (!expected.equals(ConversionHelper.convert(value, Date.class))) {
+							return false;
+						}
+					}
+					return true;
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				assertTrue(result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,122 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import static org.testng.Assert.*;
+import org.testng.annotations.Test;
+
+/**
+ *
+ * @author Benjamin Schiller
+ */
+public class ConversionHelperEnumTest
+{
+
+	public static enum Status
+	{
+		ACTIVE,
+		INACTIVE,
+		Pending,
+		PENDING,
+		DELETED
+		{
+			@Override
+			public String toString()
+			{
+				return "deleted";
+			}
+		}
+	}
+
+	@Test
+	public void convertByName()
+	{
+		assertEquals(ConversionHelper.convert("ACTIVE", Status.class), Status.ACTIVE);
+		assertEquals(ConversionHelper.convertToEnum(new StringBuilder("INACTIVE"), Status.class), Status.INACTIVE);
+		assertNull(ConversionHelper.convertToEnum(null, Status.class));
+	}
+
+	@Test
+	public void convertIgnoringCase()
+	{
+		assertEquals(ConversionHelper.convertToEnum("active", Status.class, true), Status.ACTIVE);
+		assertEquals(ConversionHelper.convertToEnum("Pending", Status.class, true), Status.Pending);
+		assertEquals(ConversionHelper.convertToEnum("PENDING", Status.class, true), Status.PENDING);
+
+		// Ambiguous ignoring case
+		assertNull(ConversionHelper.findEnum("pending", Status.class, true));
+		assertNull(ConversionHelper.findEnum("active", Status.class, false));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidName()
+	{
+		ConversionHelper.convert("UNKNOWN", Status.class);
+	}
+
+	@Test
+	public void convertByOrdinal()
+	{
+		assertEquals(ConversionHelper.convertToEnum(0, Status.class), Status.ACTIVE);
+		assertEquals(ConversionHelper.convertToEnum(4, Status.class), Status.DELETED);
+	}
+
+	@Test
+	public void numbersAreNotMatchedByOrdinal()
+	{
+		assertTrue(ConversionHelper.tryConvert(1, Status.class).isFailure());
+		assertTrue(ConversionHelper.tryConvert(4L, Status.class).isFailure());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void convertNumberFails()
+	{
+		ConversionHelper.convert(1, Status.class);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidOrdinal()
+	{
+		ConversionHelper.convertToEnum(-1, Status.class);
+	}
+
+	@Test
+	public void tryConvertMissHasNoException()
+	{
+		ConversionResult<Status> result = ConversionHelper.tryConvert("UNKNOWN", Status.class);
+
+		assertTrue(result.isFailure());
+		assertTrue(result.cause().isEmpty());
+	}
+
+	@Test
+	public void convertToString()
+	{
+		assertEquals(ConversionHelper.convert(Status.ACTIVE, String.class), "ACTIVE");
+		assertEquals(ConversionHelper.convert(Status.DELETED, String.class), "deleted");
+		assertSame(ConversionHelper.convert(Status.ACTIVE, String.class), ConversionHelper.convert(Status.ACTIVE, String.class));
+	}
+}
@@ -0,0 +1,153 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import static org.testng.Assert.*;
+import org.testng.annotations.Test;
+
+/**
+ *
+ * @author Benjamin Schiller
+ */
+public class ConversionHelperInstrumentationTest
+{
+
+	public static class Unconvertible
+	{
+	}
+
+	public static final class UnconvertibleHandle
+	{
+	}
+
+	@Test
+	public void recordInvocationsAndFailures()
+	{
+		ConversionHelper.enableInstrumentation();
+		try {
+			ConversionHelper.resetConversionStatistics();
+
+			assertEquals((int) ConversionHelper.convert("42", Integer.class), 42);
+			assertEquals((int) ConversionHelper.convert("43", Integer.class), 43);
+			assertTrue(ConversionHelper.tryConvert("nan", Integer.class).isFailure());
+			assertThrows(RuntimeException.class, () -> ConversionHelper.convert("x", Integer.class));
+
+			ConversionStatistics statistics = ConversionHelper.getConversionStatistics(String.class, Integer.class);
+
+			assertEquals(statistics.getInvocations(), 4);
+			assertEquals(statistics.getFailures(), 2);
+			assertEquals(statistics.getFailureRate(), 0.5);
+			assertEquals(statistics.getSourceClass(), String.class);
+			assertEquals(statistics.getTargetClass(), Integer.class);
+
+			long histogramCount = 0;
+			for (long bucket : statistics.getLatencyHistogram()) {
+				histogramCount += bucket;
+			}
+			assertEquals(histogramCount, 4);
+			assertTrue(statistics.getLatencyPercentileNanos(50.0) <= statistics.getMaxNanos());
+			assertTrue(ConversionHelper.getConversionStatistics().stream()
+				.anyMatch(s -> s.getSourceClass() == String.class && s.getTargetClass() == Integer.class));
+		} finally {
+			ConversionHelper.disableInstrumentation();
+		}
+	}
+
+	@Test
+	public void missingConvertersAreRecordedAsFailures()
+	{
+		ConversionHelper.enableInstrumentation();
+		try {
+			ConversionHelper.resetConversionStatistics();
+
+			assertTrue(ConversionHelper.tryConvert(new Unconvertible(), UUID.class).isFailure());
+
+			assertEquals(ConversionHelper.getConversionStatistics(Unconvertible.class, UUID.class).getFailures(), 1);
+		} finally {
+			ConversionHelper.disableInstrumentation();
+		}
+	}
+
+	@Test
+	public void converterForFailsFastOnMissingConverters()
+	{
+		ConversionHelper.enableInstrumentation();
+		try {
+			assertThrows(RuntimeException.class, () -> ConversionHelper.converterFor(UnconvertibleHandle.class, UUID.class));
+		} finally {
+			ConversionHelper.disableInstrumentation();
+		}
+	}
+
+	@Test
+	public void disabledDoesNotRecord()
+	{
+		ConversionHelper.enableInstrumentation();
+		ConversionHelper.convert("1", Long.class);
+		ConversionHelper.disableInstrumentation();
+
+		ConversionHelper.resetConversionStatistics();
+		ConversionHelper.convert("2", Long.class);
+
+		assertFalse(ConversionHelper.isInstrumentationEnabled());
+		assertEquals(ConversionHelper.getConversionStatistics(String.class, Long.class).getInvocations(), 0);
+	}
+
+	@Test
+	public void emitJfrEvents() throws Exception
+	{
+		Path file = Files.createTempFile("conversion", ".jfr");
+
+		ConversionHelper.enableInstrumentation();
+		try (Recording recording = new Recording()) {
+			recording.enable("de.s42.base.conversion.Conversion").withThreshold(Duration.ZERO);
+			recording.start();
+
+			ConversionHelper.convert("1.5", Double.class);
+
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+			assertTrue(events.stream().anyMatch(event
+				-> event.getClass("sourceClass").getName().equals(String.class.getName())
+				&& event.getClass("targetClass").getName().equals(Double.class.getName())
+				&& !event.getBoolean("failed")));
+		} finally {
+			ConversionHelper.disableInstrumentation();
+			Files.deleteIfExists(file);
+		}
+	}
+}
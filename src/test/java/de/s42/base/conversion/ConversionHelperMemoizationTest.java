@@ -0,0 +1,135 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import java.util.regex.Pattern;
+import org.json.JSONObject;
+import static org.testng.Assert.*;
+import org.testng.annotations.Test;
+
+/**
+ *
+ * @author Benjamin Schiller
+ */
+public class ConversionHelperMemoizationTest
+{
+
+	@Test
+	public void memoizedPattern()
+	{
+		ConversionHelper.enableMemoization(String.class, Pattern.class, 16);
+		try {
+			Pattern first = ConversionHelper.convert("[a-z]+", Pattern.class);
+			Pattern second = ConversionHelper.convert("[a-z]+", Pattern.class);
+
+			assertSame(second, first);
+
+			ConversionCacheStatistics statistics = ConversionHelper.getMemoizationStatistics(String.class, Pattern.class);
+			assertEquals(statistics.getHits(), 1);
+			assertEquals(statistics.getMisses(), 1);
+			assertEquals(statistics.getSize(), 1);
+			assertEquals(statistics.getHitRate(), 0.5);
+		} finally {
+			ConversionHelper.disableMemoization(String.class, Pattern.class);
+		}
+
+		assertNull(ConversionHelper.getMemoizationStatistics(String.class, Pattern.class));
+		assertNotSame(ConversionHelper.convert("[a-z]+", Pattern.class), ConversionHelper.convert("[a-z]+", Pattern.class));
+	}
+
+	@Test
+	public void memoizationIsBounded()
+	{
+		ConversionHelper.enableMemoization(String.class, Pattern.class, 4);
+		try {
+			for (int i = 0; i < 100; ++i) {
+				ConversionHelper.convert("a{" + i + "}", Pattern.class);
+			}
+
+			ConversionCacheStatistics statistics = ConversionHelper.getMemoizationStatistics(String.class, Pattern.class);
+			assertTrue(statistics.getSize() <= 4);
+			assertEquals(statistics.getMisses(), 100);
+			assertEquals(statistics.getEvictions(), 96);
+		} finally {
+			ConversionHelper.disableMemoization(String.class, Pattern.class);
+		}
+	}
+
+	@Test
+	public void memoizedMutableResultsAreCopied()
+	{
+		ConversionHelper.enableMemoization(String.class, JSONObject.class, 16);
+		try {
+			JSONObject first = ConversionHelper.convert("{\"a\":1}", JSONObject.class);
+			first.put("b", 2);
+			JSONObject second = ConversionHelper.convert("{\"a\":1}", JSONObject.class);
+
+			assertNotSame(second, first);
+			assertFalse(second.has("b"));
+			assertEquals(second.getInt("a"), 1);
+		} finally {
+			ConversionHelper.disableMemoization(String.class, JSONObject.class);
+		}
+	}
+
+	@Test
+	public void memoizedJsonKeepsNullValues()
+	{
+		String json = "{\"a\":null,\"b\":{\"c\":null},\"d\":[null,1]}";
+		JSONObject uncached = ConversionHelper.convert(json, JSONObject.class);
+
+		ConversionHelper.enableMemoization(String.class, JSONObject.class, 16);
+		try {
+			ConversionHelper.convert(json, JSONObject.class);
+			JSONObject cached = ConversionHelper.convert(json, JSONObject.class);
+
+			assertTrue(cached.similar(uncached));
+			assertSame(cached.get("a"), JSONObject.NULL);
+			assertSame(cached.getJSONObject("b").get("c"), JSONObject.NULL);
+			assertSame(cached.getJSONArray("d").get(0), JSONObject.NULL);
+		} finally {
+			ConversionHelper.disableMemoization(String.class, JSONObject.class);
+		}
+	}
+
+	@Test
+	public void failuresAreNotMemoized()
+	{
+		ConversionHelper.enableMemoization(String.class, Class.class, 16);
+		try {
+			assertTrue(ConversionHelper.tryConvert("de.s42.NoSuchClass", Class.class).isFailure());
+			assertEquals(ConversionHelper.getMemoizationStatistics(String.class, Class.class).getSize(), 0);
+		} finally {
+			ConversionHelper.disableMemoization(String.class, Class.class);
+		}
+	}
+
+	@Test(expectedExceptions = RuntimeException.class)
+	public void invalidMemoizationWithoutConverter()
+	{
+		ConversionHelper.enableMemoization(Pattern.class, Integer.class, 16);
+	}
+}
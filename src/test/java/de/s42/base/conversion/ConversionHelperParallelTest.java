@@ -0,0 +1,120 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import static org.testng.Assert.*;
+import org.testng.annotations.Test;
+
+/**
+ *
+ * @author Benjamin Schiller
+ */
+public class ConversionHelperParallelTest
+{
+
+	private static String[] createValues(int count)
+	{
+		String[] values = new String[count];
+		for (int i = 0; i < count; ++i) {
+			values[i] = Integer.toString(i);
+		}
+		return values;
+	}
+
+	@Test
+	public void convertArrayParallel()
+	{
+		String[] values = createValues(100_000);
+
+		Integer[] result = ConversionHelper.convertArrayParallel(values, Integer.class);
+
+		assertEquals(result.length, values.length);
+		for (int i = 0; i < result.length; ++i) {
+			assertEquals((int) result[i], i);
+		}
+	}
+
+	@Test
+	public void convertListParallel()
+	{
+		List<String> values = new ArrayList<>(List.of(createValues(50_000)));
+		values.set(7, null);
+
+		List<Long> result = ConversionHelper.convertListParallel(values, Long.class);
+
+		assertEquals(result.size(), values.size());
+		assertNull(result.get(7));
+		assertEquals(result.get(49_999), 49_999L);
+
+		// Result is mutable like the one of convertList
+		result.add(1L);
+	}
+
+	@Test
+	public void convertSetParallel()
+	{
+		Set<Integer> result = ConversionHelper.convertSetParallel(createValues(20_000), Integer.class);
+
+		assertEquals(result.size(), 20_000);
+		assertTrue(result.contains(19_999));
+	}
+
+	@Test
+	public void convertBelowThreshold()
+	{
+		Integer[] result = ConversionHelper.convertArrayParallel(new String[]{"1", "2"}, Integer.class);
+
+		assertEquals(result, new Integer[]{1, 2});
+	}
+
+	@Test
+	public void failureReportsLowestIndex()
+	{
+		String[] values = createValues(200_000);
+		values[150_000] = "invalid";
+		values[60_123] = "invalid";
+		values[199_999] = "invalid";
+
+		try {
+			ConversionHelper.convertArrayParallel(values, Integer.class);
+			fail("Expected failure");
+		} catch (RuntimeException ex) {
+			assertTrue(ex.getMessage().startsWith("Error converting element 60123 - "), ex.getMessage());
+		}
+	}
+
+	@Test(expectedExceptions = RuntimeException.class)
+	public void invalidDuplicateInSet()
+	{
+		String[] values = createValues(20_000);
+		values[10] = "11";
+
+		ConversionHelper.convertSetParallel(values, Integer.class);
+	}
+}
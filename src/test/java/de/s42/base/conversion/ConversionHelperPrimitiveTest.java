@@ -0,0 +1,176 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import java.math.BigDecimal;
+import static org.testng.Assert.*;
+import org.testng.annotations.Test;
+
+/**
+ *
+ * @author Benjamin Schiller
+ */
+public class ConversionHelperPrimitiveTest
+{
+
+	@Test
+	public void intFromValues()
+	{
+		assertEquals(ConversionHelper.convertToInt("42"), 42);
+		assertEquals(ConversionHelper.convertToInt(42L), 42);
+		assertEquals(ConversionHelper.convertToInt(42.7), 42);
+		assertEquals(ConversionHelper.convertToInt(new BigDecimal("42")), 42);
+		assertEquals(ConversionHelper.convertToInt(null, 7), 7);
+	}
+
+	@Test
+	public void intFromCharSequenceRange()
+	{
+		assertEquals(ConversionHelper.convertToInt("a;-123;b", 2, 6), -123);
+	}
+
+	@Test(expectedExceptions = RuntimeException.class)
+	public void invalidIntFromNull()
+	{
+		ConversionHelper.convertToInt(null);
+	}
+
+	@Test(expectedExceptions = RuntimeException.class)
+	public void invalidIntFromString()
+	{
+		ConversionHelper.convertToInt("4x2");
+	}
+
+	@Test
+	public void longFromValues()
+	{
+		assertEquals(ConversionHelper.convertToLong("1717958547123"), 1717958547123L);
+		assertEquals(ConversionHelper.convertToLong(42), 42L);
+		assertEquals(ConversionHelper.convertToLong(new StringBuilder("x1717958547123x"), 1, 14), 1717958547123L);
+	}
+
+	@Test
+	public void doubleFromValues()
+	{
+		assertEquals(ConversionHelper.convertToDouble("42.5"), 42.5);
+		assertEquals(ConversionHelper.convertToDouble(42), 42.0);
+		assertEquals(ConversionHelper.convertToDouble(2.5f), 2.5);
+	}
+
+	@Test
+	public void doubleFromCharSequenceRange()
+	{
+		String[] values = {
+			"0", "-0", "1.5", "-12.345", "0.1", "0.0001", "123456789.125", "1e10", "1.5E-3", "-2.5e+2", ".5", "5.",
+			"9007199254740993", "1234567890123456789012", "1e300", "4.9e-324", "NaN", "-Infinity", " 1.25 ", "1.0d"
+		};
+
+		for (String value : values) {
+			String wrapped = "[" + value + "]";
+			assertEquals(ConversionHelper.convertToDouble(wrapped, 1, wrapped.length() - 1), Double.parseDouble(value), value);
+		}
+	}
+
+	@Test(expectedExceptions = NumberFormatException.class)
+	public void invalidDoubleFromCharSequenceRange()
+	{
+		ConversionHelper.convertToDouble("1.2.3", 0, 5);
+	}
+
+	@Test
+	public void booleanFromValues()
+	{
+		assertTrue(ConversionHelper.convertToBoolean("TRUE"));
+		assertFalse(ConversionHelper.convertToBoolean(Boolean.FALSE));
+		assertTrue(ConversionHelper.convertToBoolean("x,true,y", 2, 6));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidBooleanFromCharSequenceRange()
+	{
+		ConversionHelper.convertToBoolean("yes", 0, 3);
+	}
+
+	@Test
+	public void primitiveArraysFromString()
+	{
+		assertEquals(ConversionHelper.convert("1,2, 3", int[].class), new int[]{1, 2, 3});
+		assertEquals(ConversionHelper.convert("1, -2 ,3", long[].class), new long[]{1L, -2L, 3L});
+		assertEquals(ConversionHelper.convert("1.5,2,-3e2", double[].class), new double[]{1.5, 2.0, -300.0});
+		assertEquals(ConversionHelper.convert("1.5, 2", float[].class), new float[]{1.5f, 2.0f});
+		assertEquals(ConversionHelper.convert("1,-128,127", byte[].class), new byte[]{1, -128, 127});
+		assertEquals(ConversionHelper.convert("true, FALSE", boolean[].class), new boolean[]{true, false});
+		assertEquals(ConversionHelper.convert("", int[].class), new int[0]);
+	}
+
+	@Test
+	public void trailingSeparatorsLikeBoxedArrays()
+	{
+		assertEquals(ConversionHelper.convert("1,2,", int[].class), new int[]{1, 2});
+		assertEquals(ConversionHelper.convert("1,2,", Integer[].class), new Integer[]{1, 2});
+		assertEquals(ConversionHelper.convert("1.5,,", double[].class), new double[]{1.5});
+		assertEquals(ConversionHelper.convert("1.5,,", Double[].class), new Double[]{1.5});
+		assertEquals(ConversionHelper.convert(",", int[].class), new int[0]);
+		assertEquals(ConversionHelper.convert(",", Integer[].class), new Integer[0]);
+	}
+
+	@Test(expectedExceptions = NumberFormatException.class)
+	public void invalidByteArrayFromString()
+	{
+		ConversionHelper.convert("1,128", byte[].class);
+	}
+
+	@Test
+	public void primitiveArraysFromBoxedArrays()
+	{
+		assertEquals(ConversionHelper.convert(new Integer[]{1, 2, 3}, int[].class), new int[]{1, 2, 3});
+		assertEquals(ConversionHelper.convert(new Object[]{1, 2L, "3"}, long[].class), new long[]{1L, 2L, 3L});
+		assertEquals(ConversionHelper.convert(new Double[]{1.5, 2.5}, double[].class), new double[]{1.5, 2.5});
+	}
+
+	@Test(expectedExceptions = RuntimeException.class)
+	public void invalidPrimitiveArrayFromNullElement()
+	{
+		ConversionHelper.convert(new Integer[]{1, null}, int[].class);
+	}
+
+	@Test
+	public void primitiveArraysWidening()
+	{
+		assertEquals(ConversionHelper.convert(new int[]{1, 2}, long[].class), new long[]{1L, 2L});
+		assertEquals(ConversionHelper.convert(new int[]{1, 2}, double[].class), new double[]{1.0, 2.0});
+		assertEquals(ConversionHelper.convert(new byte[]{1, 2}, int[].class), new int[]{1, 2});
+		assertEquals(ConversionHelper.convert(new float[]{1.5f}, double[].class), new double[]{1.5});
+	}
+
+	@Test
+	public void boxedArraysFromPrimitiveArrays()
+	{
+		assertEquals(ConversionHelper.convert(new int[]{1, 2}, Integer[].class), new Integer[]{1, 2});
+		assertEquals(ConversionHelper.convert(new int[]{1, 2}, String[].class), new String[]{"1", "2"});
+		assertEquals(ConversionHelper.convert(new long[]{1L, 2L}, String.class), "1, 2");
+	}
+}
@@ -25,10 +25,18 @@
 //</editor-fold>
 package de.s42.base.conversion;
 
-import java.text.ParseException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -63,12 +71,12 @@ public class ConversionHelperTest
 	}
 
 	@Test
-	public void validStringToDate() throws ParseException
+	public void validStringToDate()
 	{
 		Assert.assertEquals(ConversionHelper.convert("12222222222", Date.class), new Date(12222222222L));
 		Assert.assertEquals(
 			ConversionHelper.convert("2022-04-14 10:12:56:000", Date.class),
-			ConversionHelper.DATE_FORMAT.parse("2022-04-14 10:12:56:000"));
+			Date.from(LocalDateTime.parse("2022-04-14 10:12:56:000", ConversionHelper.DATE_FORMATTER).atZone(ZoneId.systemDefault()).toInstant()));
 	}
 
 	@Test
@@ -103,4 +111,191 @@ public class ConversionHelperTest
 		Object[] source = {1.1f, 2.2f, 1.1f};
 		ConversionHelper.convertSet(source, Float.class);
 	}
+
+	public static class CustomValue
+	{
+
+		protected final String value;
+
+		public CustomValue(String value)
+		{
+			this.value = value;
+		}
+	}
+
+	@Test
+	public void validAddConverter()
+	{
+		ConversionHelper.addConverter(CustomValue.class, Integer.class, (CustomValue value) -> {
+			return Integer.valueOf(value.value);
+		});
+
+		Assert.assertTrue(ConversionHelper.canConvert(CustomValue.class, Integer.class));
+		Assert.assertEquals(ConversionHelper.convert(new CustomValue("42"), Integer.class), (Integer) 42);
+	}
+
+	@Test(expectedExceptions = RuntimeException.class)
+	public void invalidAddConverterAlreadyMapped()
+	{
+		ConversionHelper.addConverter(String.class, Integer.class, (String value) -> {
+			return 0;
+		});
+	}
+
+	@Test
+	public void validConcurrentConvert() throws Exception
+	{
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Long>> results = new ArrayList<>();
+			for (int t = 0; t < threads; ++t) {
+				results.add(executor.submit(() -> {
+					long sum = 0;
+					for (int i = 0; i < 10000; ++i) {
+						sum += ConversionHelper.convert(Integer.toString(i), Long.class);
+					}
+					return sum;
+				}));
+			}
+			for (Future<Long> result : results) {
+				Assert.assertEquals((long) result.get(), 49995000L);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void validConverterFor()
+	{
+		Converter<String, Integer> converter = ConversionHelper.converterFor(String.class, Integer.class);
+
+		Assert.assertEquals(converter.convert("42"), (Integer) 42);
+		Assert.assertNull(converter.convert(null));
+	}
+
+	@Test
+	public void validConverterForDispatchesOnValueClass()
+	{
+		Converter<Object, Long> converter = ConversionHelper.converterFor(Object.class, Long.class);
+
+		Assert.assertEquals(converter.convert("42"), (Long) 42L);
+		Assert.assertEquals(converter.convert(42), (Long) 42L);
+		Assert.assertEquals(converter.convert(42L), (Long) 42L);
+	}
+
+	@Test
+	public void validConverterForArray()
+	{
+		Converter<String, Integer[]> converter = ConversionHelper.converterFor(String.class, Integer[].class);
+
+		Assert.assertEquals(converter.convert("1, 2, 3"), new Integer[]{1, 2, 3});
+	}
+
+	@Test
+	public void validConverterForGenericType()
+	{
+		Converter<Object, List<Integer>> converter = ConversionHelper.converterFor(Object.class, ConversionHelper.parameterizedType(List.class, Integer.class));
+
+		Assert.assertEquals(converter.convert(List.of("1", "2")), List.of(1, 2));
+		Assert.assertEquals(converter.convert("[3, 4]"), List.of(3, 4));
+		Assert.assertNull(converter.convert(null));
+	}
+
+	@Test(expectedExceptions = RuntimeException.class)
+	public void invalidConverterForUnmappedFinalClass()
+	{
+		ConversionHelper.converterFor(UUID.class, Integer.class);
+	}
+
+	@Test
+	public void validChainedConversion()
+	{
+		Assert.assertFalse(ConversionHelper.canConvert(Integer.class, UUID.class));
+		Assert.assertTrue(ConversionHelper.canConvert(Integer.class, Instant.class));
+		Assert.assertEquals(ConversionHelper.convert(1717958547, Instant.class), Instant.ofEpochMilli(1717958547L));
+	}
+
+	@Test
+	public void invalidChainedNarrowingConversion()
+	{
+		Assert.assertFalse(ConversionHelper.canConvert(String.class, Byte.class));
+		Assert.assertFalse(ConversionHelper.canConvert(String.class, Short.class));
+		Assert.assertFalse(ConversionHelper.canConvert(Instant.class, Integer.class));
+		Assert.assertFalse(ConversionHelper.canConvert(BigDecimal.class, Instant.class));
+		Assert.assertFalse(ConversionHelper.canConvert(Double.class, Instant.class));
+
+		Assert.assertTrue(ConversionHelper.tryConvert("300", Byte.class).isFailure());
+		Assert.assertTrue(ConversionHelper.tryConvert("70000", Short.class).isFailure());
+		Assert.assertTrue(ConversionHelper.tryConvert(Instant.ofEpochMilli(5_000_000_000L), Integer.class).isFailure());
+		Assert.assertTrue(ConversionHelper.tryConvert(new BigDecimal("12.9"), Instant.class).isFailure());
+		Assert.assertTrue(ConversionHelper.tryConvert(1.9e3, Instant.class).isFailure());
+	}
+
+	public static class ChainStart
+	{
+	}
+
+	public static class ChainMiddle
+	{
+	}
+
+	public static class ChainEnd
+	{
+	}
+
+	@Test
+	public void validChainInvalidatedByAddConverter()
+	{
+		ConversionHelper.addConverter(ChainStart.class, ChainMiddle.class, (ChainStart value) -> {
+			return new ChainMiddle();
+		});
+
+		Assert.assertFalse(ConversionHelper.canConvert(ChainStart.class, ChainEnd.class));
+
+		ConversionHelper.addConverter(ChainMiddle.class, ChainEnd.class, (ChainMiddle value) -> {
+			return new ChainEnd();
+		});
+
+		Assert.assertTrue(ConversionHelper.canConvert(ChainStart.class, ChainEnd.class));
+		Assert.assertEquals(ConversionHelper.convert(new ChainStart(), ChainEnd.class).getClass(), ChainEnd.class);
+	}
+
+	@Test
+	public void validConvertUsingSuperClassConverter()
+	{
+		java.sql.Timestamp timestamp = new java.sql.Timestamp(1717958547123L);
+
+		Assert.assertTrue(ConversionHelper.canConvert(java.sql.Timestamp.class, Long.class));
+		Assert.assertEquals(ConversionHelper.convert(timestamp, Long.class), (Long) 1717958547123L);
+	}
+
+	@Test
+	public void validConvertUsingInterfaceConverter()
+	{
+		Object[] converted = ConversionHelper.convert(new ArrayList<>(List.of(1, 2)), Object[].class);
+
+		Assert.assertEquals(converted, new Object[]{1, 2});
+	}
+
+	@Test
+	public void invalidConvertIsCachedAsMiss()
+	{
+		Assert.assertFalse(ConversionHelper.canConvert(UUID.class, Long.class));
+		Assert.assertFalse(ConversionHelper.canConvert(UUID.class, Long.class));
+
+		String message = null;
+		for (int i = 0; i < 2; ++i) {
+			try {
+				ConversionHelper.convert(UUID.randomUUID(), Long.class);
+				Assert.fail("Conversion should fail");
+			} catch (RuntimeException ex) {
+				if (message != null) {
+					Assert.assertSame(ex.getMessage(), message);
+				}
+				message = ex.getMessage();
+			}
+		}
+	}
 }
@@ -0,0 +1,135 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import de.s42.base.functional.Either;
+import java.util.UUID;
+import static org.testng.Assert.*;
+import org.testng.annotations.Test;
+
+/**
+ *
+ * @author Benjamin Schiller
+ */
+public class ConversionHelperTryConvertTest
+{
+
+	@Test
+	public void tryConvertValid()
+	{
+		ConversionResult<Integer> result = ConversionHelper.tryConvert("42", Integer.class);
+
+		assertTrue(result.isSuccess());
+		assertEquals(result.getOrThrow(), 42);
+		assertEquals(ConversionHelper.tryConvert("1.5", double.class).getOrThrow(), 1.5);
+		assertEquals(ConversionHelper.tryConvert("TRUE", Boolean.class).getOrThrow(), true);
+	}
+
+	@Test
+	public void tryConvertNull()
+	{
+		ConversionResult<Integer> result = ConversionHelper.tryConvert(null, Integer.class);
+
+		assertTrue(result.isSuccess());
+		assertNull(result.getOrThrow());
+		assertNull(result.orElse(7));
+		assertEquals(ConversionHelper.tryConvert("4x2", Integer.class).orElse(7), (Integer) 7);
+	}
+
+	@Test
+	public void tryConvertInvalidNumberHasNoException()
+	{
+		ConversionResult<Integer> result = ConversionHelper.tryConvert("4x2", Integer.class);
+
+		assertTrue(result.isFailure());
+		assertTrue(result.cause().isEmpty());
+		assertTrue(result.getFailure().contains("java.lang.String to java.lang.Integer"));
+
+		// Out of range is rejected by the validator as well
+		assertTrue(ConversionHelper.tryConvert("2147483648", int.class).isFailure());
+		assertEquals(ConversionHelper.tryConvert("-2147483648", int.class).getOrThrow(), Integer.MIN_VALUE);
+		assertTrue(ConversionHelper.tryConvert("9223372036854775808", long.class).isFailure());
+		assertEquals(ConversionHelper.tryConvert("9223372036854775807", long.class).getOrThrow(), Long.MAX_VALUE);
+	}
+
+	@Test
+	public void tryConvertMissingConverter()
+	{
+		ConversionResult<Integer> result = ConversionHelper.tryConvert(UUID.randomUUID(), Integer.class);
+
+		assertTrue(result.isFailure());
+		assertTrue(result.cause().isEmpty());
+		assertSame(ConversionHelper.tryConvert(UUID.randomUUID(), Integer.class), result);
+	}
+
+	@Test
+	public void tryConvertFailingConverterKeepsCause()
+	{
+		ConversionResult<Class> result = ConversionHelper.tryConvert("de.s42.NoSuchClass", Class.class);
+
+		assertTrue(result.isFailure());
+		assertTrue(result.cause().isPresent());
+	}
+
+	@Test(expectedExceptions = RuntimeException.class)
+	public void getOrThrowFailure()
+	{
+		ConversionHelper.tryConvert("4x2", Integer.class).getOrThrow();
+	}
+
+	@Test
+	public void tryConvertToEither()
+	{
+		Either<Integer, String> valid = ConversionHelper.tryConvert("42", Integer.class).toEither();
+		Either<Integer, String> invalid = ConversionHelper.tryConvert("4x2", Integer.class).toEither();
+
+		assertEquals(valid.first().orElseThrow(), 42);
+		assertTrue(invalid.isSecond());
+	}
+
+	@Test
+	public void validatorsMatchParsers()
+	{
+		String[] values = {"0", "-0", "+1", "007", "1.", ".5", "1e5", "1E-5", "1.5f", "2D", " 3 ", "NaN", "-Infinity", "0x1p3",
+			"", "-", ".", "e5", "1e", "1.5.5", "1,5", "abc", "1 2", "99999999999", "-9223372036854775809"};
+
+		for (String value : values) {
+			assertEquals(ParseHelper.isInt(value), parses(() -> Integer.parseInt(value)), value);
+			assertEquals(ParseHelper.isLong(value), parses(() -> Long.parseLong(value)), value);
+			assertEquals(ParseHelper.isDouble(value), parses(() -> Double.parseDouble(value)), value);
+		}
+	}
+
+	private static boolean parses(Runnable parser)
+	{
+		try {
+			parser.run();
+			return true;
+		} catch (NumberFormatException ex) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import org.json.JSONArray;
+import static org.testng.Assert.*;
+import org.testng.annotations.Test;
+
+/**
+ *
+ * @author Benjamin Schiller
+ */
+public class ConversionHelperTypeTest
+{
+
+	public List<Map<String, List<Long>>> nested;
+
+	@Test
+	public void convertJsonToTypedList()
+	{
+		Type type = ConversionHelper.parameterizedType(List.class, Integer.class);
+
+		List<Integer> result = ConversionHelper.convert("[1, 2, \"3\", null]", type);
+
+		assertEquals(result, Arrays.asList(1, 2, 3, null));
+	}
+
+	@Test
+	public void convertJsonToTypedMap()
+	{
+		UUID id = UUID.randomUUID();
+		Type type = ConversionHelper.parameterizedType(Map.class, String.class, UUID.class);
+
+		Map<String, UUID> result = ConversionHelper.convert("{\"id\": \"" + id + "\"}", type);
+
+		assertEquals(result, Map.of("id", id));
+	}
+
+	@Test
+	public void convertJsonToNestedType() throws Exception
+	{
+		Type type = getClass().getField("nested").getGenericType();
+
+		List<Map<String, List<Long>>> result = ConversionHelper.convert("[{\"a\": [1, 2]}, {\"b\": []}]", type);
+
+		assertEquals(result, List.of(Map.of("a", List.of(1L, 2L)), Map.of("b", List.of())));
+		assertEquals(type, ConversionHelper.parameterizedType(List.class,
+			ConversionHelper.parameterizedType(Map.class, String.class,
+				ConversionHelper.parameterizedType(List.class, Long.class))));
+	}
+
+	@Test
+	public void convertCollectionsElementWise()
+	{
+		Set<Integer> result = ConversionHelper.convert(new String[]{"3", "1", "2"}, ConversionHelper.parameterizedType(TreeSet.class, Integer.class));
+
+		assertEquals(result.getClass(), TreeSet.class);
+		assertEquals(result, Set.of(1, 2, 3));
+
+		List<String> strings = ConversionHelper.convert(new JSONArray("[1, true]"), ConversionHelper.parameterizedType(List.class, String.class));
+
+		assertEquals(strings, List.of("1", "true"));
+	}
+
+	@Test
+	public void matchingValueRemainsUnchanged()
+	{
+		List<Integer> value = List.of(1, 2);
+
+		assertSame(ConversionHelper.convert(value, ConversionHelper.parameterizedType(List.class, Integer.class)), value);
+		assertNotSame(ConversionHelper.convert(value, ConversionHelper.parameterizedType(List.class, Long.class)), value);
+	}
+
+	@Test
+	public void convertJsonToTypedArray()
+	{
+		Map<String, int[]> result = ConversionHelper.convert("{\"a\": [1, 2, 3]}", ConversionHelper.parameterizedType(Map.class, String.class, int[].class));
+
+		assertEquals(result.get("a"), new int[]{1, 2, 3});
+	}
+
+	@Test(expectedExceptions = RuntimeException.class)
+	public void invalidJson()
+	{
+		ConversionHelper.convert("[1, 2", ConversionHelper.parameterizedType(List.class, Integer.class));
+	}
+
+	@Test(expectedExceptions = RuntimeException.class)
+	public void invalidElement()
+	{
+		ConversionHelper.convert("[1, \"x\"]", ConversionHelper.parameterizedType(List.class, Integer.class));
+	}
+}
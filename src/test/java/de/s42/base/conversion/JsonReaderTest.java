@@ -0,0 +1,314 @@
+// <editor-fold desc="The MIT License" defaultstate="collapsed">
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Studio 42 GmbH ( https://www.s42m.de ).
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+//</editor-fold>
+package de.s42.base.conversion;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import static org.testng.Assert.*;
+import org.testng.annotations.Test;
+
+/**
+ *
+ * @author Benjamin Schiller
+ */
+public class JsonReaderTest
+{
+
+	public static class Point
+	{
+
+		public int x;
+		public int y;
+	}
+
+	public static class Shape
+	{
+
+		protected String name;
+		protected List<Point> points;
+		public Point center;
+
+		public String getName()
+		{
+			return name;
+		}
+
+		public void setName(String name)
+		{
+			this.name = name;
+		}
+
+		public List<Point> getPoints()
+		{
+			return points;
+		}
+
+		public void setPoints(List<Point> points)
+		{
+			this.points = points;
+		}
+	}
+
+	public static class Node
+	{
+
+		public String name;
+		public Node parent;
+		public Node[] children;
+	}
+
+	/**
+	 * Returns a single char per read to cross the buffer boundaries everywhere.
+	 */
+	protected static Reader slowReader(String json)
+	{
+		return new FilterReader(new StringReader(json))
+		{
+			@Override
+			public int read(char[] buffer, int offset, int length) throws IOException
+			{
+				return super.read(buffer, offset, Math.min(1, length));
+			}
+		};
+	}
+
+	@Test
+	public void readTokensFromSlowReader()
+	{
+		JsonReader reader = new JsonReader(slowReader(" {\"a\": [1, -2.5e1, true, null, \"x\\\"y\\u0041\"], \"b\": 12345678901}"));
+
+		reader.beginObject();
+		assertEquals(reader.nextName(), "a");
+		reader.beginArray();
+		assertEquals(reader.nextInt(), 1);
+		assertEquals(reader.nextDouble(), -25.0);
+		assertTrue(reader.nextBoolean());
+		reader.nextNull();
+		assertEquals(reader.nextString(), "x\"yA");
+		assertFalse(reader.hasNext());
+		reader.endArray();
+		assertEquals(reader.nextName(), "b");
+		assertEquals(reader.nextLong(), 12345678901L);
+		reader.endObject();
+		reader.endDocument();
+	}
+
+	@Test
+	public void readFloatsWithoutDoubleRounding()
+	{
+		// Just above the midpoint of 1 and the next float - as double it is exactly the midpoint
+		String value = "1.0000000596046447753906251";
+		JsonReader reader = new JsonReader("[" + value + ", \"" + value + "\"]");
+
+		reader.beginArray();
+		assertEquals(reader.nextFloat(), Math.nextUp(1.0f));
+		assertEquals(reader.nextFloat(), Math.nextUp(1.0f));
+		reader.endArray();
+
+		List<Float> result = ConversionHelper.convert("[" + value + "]", ConversionHelper.parameterizedType(List.class, Float.class));
+		assertEquals(result, List.of(Math.nextUp(1.0f)));
+	}
+
+	@Test(expectedExceptions = RuntimeException.class)
+	public void readFloatRejectsNonJsonNumbers()
+	{
+		new JsonReader("\"NaN\"").nextFloat();
+	}
+
+	@Test
+	public void readValuesLikeOrgJson()
+	{
+		Object value = new JsonReader("{\"i\": 1, \"l\": 12345678901, \"d\": 1.5, \"n\": null, \"s\": [\"a\"]}").nextValue();
+
+		Map<?, ?> map = (Map<?, ?>) value;
+		assertEquals(map.get("i"), 1);
+		assertEquals(map.get("l"), 12345678901L);
+		assertEquals(map.get("d"), new BigDecimal("1.5"));
+		assertNull(map.get("n"));
+		assertTrue(map.containsKey("n"));
+		assertEquals(map.get("s"), List.of("a"));
+	}
+
+	@Test
+	public void readLongStringsBeyondBuffer()
+	{
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 20000; ++i) {
+			expected.append((char) ('a' + (i % 26)));
+			if (i % 1000 == 0) {
+				expected.append('\n');
+			}
+		}
+
+		String json = "[\"" + expected.toString().replace("\n", "\\n") + "\", 1]";
+
+		JsonReader reader = new JsonReader(new StringReader(json));
+		reader.beginArray();
+		assertEquals(reader.nextString(), expected.toString());
+		assertEquals(reader.nextInt(), 1);
+		reader.endArray();
+		reader.endDocument();
+	}
+
+	@Test
+	public void readUtf8Stream()
+	{
+		byte[] json = "[\"äöü€\"]".getBytes(StandardCharsets.UTF_8);
+
+		List<String> result = ConversionHelper.readJson(new ByteArrayInputStream(json), ConversionHelper.parameterizedType(List.class, String.class));
+
+		assertEquals(result, List.of("äöü€"));
+	}
+
+	@Test
+	public void skipNestedValues()
+	{
+		JsonReader reader = new JsonReader(slowReader("{\"skip\": {\"a\": [1, {\"b\": \"}\"}]}, \"keep\": 2}"));
+
+		reader.beginObject();
+		assertEquals(reader.nextName(), "skip");
+		reader.skipValue();
+		assertEquals(reader.nextName(), "keep");
+		assertEquals(reader.nextInt(), 2);
+		reader.endObject();
+		reader.endDocument();
+	}
+
+	@Test
+	public void readBeanFromReader()
+	{
+		String json = "{\"name\": \"triangle\", \"unknown\": {\"a\": [1]}, \"center\": {\"x\": 1, \"y\": \"2\"}, "
+			+ "\"points\": [{\"x\": 0, \"y\": 0}, {\"x\": 2, \"y\": 0}, {\"x\": 1, \"y\": 4}]}";
+
+		Shape shape = ConversionHelper.readJson(slowReader(json), Shape.class);
+
+		assertEquals(shape.getName(), "triangle");
+		assertEquals(shape.center.x, 1);
+		assertEquals(shape.center.y, 2);
+		assertEquals(shape.getPoints().size(), 3);
+		assertEquals(shape.getPoints().get(2).y, 4);
+	}
+
+	@Test
+	public void readListOfBeans()
+	{
+		List<Point> points = ConversionHelper.readJson("[{\"x\": 1}, null, {\"y\": 3}]", ConversionHelper.parameterizedType(List.class, Point.class));
+
+		List<Point> expected = new ArrayList<>(points);
+		assertEquals(expected.size(), 3);
+		assertEquals(expected.get(0).x, 1);
+		assertNull(expected.get(1));
+		assertEquals(expected.get(2).y, 3);
+	}
+
+	@Test
+	public void convertJsonStringToMapWithoutDom()
+	{
+		Map result = ConversionHelper.convert("{\"a\": {\"b\": [1, 2.5]}}", Map.class);
+
+		assertEquals(result, Map.of("a", Map.of("b", List.of(1, new BigDecimal("2.5")))));
+	}
+
+	@Test
+	public void readNamesByIndex()
+	{
+		JsonNames names = new JsonNames("alpha", "beta", "g\"amma");
+		String json = "{\"beta\": 1, \"unknown\": 2, \"alpha\": 3, \"g\\\"amma\": 4, \"\\u0061lpha\": 5}";
+
+		for (JsonReader reader : List.of(new JsonReader(json), new JsonReader(slowReader(json)))) {
+			reader.beginObject();
+			assertEquals(reader.nextName(names), 1);
+			assertEquals(reader.nextInt(), 1);
+			assertEquals(reader.nextName(names), -1);
+			reader.skipValue();
+			assertEquals(reader.nextName(names), 0);
+			assertEquals(reader.nextInt(), 3);
+			assertEquals(reader.nextName(names), 2);
+			assertEquals(reader.nextInt(), 4);
+			assertEquals(reader.nextName(names), 0);
+			assertEquals(reader.nextInt(), 5);
+			reader.endObject();
+			reader.endDocument();
+		}
+
+		assertEquals(names.indexOf("g\"amma"), 2);
+		assertEquals(names.indexOf("gamma"), -1);
+	}
+
+	@Test
+	public void readRecursiveBeanArray()
+	{
+		Node[] nodes = ConversionHelper.readJson("[{\"name\": \"a\", \"children\": [{\"name\": \"b\", \"parent\": {\"name\": \"c\"}}]}, null]", Node[].class);
+
+		assertEquals(nodes.length, 2);
+		assertEquals(nodes[0].name, "a");
+		assertEquals(nodes[0].children[0].name, "b");
+		assertEquals(nodes[0].children[0].parent.name, "c");
+		assertNull(nodes[1]);
+	}
+
+	@Test
+	public void readJsonArrayElementByElement()
+	{
+		List<Point> points = new ArrayList<>();
+
+		long count = ConversionHelper.<Point>readJsonArray(slowReader("[{\"x\": 1, \"y\": 2}, {\"x\": 3}]"), Point.class, points::add);
+
+		assertEquals(count, 2);
+		assertEquals(points.get(0).y, 2);
+		assertEquals(points.get(1).x, 3);
+	}
+
+	@Test
+	public void convertMapsToBeans()
+	{
+		List<Shape> shapes = ConversionHelper.convert(List.of(Map.of("name", "square", "center", Map.of("x", "5"))), ConversionHelper.parameterizedType(List.class, Shape.class));
+		Shape shape = shapes.get(0);
+
+		assertEquals(shape.getName(), "square");
+		assertEquals(shape.center.x, 5);
+	}
+
+	@Test(expectedExceptions = RuntimeException.class, expectedExceptionsMessageRegExp = "Expected , or \\] at position 6")
+	public void invalidDocumentReportsPosition()
+	{
+		new JsonReader(slowReader("[1, 2 3]")).nextValue();
+	}
+
+	@Test(expectedExceptions = RuntimeException.class)
+	public void trailingContentFails()
+	{
+		ConversionHelper.readJson("[1] [2]", ConversionHelper.parameterizedType(List.class, Integer.class));
+	}
+}